@@ -25,6 +25,7 @@ import static uk.gov.hmcts.juror.standard.datastore.entity.auth.UserPermissionCo
 import static uk.gov.hmcts.juror.standard.testsupport.DataUtilIT.assignPermissionsRequest;
 import static uk.gov.hmcts.juror.standard.testsupport.DataUtilIT.loginRequest;
 import static uk.gov.hmcts.juror.standard.testsupport.DataUtilIT.registerRequest;
+import static uk.gov.hmcts.juror.standard.testsupport.DataUtilIT.removePermissionsRequest;
 import static uk.gov.hmcts.juror.standard.testsupport.DataUtilIT.resetPasswordRequest;
 import static uk.gov.hmcts.juror.standard.testsupport.DataUtilIT.userEmailRequest;
 import static uk.gov.hmcts.juror.standard.testsupport.ITestUtil.dynamicEmailGenerator;
@@ -417,6 +418,53 @@ class AuthenticationITest extends AbstractITest {
             .andExpect(status().isAccepted());
     }
 
+    @DisplayName("Permissions: Admin user removes then re-adds an existing role and permission - is accepted")
+    @Test
+    void adminUserRemovesAndReAddsRoleAndPermission() throws Exception {
+        String jwtAdmin = generateJwt(loginRequest(ADMIN_EMAIL, ADMIN_PASSWORD_ENCRYPTED));
+
+        //Register user
+        String userEmail = dynamicEmailGenerator(getNextUniqueIndex());
+        mockMvcPerform(URL_AUTH_REGISTER, jwtAdmin, POST, registerRequest(userEmail, USER_PASSWORD))
+            .andExpect(status().isCreated());
+
+        //Grant user a role and a permission that each allow viewing own details
+        Set<String> permissionSet = Set.of(VIEW_SELF);
+        mockMvcPerform(URL_AUTH_USER_PERMISSIONS, jwtAdmin, PUT,
+            assignPermissionsRequest(permissionSet, "USER", userEmail))
+            .andExpect(status().isAccepted());
+
+        //Remove both again
+        mockMvcPerform(URL_AUTH_USER_PERMISSIONS, jwtAdmin, PUT,
+            removePermissionsRequest(permissionSet, "USER", userEmail))
+            .andExpect(status().isAccepted());
+
+        MvcResult mvcResult = mockMvcPerform(URL_AUTH_LOGIN, "", POST, loginRequest(userEmail, USER_PASSWORD))
+            .andExpect(status().isOk())
+            .andReturn();
+        String jwtUser = JsonPath.read(mvcResult.getResponse().getContentAsString(), "$.jwt");
+        mockMvcPerform(URL_AUTH_USER, jwtUser, POST, userEmailRequest(userEmail))
+            .andExpect(status().isUnauthorized());
+
+        //Re-add both, then add them again while the user already has them
+        mockMvcPerform(URL_AUTH_USER_PERMISSIONS, jwtAdmin, PUT,
+            assignPermissionsRequest(permissionSet, "USER", userEmail))
+            .andExpect(status().isAccepted());
+        mockMvcPerform(URL_AUTH_USER_PERMISSIONS, jwtAdmin, PUT,
+            assignPermissionsRequest(permissionSet, "USER", userEmail))
+            .andExpect(status().isAccepted());
+
+        mvcResult = mockMvcPerform(URL_AUTH_LOGIN, "", POST, loginRequest(userEmail, USER_PASSWORD))
+            .andExpect(status().isOk())
+            .andReturn();
+        jwtUser = JsonPath.read(mvcResult.getResponse().getContentAsString(), "$.jwt");
+        mockMvcPerform(URL_AUTH_USER, jwtUser, POST, userEmailRequest(userEmail))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value(userEmail))
+            .andExpect(jsonPath("$.roles.length()").value(1))
+            .andExpect(jsonPath("$.permissions.length()").value(1));
+    }
+
     @DisplayName("Permissions: Standard user is not authorised to assign permissions - is un-authorised")
     @Test
     void standardUserNotAuthorisedToAssignPermissions() throws Exception {
@@ -56,22 +56,30 @@ public final class DataUtilIT {
     public static String assignPermissionsRequest(Set<String> permissions,
                                                   String role,
                                                   String email) throws JsonProcessingException {
-        AssignPermissionsRequest.RolePermissions rolePermissions;
+        return asJsonString(AssignPermissionsRequest.builder()
+            .add(rolePermissions(permissions, role))
+            .email(email)
+            .build());
+    }
+
+    public static String removePermissionsRequest(Set<String> permissions,
+                                                  String role,
+                                                  String email) throws JsonProcessingException {
+        return asJsonString(AssignPermissionsRequest.builder()
+            .remove(rolePermissions(permissions, role))
+            .email(email)
+            .build());
+    }
 
+    private static AssignPermissionsRequest.RolePermissions rolePermissions(Set<String> permissions, String role) {
         if (role.isEmpty()) {
-            rolePermissions = AssignPermissionsRequest.RolePermissions.builder()
+            return AssignPermissionsRequest.RolePermissions.builder()
                 .permissions(permissions)
                 .build();
-        } else {
-            rolePermissions = AssignPermissionsRequest.RolePermissions.builder()
-                .permissions(permissions)
-                .roles(Collections.singleton(role))
-                .build();
         }
-
-        return asJsonString(AssignPermissionsRequest.builder()
-            .add(rolePermissions)
-            .email(email)
-            .build());
+        return AssignPermissionsRequest.RolePermissions.builder()
+            .permissions(permissions)
+            .roles(Collections.singleton(role))
+            .build();
     }
 }
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.juror.standard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class UtilitiesBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"10", "1000"})
+    private int batchSize;
+
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<List<Integer>> getBatches() {
+        return Utilities.getBatches(values, batchSize);
+    }
+
+    @Benchmark
+    public List<List<Integer>> getBatchesView() {
+        return Utilities.getBatchesView(values, batchSize);
+    }
+
+    @Benchmark
+    public void getBatchesIterator(Blackhole blackhole) {
+        Iterator<List<Integer>> batches = Utilities.getBatches(values.iterator(), batchSize);
+        while (batches.hasNext()) {
+            blackhole.consume(batches.next());
+        }
+    }
+
+    @Benchmark
+    public long forEachBatch(Blackhole blackhole) {
+        return Utilities.forEachBatch(values.iterator(), batchSize, blackhole::consume);
+    }
+}
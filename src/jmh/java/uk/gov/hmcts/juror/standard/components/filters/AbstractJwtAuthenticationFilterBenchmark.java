@@ -0,0 +1,69 @@
+package uk.gov.hmcts.juror.standard.components.filters;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+import uk.gov.hmcts.juror.standard.service.impl.auth.JwtServiceImpl;
+import uk.gov.hmcts.juror.standard.service.impl.auth.JwtServiceImplBenchmark;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class AbstractJwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean tokenCacheEnabled;
+
+    private JwtAuthenticationFilterJwt filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain filterChain = (servletRequest, servletResponse) -> {
+    };
+
+    @Setup
+    public void setup() {
+        JwtServiceImpl jwtService = JwtServiceImplBenchmark.createJwtService();
+        filter = new JwtAuthenticationFilterJwt(jwtService, Clock.systemUTC(), tokenCacheEnabled, 10_000);
+
+        User user = User.builder().email("benchmark@hmcts.net")
+            .permissions(Set.of(new Permission("USER_CREATE"), new Permission("USER_DELETE"))).build();
+        request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateJwtToken(user));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication doFilterInternal() throws ServletException, IOException {
+        try {
+            filter.doFilterInternal(request, response, filterChain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
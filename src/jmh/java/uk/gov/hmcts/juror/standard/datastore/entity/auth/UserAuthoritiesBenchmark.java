@@ -0,0 +1,67 @@
+package uk.gov.hmcts.juror.standard.datastore.entity.auth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link User#getAuthorities()} for a user holding a single role at the top of a linear inheritance chain.
+ * {@code resolve} measures the uncached walk of the role graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class UserAuthoritiesBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int roleDepth;
+
+    @Param({"5"})
+    private int permissionsPerRole;
+
+    private User user;
+
+    @Setup
+    public void setup() {
+        Role parent = null;
+        for (int depth = 0; depth < roleDepth; depth++) {
+            Role role = new Role("ROLE_" + depth);
+            for (int i = 0; i < permissionsPerRole; i++) {
+                role.addPermission(new Permission("ROLE_" + depth + "_PERMISSION_" + i));
+            }
+            if (parent != null) {
+                role.setInheritedRoles(Set.of(parent));
+            }
+            parent = role;
+        }
+        user = User.builder().email("benchmark@hmcts.net").build();
+        user.setRoles(Set.of(parent));
+        user.setPermissions(Set.of(new Permission("USER_PERMISSION")));
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public Set<GrantedAuthority> resolve() {
+        return ResolvedAuthorities.resolve(user.getPermissions(), user.getRoles()).authorities();
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.juror.standard.service.impl.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtServiceImplBenchmark {
+
+    private static final String SECRET = "dGhpcy1pcy1hLXRlc3Qta2V5LWZvci11cy13aGVuLWNyZWF0aW5nLXNlY3JldHM=";
+
+    @Param({"1", "20", "100"})
+    private int permissionCount;
+
+    private JwtServiceImpl jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = createJwtService();
+        Set<Permission> permissions = new HashSet<>();
+        for (int i = 0; i < permissionCount; i++) {
+            permissions.add(new Permission("PERMISSION_" + i));
+        }
+        user = User.builder().email("benchmark@hmcts.net").permissions(permissions).build();
+        token = jwtService.generateJwtToken(user);
+    }
+
+    public static JwtServiceImpl createJwtService() {
+        JwtServiceImpl jwtService =
+            new JwtServiceImpl(Clock.systemUTC(), new JwtMetrics(new SimpleMeterRegistry(), Set.of()));
+        ReflectionTestUtils.setField(jwtService, "tokenValidity", TimeUnit.HOURS.toMillis(1));
+        jwtService.rotateSecret(SECRET);
+        return jwtService;
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return jwtService.generateJwtToken(user);
+    }
+
+    @Benchmark
+    public UserDetails extractUserDetails() {
+        return jwtService.extractUserDetails(token);
+    }
+
+    @Benchmark
+    public boolean isJwtValid() {
+        return jwtService.isJwtValid(token, user);
+    }
+}
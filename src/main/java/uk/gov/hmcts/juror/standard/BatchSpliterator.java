@@ -0,0 +1,60 @@
+package uk.gov.hmcts.juror.standard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Groups the elements of a source spliterator into lists of at most {@code batchSize}.
+ */
+final class BatchSpliterator<T> implements Spliterator<List<T>> {
+
+    //Avoids allocating a huge backing array when a large batch size is used with a small source
+    static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private final Spliterator<T> source;
+    private final int batchSize;
+
+    BatchSpliterator(Spliterator<T> source, int batchSize) {
+        this.source = source;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        final List<T> batch = new ArrayList<>(getInitialCapacity());
+        boolean advanced = true;
+        while (advanced && batch.size() < batchSize) {
+            advanced = source.tryAdvance(batch::add);
+        }
+        if (batch.isEmpty()) {
+            return false;
+        }
+        action.accept(batch);
+        return true;
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+        Spliterator<T> prefix = source.trySplit();
+        return prefix == null ? null : new BatchSpliterator<>(prefix, batchSize);
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = source.estimateSize();
+        return size == Long.MAX_VALUE ? size : size / batchSize + (size % batchSize == 0 ? 0 : 1);
+    }
+
+    @Override
+    public int characteristics() {
+        //Batches are new lists so are never null, sizes stay exact if the source sizes are
+        return (source.characteristics() & (ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT)) | NONNULL;
+    }
+
+    private int getInitialCapacity() {
+        final long remaining = source.hasCharacteristics(SIZED) ? source.getExactSizeIfKnown() : batchSize;
+        return (int) Math.max(1, Math.min(Math.min(batchSize, remaining), MAX_INITIAL_CAPACITY));
+    }
+}
@@ -1,7 +1,16 @@
 package uk.gov.hmcts.juror.standard;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class Utilities {
 
@@ -10,10 +19,126 @@ public final class Utilities {
     }
 
     public static <T> List<List<T>> getBatches(List<T> collection, int batchSize) {
-        List<List<T>> batches = new ArrayList<>();
+        validateBatchSize(batchSize);
+        List<List<T>> batches = new ArrayList<>(getBatchCount(collection.size(), batchSize));
         for (int i = 0; i < collection.size(); i += batchSize) {
             batches.add(collection.subList(i, Math.min(i + batchSize, collection.size())));
         }
         return batches;
     }
+
+    /**
+     * Read only view of the list split into batches. Nothing is allocated up front and each batch is a
+     * {@link List#subList(int, int)} view created when it is accessed.
+     */
+    public static <T> List<List<T>> getBatchesView(List<T> collection, int batchSize) {
+        validateBatchSize(batchSize);
+        return new BatchListView<>(collection, batchSize);
+    }
+
+    /**
+     * Lazily groups the elements of the iterator into batches of at most {@code batchSize}. Only one batch is held
+     * at a time, so sources such as database cursors do not need to be materialised first.
+     */
+    public static <T> Iterator<List<T>> getBatches(Iterator<T> source, int batchSize) {
+        validateBatchSize(batchSize);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!source.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> batch = new ArrayList<>(Math.min(batchSize, BatchSpliterator.MAX_INITIAL_CAPACITY));
+                while (batch.size() < batchSize && source.hasNext()) {
+                    batch.add(source.next());
+                }
+                return batch;
+            }
+        };
+    }
+
+    /**
+     * Lazily groups the elements of the spliterator into batches of at most {@code batchSize}. The result splits
+     * when the source does, so batches at split boundaries may be smaller than {@code batchSize}.
+     */
+    public static <T> Spliterator<List<T>> getBatches(Spliterator<T> source, int batchSize) {
+        validateBatchSize(batchSize);
+        return new BatchSpliterator<>(source, batchSize);
+    }
+
+    /**
+     * Lazily groups the elements of the stream into batches of at most {@code batchSize}, keeping the stream
+     * parallel if it already is. Closing the returned stream closes the source.
+     */
+    public static <T> Stream<List<T>> getBatches(Stream<T> source, int batchSize) {
+        return StreamSupport.stream(getBatches(source.spliterator(), batchSize), source.isParallel())
+            .onClose(source::close);
+    }
+
+    /**
+     * Passes the elements of the iterator to the consumer in batches of at most {@code batchSize}, reusing a single
+     * buffer. The batch is cleared once the consumer returns, so it must be copied if it needs to be kept.
+     *
+     * @return the number of batches passed to the consumer
+     */
+    public static <T> long forEachBatch(Iterator<T> source, int batchSize, Consumer<List<T>> consumer) {
+        validateBatchSize(batchSize);
+        final List<T> buffer = new ArrayList<>(Math.min(batchSize, BatchSpliterator.MAX_INITIAL_CAPACITY));
+        long batches = 0;
+        while (source.hasNext()) {
+            buffer.add(source.next());
+            if (buffer.size() == batchSize || !source.hasNext()) {
+                consumer.accept(buffer);
+                buffer.clear();
+                batches++;
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * {@link #forEachBatch(Iterator, int, Consumer)} over a stream, which is consumed sequentially.
+     */
+    public static <T> long forEachBatch(Stream<T> source, int batchSize, Consumer<List<T>> consumer) {
+        return forEachBatch(Spliterators.iterator(source.sequential().spliterator()), batchSize, consumer);
+    }
+
+    private static void validateBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1 but was " + batchSize);
+        }
+    }
+
+    private static int getBatchCount(int size, int batchSize) {
+        return size / batchSize + (size % batchSize == 0 ? 0 : 1);
+    }
+
+    private static final class BatchListView<T> extends AbstractList<List<T>> implements RandomAccess {
+        private final List<T> collection;
+        private final int batchSize;
+
+        private BatchListView(List<T> collection, int batchSize) {
+            this.collection = collection;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public List<T> get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            final int from = index * batchSize;
+            return collection.subList(from, Math.min(from + batchSize, collection.size()));
+        }
+
+        @Override
+        public int size() {
+            return getBatchCount(collection.size(), batchSize);
+        }
+    }
 }
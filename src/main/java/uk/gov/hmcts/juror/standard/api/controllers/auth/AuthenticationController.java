@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.juror.standard.api.model.auth.AssignPermissionsRequest;
+import uk.gov.hmcts.juror.standard.api.model.auth.BulkRegisterRequest;
 import uk.gov.hmcts.juror.standard.api.model.auth.JwtResponse;
 import uk.gov.hmcts.juror.standard.api.model.auth.LoginRequest;
 import uk.gov.hmcts.juror.standard.api.model.auth.RegisterRequest;
@@ -35,7 +36,6 @@ import uk.gov.hmcts.juror.standard.api.model.error.bvr.CannotAssignPermissionsTo
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.CannotDeleteSelfError;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.UserAlreadyRegisteredError;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.UserPermissionConstants;
-import uk.gov.hmcts.juror.standard.mapping.UserMapper;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.UserService;
 
 @RestController
@@ -52,11 +52,9 @@ import uk.gov.hmcts.juror.standard.service.contracts.auth.UserService;
 public class AuthenticationController {
 
     private final UserService userService;
-    private final UserMapper userMapper;
 
-    public AuthenticationController(UserService userService, UserMapper userMapper) {
+    public AuthenticationController(UserService userService) {
         this.userService = userService;
-        this.userMapper = userMapper;
     }
 
     @PostMapping("/login")
@@ -100,6 +98,28 @@ public class AuthenticationController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @PostMapping("/register/bulk")
+    @PreAuthorize("hasAuthority('" + UserPermissionConstants.CREATE + "')")
+    @Operation(summary = "Register new users",
+        description = "This operation will register all of the given users, or none of them if any are invalid",
+        responses = {@ApiResponse(responseCode = "201", description = "Users successfully registered"),
+            @ApiResponse(responseCode = "400", description = "Invalid Payload", content = {
+                @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                    schema = @Schema(implementation = InvalidPayloadError.class))}),
+            @ApiResponse(responseCode = "401", description = "Unauthorised", content = {
+                @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                    schema = @Schema(implementation = UnauthorisedError.class))}),
+            @ApiResponse(responseCode = "422", description = "Business Validation Rule", content = {
+                @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                    schema = @Schema(implementation = UserAlreadyRegisteredError.class))}),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = {
+                @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                    schema = @Schema(implementation = InternalServerError.class))})})
+    public ResponseEntity<Void> registerAll(@Valid @NotNull @RequestBody BulkRegisterRequest request) {
+        userService.registerAll(request.getUsers());
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
     @DeleteMapping("/user")
     @PreAuthorize("hasAuthority('" + UserPermissionConstants.DELETE + "')")
     @Operation(summary = "Delete a user", description = "This operation will delete a from the system",
@@ -193,6 +213,6 @@ public class AuthenticationController {
             @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
                 schema = @Schema(implementation = InternalServerError.class))})})
     public ResponseEntity<UserResponse> getUser(@Valid @NotNull @RequestBody UserEmailRequest request) {
-        return ResponseEntity.ok(userMapper.toUserResponse(userService.getUser(request.getEmail())));
+        return ResponseEntity.ok(userService.getUserResponse(request.getEmail()));
     }
 }
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.juror.standard.api.model.auth;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import uk.gov.hmcts.juror.standard.api.APIConstants;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BulkRegisterRequest {
+
+    @NotNull
+    @Size(min = 1, max = APIConstants.DEFAULT_MAX_LENGTH_LONG)
+    private List<@Valid @NotNull RegisterRequest> users;
+}
@@ -0,0 +1,201 @@
+package uk.gov.hmcts.juror.standard.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+import uk.gov.hmcts.juror.standard.datastore.repository.PermissionRepository;
+import uk.gov.hmcts.juror.standard.datastore.repository.RoleRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Read-mostly, in memory snapshot of every {@link Role} and {@link Permission} name, along with a private copy of
+ * each role's permissions and inherited roles.
+ *
+ * <p>Loaded once the application is ready (or on first use) and replaced copy-on-write when roles or permissions
+ * are saved, so checking names exist and resolving a user's inherited roles do not need to hit the database.
+ * Changes made inside a transaction are only applied once it commits. The copies are never handed out as entities;
+ * callers that need a {@link Role} or {@link Permission} to persist load it from its repository.
+ *
+ * <p>A lookup that misses reloads the snapshot in case another instance created the entry, at most once every
+ * {@code uk.gov.hmcts.juror.security.authority-cache.min-reload-interval}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "true")
+public class AuthorityGraphCache {
+
+    private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final Clock clock;
+    private final Duration minReloadInterval;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong lastReload = new AtomicLong();
+
+    @Autowired
+    public AuthorityGraphCache(RoleRepository roleRepository, PermissionRepository permissionRepository,
+                               Clock clock,
+                               @Value("${uk.gov.hmcts.juror.security.authority-cache.min-reload-interval:PT5S}")
+                               Duration minReloadInterval) {
+        this.roleRepository = roleRepository;
+        this.permissionRepository = permissionRepository;
+        this.clock = clock;
+        this.minReloadInterval = minReloadInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        lastReload.set(clock.millis());
+        replaced(snapshot.getAndSet(new Snapshot(
+            copyAll(roleRepository.findAll()),
+            permissionRepository.findAll().stream()
+                .map(Permission::getName)
+                .collect(Collectors.toUnmodifiableSet()))));
+    }
+
+    //Users resolved through a replaced role recompute their authorities against its replacement
+    private void replaced(Snapshot previous) {
+        if (previous == null) {
+            return;
+        }
+        Map<String, Role> current = getSnapshot().roles();
+        previous.roles().forEach((name, role) -> {
+            if (current.get(name) != role) {
+                role.markChanged();
+            }
+        });
+    }
+
+    /**
+     * Returns the names in {@code roleNames} that do not belong to a known role.
+     */
+    public Set<String> findMissingRoles(Set<String> roleNames) {
+        return findMissing(roleNames, current -> current.roles().keySet());
+    }
+
+    /**
+     * Returns the names in {@code permissionNames} that do not belong to a known permission.
+     */
+    public Set<String> findMissingPermissions(Set<String> permissionNames) {
+        return findMissing(permissionNames, Snapshot::permissionNames);
+    }
+
+    /**
+     * Resolves the user's inherited roles against this cache, whose role copies are fully loaded, so their
+     * authorities can be read without lazy loading, including once the user is detached.
+     */
+    public User attachRoleGraph(User user) {
+        user.setRoleGraph(roleName -> getSnapshot().roles().get(roleName));
+        return user;
+    }
+
+    /**
+     * Records the saved state of {@code roles}. Their collections are copied straight away, so this must be called
+     * while they can still be loaded, typically inside the transaction that saved them.
+     */
+    public void rolesChanged(Collection<Role> roles) {
+        List<Role> copies = roles.stream().map(AuthorityGraphCache::copy).toList();
+        update(current -> new Snapshot(withAll(current.roles(), copies), current.permissionNames()));
+    }
+
+    public void permissionChanged(Permission permission) {
+        final String name = permission.getName();
+        update(current -> {
+            Set<String> permissionNames = new HashSet<>(current.permissionNames());
+            permissionNames.add(name);
+            return new Snapshot(current.roles(), Set.copyOf(permissionNames));
+        });
+    }
+
+    private Set<String> findMissing(Set<String> names, Function<Snapshot, Set<String>> source) {
+        Set<String> missing = missing(names, source.apply(getSnapshot()));
+        if (!missing.isEmpty() && tryStartReload()) {
+            reload();
+            missing = missing(names, source.apply(getSnapshot()));
+        }
+        return missing;
+    }
+
+    //Only one caller per interval reloads, so repeated lookups of an unknown name do not each reload everything
+    private boolean tryStartReload() {
+        final long last = lastReload.get();
+        final long now = clock.millis();
+        return now - last >= minReloadInterval.toMillis() && lastReload.compareAndSet(last, now);
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            reload();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    private void update(UnaryOperator<Snapshot> change) {
+        Runnable apply = () -> replaced(
+            snapshot.getAndUpdate(current -> current == null ? null : change.apply(current)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private static Set<String> missing(Set<String> names, Set<String> known) {
+        return names.stream()
+            .filter(name -> !known.contains(name))
+            .collect(Collectors.toSet());
+    }
+
+    private static Map<String, Role> withAll(Map<String, Role> current, Collection<Role> copies) {
+        Map<String, Role> updated = new HashMap<>(current);
+        copies.forEach(copy -> updated.put(copy.getName(), copy));
+        return Map.copyOf(updated);
+    }
+
+    private static Map<String, Role> copyAll(Collection<Role> roles) {
+        return roles.stream()
+            .map(AuthorityGraphCache::copy)
+            .collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity()));
+    }
+
+    //Inherited roles are copied as name only stubs; attachRoleGraph swaps each for the current copy of that role
+    //while walking, so replacing one role never requires copying the roles that inherit it
+    private static Role copy(Role role) {
+        return new Role(role.getName())
+            .setPermissions(role.getPermissions().stream()
+                .map(permission -> new Permission(permission.getName()))
+                .toList())
+            .setInheritedRoles(role.getInheritedRoles().stream()
+                .map(inheritedRole -> new Role(inheritedRole.getName()))
+                .toList());
+    }
+
+    record Snapshot(Map<String, Role> roles, Set<String> permissionNames) {
+    }
+}
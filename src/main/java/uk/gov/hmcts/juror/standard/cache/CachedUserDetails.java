@@ -0,0 +1,61 @@
+package uk.gov.hmcts.juror.standard.cache;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable copy of the parts of a {@link UserDetails} used to authenticate a request, safe to share between
+ * request threads. The password is never copied.
+ */
+public record CachedUserDetails(String username, List<GrantedAuthority> authorities, boolean accountNonExpired,
+                         boolean accountNonLocked, boolean credentialsNonExpired, boolean enabled)
+    implements UserDetails {
+
+    @Serial
+    private static final long serialVersionUID = 5146452839142387105L;
+
+    public static CachedUserDetails of(UserDetails userDetails) {
+        return new CachedUserDetails(userDetails.getUsername(), List.copyOf(userDetails.getAuthorities()),
+            userDetails.isAccountNonExpired(), userDetails.isAccountNonLocked(),
+            userDetails.isCredentialsNonExpired(), userDetails.isEnabled());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return accountNonExpired;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return accountNonLocked;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return credentialsNonExpired;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,133 @@
+package uk.gov.hmcts.juror.standard.cache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread safe cache where every entry carries its own expiry instant.
+ *
+ * <p>Expired entries are never returned; they are dropped lazily on read and whenever the cache is full.
+ * If the cache is still full once expired entries are gone, the entry closest to expiry is evicted. Entries are also
+ * indexed by expiry so eviction takes the first entries of the index instead of scanning the whole cache.
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<K, V>> entries;
+    //Ordered by expiry; may briefly hold an entry no longer in the map, which eviction simply discards
+    private final NavigableSet<Entry<K, V>> byExpiry = new ConcurrentSkipListSet<>(
+        Comparator.comparing((Entry<K, V> entry) -> entry.expiresAt()).thenComparingLong(Entry::sequence));
+    private final AtomicLong sequence = new AtomicLong();
+    private final int maxSize;
+    private final Clock clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringCache(int maxSize, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        this.entries = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(clock.instant())) {
+            if (entries.remove(key, entry)) {
+                byExpiry.remove(entry);
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    public void put(K key, V value, Instant expiresAt) {
+        Instant now = clock.instant();
+        if (value == null || expiresAt == null || !expiresAt.isAfter(now)) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            evict(now);
+        }
+        final Entry<K, V> entry = new Entry<>(key, value, expiresAt, sequence.incrementAndGet());
+        //Indexed before it is visible so a concurrent invalidate always finds it in both
+        byExpiry.add(entry);
+        final Entry<K, V> previous = entries.put(key, entry);
+        if (previous != null) {
+            byExpiry.remove(previous);
+        }
+    }
+
+    public void invalidate(K key) {
+        final Entry<K, V> removed = entries.remove(key);
+        if (removed != null) {
+            byExpiry.remove(removed);
+        }
+    }
+
+    /**
+     * Removes the entry for {@code key} only if it still holds {@code value}.
+     */
+    public void invalidate(K key, V value) {
+        final Entry<K, V> entry = entries.get(key);
+        if (entry != null && entry.value() == value && entries.remove(key, entry)) {
+            byExpiry.remove(entry);
+        }
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+        byExpiry.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    //Expired entries sort first, so this drops them all and then the entries closest to expiry until there is room
+    private void evict(Instant now) {
+        for (Entry<K, V> entry : byExpiry) {
+            if (!entry.isExpired(now) && entries.size() < maxSize) {
+                return;
+            }
+            if (byExpiry.remove(entry) && entries.remove(entry.key(), entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Entry<K, V>(K key, V value, Instant expiresAt, long sequence) {
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
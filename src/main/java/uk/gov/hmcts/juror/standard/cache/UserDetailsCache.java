@@ -0,0 +1,114 @@
+package uk.gov.hmcts.juror.standard.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of database loaded {@link UserDetails}, keyed by email.
+ *
+ * <p>Disabled unless {@code uk.gov.hmcts.juror.security.user-cache.enabled} is set, in which case every lookup goes
+ * to the loader. Either way an immutable {@link CachedUserDetails} copy of the username, authorities and account
+ * flags is returned rather than the loaded entity, so the principal has the same type whether or not caching is
+ * enabled. Services that change a user's credentials or permissions must call {@link #invalidate(String)}.
+ *
+ * <p>Invalidation only applies to this instance. Other instances of the application keep serving their cached copy
+ * until it expires, so {@code uk.gov.hmcts.juror.security.user-cache.ttl} bounds how long a revoked role or
+ * permission can still be used when running more than one instance.
+ */
+@Component
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "true")
+public class UserDetailsCache {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final ExpiringCache<String, UserDetails> cache;
+    //Bumped by invalidate, so a load that raced an invalidation of the same key is not left in the cache
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public UserDetailsCache(Clock clock,
+                            @Value("${uk.gov.hmcts.juror.security.user-cache.enabled:false}") boolean enabled,
+                            @Value("${uk.gov.hmcts.juror.security.user-cache.ttl:PT1M}") Duration ttl,
+                            @Value("${uk.gov.hmcts.juror.security.user-cache.max-size:1000}") int maxSize) {
+        this.clock = clock;
+        this.ttl = ttl;
+        this.cache = enabled ? new ExpiringCache<>(maxSize, clock) : null;
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        if (cache == null) {
+            final UserDetails loaded = loader.apply(email);
+            return loaded == null ? null : CachedUserDetails.of(loaded);
+        }
+        UserDetails userDetails = cache.get(email);
+        if (userDetails != null) {
+            return userDetails;
+        }
+        final int stripe = stripe(email);
+        final long version = versions.get(stripe);
+        final UserDetails loaded = loader.apply(email);
+        if (loaded == null) {
+            return null;
+        }
+        userDetails = CachedUserDetails.of(loaded);
+        cache.put(email, userDetails, clock.instant().plus(ttl));
+        //Checked after the put: an invalidate that raced the load either bumped the version before this check, so
+        //the entry is removed here, or removes the entry itself after bumping it
+        if (versions.get(stripe) != version) {
+            cache.invalidate(email, userDetails);
+        }
+        return userDetails;
+    }
+
+    /**
+     * Removes the cached copy for {@code email}. Within a transaction it is removed again once the transaction
+     * completes, so a copy loaded from the pre-commit state in the meantime is not kept.
+     */
+    public void invalidate(String email) {
+        if (cache == null) {
+            return;
+        }
+        invalidateNow(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateNow(email);
+                }
+            });
+        }
+    }
+
+    private void invalidateNow(String email) {
+        versions.incrementAndGet(stripe(email));
+        cache.invalidate(email);
+    }
+
+    private static int stripe(String email) {
+        return Math.floorMod(email.hashCode(), VERSION_STRIPES);
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    public long getHitCount() {
+        return cache == null ? 0 : cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache == null ? 0 : cache.getMissCount();
+    }
+}
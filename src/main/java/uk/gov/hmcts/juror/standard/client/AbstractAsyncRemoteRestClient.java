@@ -0,0 +1,153 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.io.CloseMode;
+import uk.gov.hmcts.juror.standard.client.interceptor.JwtAuthenticationInterceptor;
+import uk.gov.hmcts.juror.standard.config.AsyncHttpClientFactory;
+import uk.gov.hmcts.juror.standard.config.WebConfig;
+import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Non-blocking sibling of {@link AbstractRemoteRestClient} built on the Apache HttpClient 5 async client.
+ *
+ * <p>Requests return a {@link CompletableFuture} without holding a thread while waiting for the response, so a
+ * service can call several downstream APIs concurrently. Non 2xx responses and I/O failures complete the future
+ * with a {@link RemoteGatewayException}. Response bodies are buffered in memory and mapped from JSON with the given
+ * {@link ObjectMapper}; dependent stages should use the async variants of {@link CompletableFuture} methods if they
+ * do blocking work, as callbacks otherwise run on the client's I/O threads. A JWT Authorization header is added on
+ * the calling thread before the request is handed to the client, as generating it may sign a token, which must not
+ * block an I/O thread.
+ */
+@Slf4j
+@SuppressWarnings("PMD.AbstractClassWithoutAbstractMethod")
+public abstract class AbstractAsyncRemoteRestClient implements AutoCloseable {
+
+    protected final CloseableHttpAsyncClient httpClient;
+    protected final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final JwtAuthenticationInterceptor jwtAuthenticationInterceptor;
+
+    protected AbstractAsyncRemoteRestClient(WebConfig webConfig, ObjectMapper objectMapper) {
+        this(AsyncHttpClientFactory.create(webConfig), objectMapper, webConfig.getUri());
+    }
+
+    protected AbstractAsyncRemoteRestClient(WebConfig webConfig, ObjectMapper objectMapper,
+                                            JwtAuthenticationInterceptor jwtAuthenticationInterceptor) {
+        this(AsyncHttpClientFactory.create(webConfig), objectMapper, webConfig.getUri(),
+            jwtAuthenticationInterceptor);
+    }
+
+    protected AbstractAsyncRemoteRestClient(CloseableHttpAsyncClient httpClient, ObjectMapper objectMapper,
+                                            String baseUrl) {
+        this(httpClient, objectMapper, baseUrl, null);
+    }
+
+    protected AbstractAsyncRemoteRestClient(CloseableHttpAsyncClient httpClient, ObjectMapper objectMapper,
+                                            String baseUrl,
+                                            JwtAuthenticationInterceptor jwtAuthenticationInterceptor) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.jwtAuthenticationInterceptor = jwtAuthenticationInterceptor;
+    }
+
+    protected <T> CompletableFuture<T> get(String path, Class<T> responseType) {
+        return execute(SimpleRequestBuilder.get(resolve(path)).build(), responseType);
+    }
+
+    protected <T> CompletableFuture<T> post(String path, Object body, Class<T> responseType) {
+        return execute(withJsonBody(SimpleRequestBuilder.post(resolve(path)), body), responseType);
+    }
+
+    protected <T> CompletableFuture<T> put(String path, Object body, Class<T> responseType) {
+        return execute(withJsonBody(SimpleRequestBuilder.put(resolve(path)), body), responseType);
+    }
+
+    protected CompletableFuture<Void> delete(String path) {
+        return execute(SimpleRequestBuilder.delete(resolve(path)).build(), Void.class);
+    }
+
+    /**
+     * Sends the request and maps a successful response body to {@code responseType}. Cancelling the returned future
+     * cancels the request. An empty body, or a {@code responseType} of {@link Void}, completes with null.
+     */
+    protected <T> CompletableFuture<T> execute(SimpleHttpRequest request, Class<T> responseType) {
+        if (jwtAuthenticationInterceptor != null && !request.containsHeader(HttpHeaders.AUTHORIZATION)) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, jwtAuthenticationInterceptor.getAuthorizationHeader());
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Future<SimpleHttpResponse> exchange = httpClient.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                try {
+                    result.complete(readResponse(request, response, responseType));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                result.completeExceptionally(
+                    new RemoteGatewayException("Failed to call: " + request.getRequestUri(), exception));
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+        result.whenComplete((response, throwable) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private <T> T readResponse(SimpleHttpRequest request, SimpleHttpResponse response, Class<T> responseType) {
+        if (response.getCode() < 200 || response.getCode() >= 300) {
+            throw new RemoteGatewayException("Unexpected response status " + response.getCode()
+                + " when calling: " + request.getRequestUri());
+        }
+        final byte[] body = response.getBodyBytes();
+        if (Void.class.equals(responseType) || body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (IOException e) {
+            throw new RemoteGatewayException("Failed to read response from: " + request.getRequestUri(), e);
+        }
+    }
+
+    private SimpleHttpRequest withJsonBody(SimpleRequestBuilder builder, Object body) {
+        try {
+            return builder.setBody(objectMapper.writeValueAsBytes(body), ContentType.APPLICATION_JSON).build();
+        } catch (JsonProcessingException e) {
+            throw new RemoteGatewayException("Failed to write request body", e);
+        }
+    }
+
+    private String resolve(String path) {
+        return baseUrl == null ? path : baseUrl + path;
+    }
+
+    @Override
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+}
@@ -3,6 +3,9 @@ package uk.gov.hmcts.juror.standard.client;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Getter
 @SuppressWarnings({
@@ -15,4 +18,12 @@ public abstract class AbstractSoapClient {
     protected AbstractSoapClient(SoapWebServiceTemplate soapWebServiceTemplate) {
         this.soapWebServiceTemplate = soapWebServiceTemplate;
     }
+
+    protected <T, R> CompletableFuture<R> callAsync(T request) {
+        return soapWebServiceTemplate.callAsync(request);
+    }
+
+    protected <T, R> List<BatchResult<R>> callBatch(List<T> requests) {
+        return soapWebServiceTemplate.callBatch(requests);
+    }
 }
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.juror.standard.client;
+
+/**
+ * Outcome of one request in a batched call: either the response or the exception the call failed with.
+ */
+public record BatchResult<R>(R response, RuntimeException failure) {
+
+    public static <R> BatchResult<R> success(R response) {
+        return new BatchResult<>(response, null);
+    }
+
+    public static <R> BatchResult<R> failure(RuntimeException failure) {
+        return new BatchResult<>(null, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
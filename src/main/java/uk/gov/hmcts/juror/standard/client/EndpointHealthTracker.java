@@ -0,0 +1,231 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.juror.standard.config.CircuitBreakerConfig;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Per endpoint circuit breaker used to order failover endpoints.
+ *
+ * <p>Each endpoint records consecutive failures and a moving average latency. Closed endpoints are tried in their
+ * configured order: ranking them by failures or latency would leave an endpoint that fell behind without the calls
+ * whose success resets those figures, so a single transient failure would demote it for good. Once an endpoint
+ * reaches {@link CircuitBreakerConfig#getFailureThreshold()} consecutive failures it is opened: it is moved behind
+ * every closed endpoint for {@link CircuitBreakerConfig#getCoolDown()} and, if probing is enabled, probed in the
+ * background on {@link SharedExecutors#getProbeScheduler()} until the probe succeeds. Open endpoints are
+ * still tried as a last resort so an outage of every endpoint does not fail faster than it did before.
+ */
+@Slf4j
+public class EndpointHealthTracker<T> {
+
+    private static final double LATENCY_WEIGHT = 0.2;
+    private static final int LATENCY_WINDOW_SIZE = 256;
+
+    @Getter
+    private final List<Endpoint<T>> endpoints;
+    private final CircuitBreakerConfig config;
+    private final Clock clock;
+    private final Predicate<Endpoint<T>> probe;
+    private final Supplier<ScheduledExecutorService> scheduler;
+
+    /**
+     * Probes open endpoints, when enabled, by opening a socket to their host.
+     */
+    public EndpointHealthTracker(List<Endpoint<T>> endpoints, CircuitBreakerConfig config) {
+        this(endpoints, config, endpoint -> isReachable(endpoint, config.getProbeTimeout()));
+    }
+
+    /**
+     * Probes open endpoints with {@code probe} when {@link CircuitBreakerConfig#isProbeEnabled()}.
+     */
+    public EndpointHealthTracker(List<Endpoint<T>> endpoints, CircuitBreakerConfig config,
+                                 Predicate<Endpoint<T>> probe) {
+        this(endpoints, config, Clock.systemUTC(), config.isProbeEnabled() ? probe : null,
+            SharedExecutors::getProbeScheduler);
+    }
+
+    public EndpointHealthTracker(List<Endpoint<T>> endpoints, CircuitBreakerConfig config, Clock clock,
+                                 Predicate<Endpoint<T>> probe, ScheduledExecutorService scheduler) {
+        this(endpoints, config, clock, probe, () -> scheduler);
+    }
+
+    private EndpointHealthTracker(List<Endpoint<T>> endpoints, CircuitBreakerConfig config, Clock clock,
+                                  Predicate<Endpoint<T>> probe, Supplier<ScheduledExecutorService> scheduler) {
+        this.endpoints = List.copyOf(endpoints);
+        this.config = config;
+        this.clock = clock;
+        this.probe = probe;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Closed endpoints in configured order, followed by open endpoints in the order they are due to be retried.
+     */
+    public List<Endpoint<T>> getEndpointsInPriorityOrder() {
+        final long now = clock.millis();
+        //Each endpoint's state is read once so concurrent updates cannot change it part way through the sort
+        return endpoints.stream()
+            .map(endpoint -> new Rank<>(endpoint, Math.max(endpoint.getOpenUntil() - now, 0)))
+            .sorted(Comparator.comparingLong((Rank<T> rank) -> rank.openFor())
+                .thenComparingInt(rank -> rank.endpoint().getIndex()))
+            .map(Rank::endpoint)
+            .toList();
+    }
+
+    //Closed endpoints have nothing left to wait for so sort first
+    private record Rank<T>(Endpoint<T> endpoint, long openFor) {
+    }
+
+    public void recordSuccess(Endpoint<T> endpoint, Duration latency) {
+        endpoint.recordLatency(latency);
+        endpoint.successLatencies.record(latency.toNanos());
+        endpoint.consecutiveFailures.set(0);
+        endpoint.openUntil.set(0);
+    }
+
+    public void recordFailure(Endpoint<T> endpoint, Duration latency) {
+        endpoint.recordLatency(latency);
+        if (endpoint.consecutiveFailures.incrementAndGet() >= config.getFailureThreshold()) {
+            open(endpoint);
+        }
+    }
+
+    private void open(Endpoint<T> endpoint) {
+        endpoint.openUntil.set(clock.millis() + config.getCoolDown().toMillis());
+        if (probe != null && endpoint.probing.compareAndSet(false, true)) {
+            log.warn("Endpoint {} marked as unhealthy after {} consecutive failures", endpoint.getUri(),
+                endpoint.getConsecutiveFailures());
+            scheduleProbe(endpoint);
+        }
+    }
+
+    private void scheduleProbe(Endpoint<T> endpoint) {
+        try {
+            scheduler.get().schedule(() -> runProbe(endpoint), config.getCoolDown().toMillis(),
+                TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException exception) {
+            //Shutting down, live traffic retries the endpoint once its cool-down has passed
+            log.debug("Probe of endpoint {} not scheduled", endpoint.getUri(), exception);
+            endpoint.probing.set(false);
+        }
+    }
+
+    void runProbe(Endpoint<T> endpoint) {
+        if (endpoint.getOpenUntil() == 0) {
+            //Closed by live traffic since the probe was scheduled
+            endpoint.probing.set(false);
+            return;
+        }
+        boolean healthy;
+        try {
+            healthy = probe.test(endpoint);
+        } catch (Exception exception) {
+            log.debug("Probe of endpoint {} failed", endpoint.getUri(), exception);
+            healthy = false;
+        }
+        if (healthy) {
+            log.info("Endpoint {} is reachable again", endpoint.getUri());
+            //Half open: a single further failure will open the endpoint again
+            endpoint.consecutiveFailures.set(config.getFailureThreshold() - 1);
+            endpoint.openUntil.set(0);
+            endpoint.probing.set(false);
+        } else {
+            endpoint.openUntil.set(clock.millis() + config.getCoolDown().toMillis());
+            scheduleProbe(endpoint);
+        }
+    }
+
+    static boolean isReachable(Endpoint<?> endpoint, Duration timeout) {
+        URI uri = URI.create(endpoint.getUri());
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        }
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(uri.getHost(), port), (int) timeout.toMillis());
+            return true;
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    @Getter
+    public static final class Endpoint<T> {
+        private final int index;
+        private final String uri;
+        private final T target;
+        @Getter(AccessLevel.NONE)
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        @Getter(AccessLevel.NONE)
+        private final AtomicLong averageLatencyNanos = new AtomicLong(-1);
+        @Getter(AccessLevel.NONE)
+        private final AtomicLong openUntil = new AtomicLong();
+        @Getter(AccessLevel.NONE)
+        private final AtomicBoolean probing = new AtomicBoolean();
+        @Getter(AccessLevel.NONE)
+        private final LatencyWindow successLatencies = new LatencyWindow(LATENCY_WINDOW_SIZE);
+
+        public Endpoint(int index, String uri, T target) {
+            this.index = index;
+            this.uri = uri;
+            this.target = target;
+        }
+
+        public int getConsecutiveFailures() {
+            return consecutiveFailures.get();
+        }
+
+        long getOpenUntil() {
+            return openUntil.get();
+        }
+
+        public boolean isOpen(long nowMillis) {
+            return openUntil.get() > nowMillis;
+        }
+
+        /**
+         * Exponentially weighted moving average of call latency, or null if no calls have completed.
+         */
+        public Duration getAverageLatency() {
+            long nanos = averageLatencyNanos.get();
+            return nanos < 0 ? null : Duration.ofNanos(nanos);
+        }
+
+        /**
+         * Percentile (0 to 1) of the latency of recent successful calls, or null if none have completed.
+         */
+        public Duration getSuccessLatencyPercentile(double percentile) {
+            long nanos = successLatencies.getPercentile(percentile);
+            return nanos < 0 ? null : Duration.ofNanos(nanos);
+        }
+
+        public int getSuccessLatencySampleCount() {
+            return successLatencies.getSampleCount();
+        }
+
+        void recordLatency(Duration latency) {
+            final long sample = latency.toNanos();
+            averageLatencyNanos.updateAndGet(current -> current < 0
+                ? sample
+                : (long) (current + LATENCY_WEIGHT * (sample - current)));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import lombok.Getter;
+import org.springframework.oxm.Marshaller;
+import org.springframework.oxm.MarshallingFailureException;
+import org.springframework.oxm.Unmarshaller;
+import org.springframework.oxm.UnmarshallingFailureException;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Spring OXM marshaller backed by a single {@link JAXBContext} that reuses JAXB marshallers and unmarshallers.
+ *
+ * <p>JAXB marshallers are not thread safe, so each call borrows one from a pool and returns it afterwards instead of
+ * allocating a new one as {@code Jaxb2Marshaller} does. At most {@code maxIdle} of each are kept; any extra created
+ * under load are discarded once used.
+ */
+public class JaxbMarshallerPool implements Marshaller, Unmarshaller {
+
+    //DTDs and external entities are disabled
+    static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    @Getter
+    private final JAXBContext jaxbContext;
+    private final Set<String> packages;
+    private final int maxIdle;
+    private final Queue<jakarta.xml.bind.Marshaller> marshallers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleMarshallers = new AtomicInteger();
+    private final Queue<jakarta.xml.bind.Unmarshaller> unmarshallers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleUnmarshallers = new AtomicInteger();
+
+    public JaxbMarshallerPool(String contextPath, int maxIdle) throws JAXBException {
+        this.jaxbContext = JAXBContext.newInstance(contextPath, JaxbMarshallerPool.class.getClassLoader());
+        this.packages = Set.of(contextPath.split(":"));
+        this.maxIdle = maxIdle;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return JAXBElement.class.isAssignableFrom(clazz)
+            || clazz.isAnnotationPresent(XmlRootElement.class) && packages.contains(clazz.getPackageName());
+    }
+
+    @Override
+    public void marshal(Object graph, Result result) {
+        jakarta.xml.bind.Marshaller marshaller = marshallers.poll();
+        try {
+            if (marshaller == null) {
+                marshaller = jaxbContext.createMarshaller();
+            } else {
+                idleMarshallers.decrementAndGet();
+            }
+            marshaller.marshal(graph, result);
+        } catch (JAXBException e) {
+            throw new MarshallingFailureException("Failed to marshal " + graph.getClass().getName(), e);
+        }
+        release(marshallers, idleMarshallers, marshaller);
+    }
+
+    @Override
+    public Object unmarshal(Source source) {
+        jakarta.xml.bind.Unmarshaller unmarshaller = unmarshallers.poll();
+        try {
+            if (unmarshaller == null) {
+                unmarshaller = jaxbContext.createUnmarshaller();
+            } else {
+                idleUnmarshallers.decrementAndGet();
+            }
+            Object result;
+            if (source instanceof StAXSource staxSource && staxSource.getXMLStreamReader() != null) {
+                result = unmarshaller.unmarshal(staxSource.getXMLStreamReader());
+            } else if (source instanceof StreamSource streamSource) {
+                //Parse raw streams with DTDs and external entities disabled
+                XMLStreamReader reader = createXmlStreamReader(streamSource);
+                try {
+                    result = unmarshaller.unmarshal(reader);
+                } finally {
+                    reader.close();
+                }
+            } else {
+                result = unmarshaller.unmarshal(source);
+            }
+            release(unmarshallers, idleUnmarshallers, unmarshaller);
+            return result;
+        } catch (JAXBException | XMLStreamException e) {
+            throw new UnmarshallingFailureException("Failed to unmarshal response", e);
+        }
+    }
+
+    /**
+     * Unmarshals the element the reader is positioned on as the given type, leaving the reader on the event after
+     * its end tag. Used to read repeated elements of a streamed response one at a time.
+     */
+    public <E> E unmarshal(XMLStreamReader reader, Class<E> type) {
+        jakarta.xml.bind.Unmarshaller unmarshaller = unmarshallers.poll();
+        try {
+            if (unmarshaller == null) {
+                unmarshaller = jaxbContext.createUnmarshaller();
+            } else {
+                idleUnmarshallers.decrementAndGet();
+            }
+            E result = unmarshaller.unmarshal(reader, type).getValue();
+            release(unmarshallers, idleUnmarshallers, unmarshaller);
+            return result;
+        } catch (JAXBException e) {
+            throw new UnmarshallingFailureException("Failed to unmarshal " + type.getName(), e);
+        }
+    }
+
+    private <T> void release(Queue<T> pool, AtomicInteger idle, T value) {
+        if (idle.incrementAndGet() <= maxIdle) {
+            pool.offer(value);
+        } else {
+            idle.decrementAndGet();
+        }
+    }
+
+    private static XMLStreamReader createXmlStreamReader(StreamSource source) throws XMLStreamException {
+        if (source.getInputStream() != null) {
+            return XML_INPUT_FACTORY.createXMLStreamReader(source.getInputStream());
+        }
+        if (source.getReader() != null) {
+            return XML_INPUT_FACTORY.createXMLStreamReader(source.getReader());
+        }
+        return XML_INPUT_FACTORY.createXMLStreamReader(source);
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
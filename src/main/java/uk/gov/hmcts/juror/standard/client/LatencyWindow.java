@@ -0,0 +1,43 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed size ring buffer of the most recent latency samples, in nanoseconds.
+ */
+final class LatencyWindow {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+
+    LatencyWindow(int size) {
+        this.samples = new AtomicLongArray(size);
+    }
+
+    void record(long nanos) {
+        samples.set((int) (count.getAndIncrement() % samples.length()), nanos);
+    }
+
+    int getSampleCount() {
+        return (int) Math.min(count.get(), samples.length());
+    }
+
+    /**
+     * Nearest rank percentile of the recorded samples, or -1 if there are none.
+     */
+    long getPercentile(double percentile) {
+        final int sampleCount = getSampleCount();
+        if (sampleCount == 0) {
+            return -1;
+        }
+        long[] sorted = new long[sampleCount];
+        for (int i = 0; i < sampleCount; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * sampleCount) - 1;
+        return sorted[Math.max(0, Math.min(rank, sampleCount - 1))];
+    }
+}
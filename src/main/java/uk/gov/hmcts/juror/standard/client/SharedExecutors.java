@@ -0,0 +1,139 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Executors shared by the SOAP clients and outbound JWT interceptors that are not given their own.
+ *
+ * <p>Each executor is created on first use and shut down by {@link #shutdownAll()} when the application context
+ * closes. Asking for one after it has been shut down creates a new one.
+ */
+@Slf4j
+public final class SharedExecutors {
+
+    static final int CALL_THREADS = 200;
+    static final int CALL_QUEUE_CAPACITY = 10_000;
+    private static final Duration KEEP_ALIVE = Duration.ofSeconds(60);
+
+    private static final AtomicReference<ScheduledExecutorService> PROBE_SCHEDULER = new AtomicReference<>();
+    private static final AtomicReference<ExecutorService> CALL_EXECUTOR = new AtomicReference<>();
+    private static final AtomicReference<ExecutorService> HEDGE_EXECUTOR = new AtomicReference<>();
+    private static final AtomicReference<ExecutorService> TOKEN_REFRESH_EXECUTOR = new AtomicReference<>();
+
+    private SharedExecutors() {
+
+    }
+
+    /**
+     * Single daemon thread running {@link EndpointHealthTracker} probes.
+     */
+    public static ScheduledExecutorService getProbeScheduler() {
+        return get(PROBE_SCHEDULER,
+            () -> Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("endpoint-health-probe")));
+    }
+
+    /**
+     * Runs SOAP calls for {@link SoapWebServiceTemplate}s created without an executor. On Java 21 and later every
+     * call gets its own virtual thread, so blocking I/O does not cap how many are in flight. On older runtimes at
+     * most {@value #CALL_THREADS} calls run at once on platform threads and at most {@value #CALL_QUEUE_CAPACITY}
+     * more wait; further tasks are rejected.
+     */
+    public static ExecutorService getCallExecutor() {
+        return get(CALL_EXECUTOR, () -> create("soap-web-service-template"));
+    }
+
+    /**
+     * Runs the attempts of hedged calls, created the same way as {@link #getCallExecutor()}. Kept apart from it so
+     * a hedged call running on a bounded call executor never waits for attempts queued behind other calls.
+     */
+    public static ExecutorService getHedgeExecutor() {
+        return get(HEDGE_EXECUTOR, () -> create("soap-web-service-hedge"));
+    }
+
+    /**
+     * Single daemon thread refreshing the tokens of
+     * {@link uk.gov.hmcts.juror.standard.client.interceptor.JwtAuthenticationInterceptor}s, so signing never takes
+     * a thread from the common pool that application code may depend on.
+     */
+    public static ExecutorService getTokenRefreshExecutor() {
+        return get(TOKEN_REFRESH_EXECUTOR,
+            () -> Executors.newSingleThreadExecutor(daemonThreadFactory("jwt-token-refresh")));
+    }
+
+    /**
+     * Shuts down every shared executor, interrupting tasks still running. Intended for application shutdown and
+     * tests.
+     */
+    public static void shutdownAll() {
+        shutdown(PROBE_SCHEDULER);
+        shutdown(CALL_EXECUTOR);
+        shutdown(HEDGE_EXECUTOR);
+        shutdown(TOKEN_REFRESH_EXECUTOR);
+    }
+
+    //Virtual threads are only available from Java 21 and the library is built against Java 17
+    static ExecutorService create(String name) {
+        try {
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L);
+            final ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            log.debug("Virtual threads not supported, using a bounded pool of platform threads", e);
+            return createBounded(name, CALL_THREADS, CALL_QUEUE_CAPACITY);
+        }
+    }
+
+    static ExecutorService createBounded(String name, int threads, int queueCapacity) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+            KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity),
+            daemonThreadFactory(name));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static <E extends ExecutorService> E get(AtomicReference<E> reference, Supplier<E> factory) {
+        E executor = reference.get();
+        while (executor == null) {
+            final E created = factory.get();
+            if (reference.compareAndSet(null, created)) {
+                executor = created;
+            } else {
+                //Another thread won the race, its executor is used instead
+                created.shutdownNow();
+                executor = reference.get();
+            }
+        }
+        return executor;
+    }
+
+    private static void shutdown(AtomicReference<? extends ExecutorService> reference) {
+        final ExecutorService executor = reference.getAndSet(null);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    static ThreadFactory daemonThreadFactory(String name) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
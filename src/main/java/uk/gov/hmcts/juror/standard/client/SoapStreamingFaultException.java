@@ -0,0 +1,26 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import lombok.Getter;
+import org.springframework.ws.client.WebServiceClientException;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a streamed SOAP response contains a SOAP fault, the streaming equivalent of
+ * {@link org.springframework.ws.soap.client.SoapFaultClientException}.
+ */
+@Getter
+public class SoapStreamingFaultException extends WebServiceClientException {
+
+    @Serial
+    private static final long serialVersionUID = 6027911356345231187L;
+
+    private final String faultCode;
+    private final String faultString;
+
+    public SoapStreamingFaultException(String faultCode, String faultString) {
+        super(faultString == null ? "SOAP fault" : faultString);
+        this.faultCode = faultCode;
+        this.faultString = faultString;
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.springframework.ws.client.WebServiceClientException;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a streamed SOAP response is used in a way that needs it buffered: writing it out, for example by
+ * trace level {@link org.springframework.ws.client.core.WebServiceTemplate#MESSAGE_TRACING_LOG_CATEGORY message
+ * tracing}, or writing to its payload. Streamed responses can only be read once, through the extractor passed to
+ * {@link SoapWebServiceTemplate#callStreaming(Object, StaxResponseExtractor)}.
+ */
+public class SoapStreamingUnsupportedException extends WebServiceClientException {
+
+    @Serial
+    private static final long serialVersionUID = -3140256087523919742L;
+
+    public SoapStreamingUnsupportedException(String message) {
+        super(message);
+    }
+}
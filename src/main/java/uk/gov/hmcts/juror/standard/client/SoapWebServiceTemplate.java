@@ -1,27 +1,111 @@
 package uk.gov.hmcts.juror.standard.client;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpHead;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.CollectionUtils;
+import org.springframework.ws.InvalidXmlException;
+import org.slf4j.LoggerFactory;
 import org.springframework.ws.client.core.WebServiceTemplate;
+import org.springframework.ws.client.support.interceptor.ClientInterceptor;
+import org.springframework.ws.soap.client.SoapFaultClientException;
 import org.springframework.ws.soap.saaj.SaajSoapMessage;
+import org.springframework.ws.support.MarshallingUtils;
+import org.springframework.ws.transport.WebServiceMessageSender;
+import org.springframework.ws.transport.http.ClientHttpRequestMessageSender;
+import uk.gov.hmcts.juror.standard.Utilities;
+import uk.gov.hmcts.juror.standard.config.AbortableHttpRequestFactory;
+import uk.gov.hmcts.juror.standard.config.BatchConfig;
+import uk.gov.hmcts.juror.standard.config.CircuitBreakerConfig;
+import uk.gov.hmcts.juror.standard.config.HedgeConfig;
+import uk.gov.hmcts.juror.standard.config.HttpConnectionManagers;
 import uk.gov.hmcts.juror.standard.config.SoapConfig;
 import uk.gov.hmcts.juror.standard.config.WebConfig;
 import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
+/**
+ * Calls a SOAP service with failover.
+ *
+ * <p>Endpoints are tried in the order given by {@link EndpointHealthTracker#getEndpointsInPriorityOrder()}, so an
+ * endpoint that keeps failing is skipped in favour of a healthy one until it recovers.
+ *
+ * <p>When {@link SoapConfig#getHedge()} is enabled and the first endpoint has not answered within the configured
+ * latency percentile, the request is also sent to the next endpoint. The first successful response is returned
+ * and the slower call is aborted: when the template sends through an {@link AbortableHttpRequestFactory} its
+ * connection is closed, otherwise its thread is only interrupted and it keeps running until it completes or times
+ * out. Hedged attempts always run on {@link SharedExecutors#getHedgeExecutor()}, never on {@link #executor()}, so
+ * a hedged call made from an {@link #executor()} thread cannot wait on work queued behind itself.
+ *
+ * <p>{@link #callAsync(Object)} runs the same failover logic on {@link #executor()}, which defaults to
+ * {@link SharedExecutors#getCallExecutor()}: a virtual thread per call on Java 21 and later.
+ *
+ * <p>{@link #callStreaming(Object, StaxResponseExtractor)} and {@link #callForEach(Object, QName, Class, Consumer)}
+ * read the response body with StAX straight from the connection instead of building a SAAJ DOM, for responses too
+ * large to hold in memory. They use {@link #streaming()}, a copy of each endpoint template made when this is
+ * created, in endpoint index order. They fail over like {@link #call(Object)} until the response body starts being
+ * read, but are never hedged. The response is never buffered, so those copies only keep the interceptors that
+ * implement {@link StreamingClientInterceptor}, and a streamed call is refused with a
+ * {@link SoapStreamingUnsupportedException} while trace level message tracing of received messages, which writes
+ * the whole response out, is enabled.
+ *
+ * <p>{@link #callBatch(List)} splits a list of requests into batches of {@link BatchConfig#getSize()}, each sent
+ * one request after another on {@link #executor()}, with at most {@link BatchConfig#getMaxConcurrency()} batches
+ * in flight.
+ */
 @Slf4j
 public record SoapWebServiceTemplate(
-    SoapConfig config, WebServiceTemplate primary, List<WebServiceTemplate> failover) {
+    SoapConfig config, WebServiceTemplate primary, List<WebServiceTemplate> failover,
+    List<WebServiceTemplate> streaming, EndpointHealthTracker<WebServiceTemplate> health,
+    ExecutorService executor) {
+
+    public SoapWebServiceTemplate(SoapConfig config, WebServiceTemplate primary,
+                                  List<WebServiceTemplate> failover) {
+        this(config, primary, failover, SharedExecutors.getCallExecutor());
+    }
+
+    public SoapWebServiceTemplate(SoapConfig config, WebServiceTemplate primary,
+                                  List<WebServiceTemplate> failover, ExecutorService executor) {
+        this(config, primary, failover, createStreamingTemplates(primary, failover),
+            createHealthTracker(config, primary, failover), executor);
+    }
 
     public static SoapWebServiceTemplate create(SoapConfig config,
                                                 Function<WebConfig, WebServiceTemplate> webServiceFunction) {
+        return create(config, webServiceFunction, SharedExecutors.getCallExecutor());
+    }
+
+    public static SoapWebServiceTemplate create(SoapConfig config,
+                                                Function<WebConfig, WebServiceTemplate> webServiceFunction,
+                                                ExecutorService executor) {
         return new SoapWebServiceTemplate(
             config,
             webServiceFunction.apply(config),
-            createFailover(config, webServiceFunction)
+            createFailover(config, webServiceFunction),
+            executor
         );
     }
 
@@ -37,42 +121,466 @@ public record SoapWebServiceTemplate(
         return failoverList;
     }
 
-    private <T, R> R callPrimary(T request) {
-        return call(request, this.primary());
+    private static EndpointHealthTracker<WebServiceTemplate> createHealthTracker(
+        SoapConfig config, WebServiceTemplate primary, List<WebServiceTemplate> failover) {
+        List<EndpointHealthTracker.Endpoint<WebServiceTemplate>> endpoints = new ArrayList<>();
+        endpoints.add(new EndpointHealthTracker.Endpoint<>(0, config.getUri(), primary));
+        if (failover != null) {
+            for (int index = 0; index < failover.size(); index++) {
+                endpoints.add(new EndpointHealthTracker.Endpoint<>(index + 1, getFailoverUri(config, index),
+                    failover.get(index)));
+            }
+        }
+        final CircuitBreakerConfig circuitBreaker =
+            config.getCircuitBreaker() == null ? new CircuitBreakerConfig() : config.getCircuitBreaker();
+        return new EndpointHealthTracker<>(endpoints, circuitBreaker,
+            endpoint -> isReachable(endpoint, circuitBreaker.getProbeTimeout()));
+    }
+
+    /**
+     * Sends a HEAD request through the endpoint's own HttpClient, so the probe goes through the same proxy, TLS
+     * settings and connection pool as real calls. Any response, whatever its status, counts as reachable. Falls
+     * back to opening a socket when the template does not send with an Apache HttpClient.
+     */
+    static boolean isReachable(EndpointHealthTracker.Endpoint<WebServiceTemplate> endpoint, Duration timeout) {
+        final HttpClient httpClient = getHttpClient(endpoint.getTarget());
+        if (httpClient == null) {
+            return EndpointHealthTracker.isReachable(endpoint, timeout);
+        }
+        final HttpHead head = new HttpHead(endpoint.getUri());
+        head.setConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(HttpConnectionManagers.toTimeout(timeout))
+            .setResponseTimeout(HttpConnectionManagers.toTimeout(timeout))
+            .build());
+        try {
+            return httpClient.execute(head, response -> true);
+        } catch (IOException exception) {
+            log.debug("Probe of endpoint {} failed", endpoint.getUri(), exception);
+            return false;
+        }
+    }
+
+    private static HttpClient getHttpClient(WebServiceTemplate template) {
+        final WebServiceMessageSender[] senders = template.getMessageSenders();
+        if (senders == null) {
+            return null;
+        }
+        for (WebServiceMessageSender sender : senders) {
+            if (sender instanceof ClientHttpRequestMessageSender httpSender
+                && httpSender.getRequestFactory() instanceof HttpComponentsClientHttpRequestFactory factory) {
+                return factory.getHttpClient();
+            }
+        }
+        return null;
+    }
+
+    private static String getFailoverUri(SoapConfig config, int index) {
+        List<WebConfig> failoverConfig = config.getFailoverConfig();
+        if (failoverConfig != null && index < failoverConfig.size()) {
+            return failoverConfig.get(index).getUri();
+        }
+        return config.getUri();
     }
 
     public <T, R> R call(T request) {
-        Exception lastException;
+        List<EndpointHealthTracker.Endpoint<WebServiceTemplate>> endpoints =
+            this.health().getEndpointsInPriorityOrder();
+        HedgeConfig hedge = this.config().getHedge();
+        if (hedge != null && hedge.isEnabled() && endpoints.size() > 1) {
+            return callHedged(request, endpoints, hedge);
+        }
+        return callSequentially(endpoint -> call(request, endpoint), endpoints, null, () -> true);
+    }
+
+    /**
+     * Calls the service on {@link #executor()} using {@link SoapConfig#getAsyncTimeout()}.
+     */
+    public <T, R> CompletableFuture<R> callAsync(T request) {
+        return callAsync(request, this.config().getAsyncTimeout());
+    }
+
+    /**
+     * Calls the service on {@link #executor()}. The future completes exceptionally with the same
+     * {@link RemoteGatewayException} {@link #call(Object)} would throw, with a
+     * {@link java.util.concurrent.TimeoutException} if the timeout elapses first, or with a
+     * {@link RejectedExecutionException} if the executor is full. Timing out or cancelling the future aborts the
+     * request in progress and interrupts the call.
+     *
+     * @param timeout the maximum time to wait for every failover attempt, null for no timeout
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public <T, R> CompletableFuture<R> callAsync(T request, Duration timeout) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final AbortableHttpRequestFactory.Abort abort = new AbortableHttpRequestFactory.Abort();
+        final Future<?> task;
+        try {
+            task = this.executor().submit(() -> {
+                try {
+                    result.complete(AbortableHttpRequestFactory.callAbortable(abort, () -> call(request)));
+                } catch (Throwable e) {
+                    //Anything not passed on would leave the future waiting forever when there is no timeout
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        if (timeout != null) {
+            result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        result.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                abort.abort();
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Calls the service once per request using {@link SoapConfig#getBatch()}.
+     *
+     * @return a result per request, in the same order as the requests
+     */
+    public <T, R> List<BatchResult<R>> callBatch(List<T> requests) {
+        BatchConfig batch = this.config().getBatch() == null ? new BatchConfig() : this.config().getBatch();
+        return callBatch(requests, batch.getSize(), batch.getMaxConcurrency());
+    }
+
+    /**
+     * Calls the service once per request, with the same failover as {@link #call(Object)}. A failed request is
+     * reported in its result and does not stop the rest of the batch. A batch the executor rejects is sent on the
+     * calling thread.
+     *
+     * @return a result per request, in the same order as the requests
+     */
+    public <T, R> List<BatchResult<R>> callBatch(List<T> requests, int batchSize, int maxConcurrency) {
+        if (batchSize < 1 || maxConcurrency < 1) {
+            throw new IllegalArgumentException("batchSize and maxConcurrency must be at least 1");
+        }
+        final AtomicReferenceArray<BatchResult<R>> results = new AtomicReferenceArray<>(requests.size());
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        final List<Future<?>> futures = new ArrayList<>();
+        final List<AbortableHttpRequestFactory.Abort> aborts = new ArrayList<>();
+        boolean completed = false;
+        try {
+            int offset = 0;
+            for (List<T> batch : Utilities.getBatches(requests, batchSize)) {
+                permits.acquire();
+                final int batchOffset = offset;
+                final AbortableHttpRequestFactory.Abort abort = new AbortableHttpRequestFactory.Abort();
+                final Runnable task = () -> {
+                    try {
+                        AbortableHttpRequestFactory.callAbortable(abort, () -> {
+                            for (int index = 0; index < batch.size(); index++) {
+                                results.set(batchOffset + index, callForResult(batch.get(index)));
+                            }
+                            return null;
+                        });
+                    } finally {
+                        permits.release();
+                    }
+                };
+                try {
+                    futures.add(this.executor().submit(task));
+                    aborts.add(abort);
+                } catch (RejectedExecutionException e) {
+                    log.warn("Executor full, sending batch on the calling thread", e);
+                    task.run();
+                }
+                offset += batch.size();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RemoteGatewayException("Interrupted calling: " + this.config().getRequestMethod(), e);
+        } catch (ExecutionException e) {
+            throw new RemoteGatewayException("Failed to call: " + this.config().getRequestMethod(), e.getCause());
+        } finally {
+            if (!completed) {
+                aborts.forEach(AbortableHttpRequestFactory.Abort::abort);
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+        List<BatchResult<R>> orderedResults = new ArrayList<>(results.length());
+        for (int index = 0; index < results.length(); index++) {
+            orderedResults.add(results.get(index));
+        }
+        return orderedResults;
+    }
+
+    private <T, R> BatchResult<R> callForResult(T request) {
+        try {
+            return BatchResult.success(call(request));
+        } catch (RuntimeException e) {
+            return BatchResult.failure(e);
+        }
+    }
+
+    /**
+     * Calls the service and passes the response body to the extractor as a StAX reader.
+     *
+     * @throws RemoteGatewayException if every endpoint fails, or as soon as the extractor fails
+     * @throws SoapStreamingUnsupportedException if trace level message tracing of received messages is enabled
+     */
+    public <T, R> R callStreaming(T request, StaxResponseExtractor<R> extractor) {
+        if (LoggerFactory.getLogger(WebServiceTemplate.MESSAGE_TRACING_LOG_CATEGORY + ".received").isTraceEnabled()) {
+            throw new SoapStreamingUnsupportedException(
+                "Streamed SOAP responses cannot be traced, disable trace logging for received message tracing");
+        }
+        final AtomicBoolean reading = new AtomicBoolean();
+        return callSequentially(endpoint -> callStreaming(request, endpoint, extractor, reading),
+            this.health().getEndpointsInPriorityOrder(), null, () -> !reading.get());
+    }
+
+    /**
+     * Calls the service and unmarshals every element called {@code elementName} in the response body as
+     * {@code elementType}, passing each to the consumer as soon as it is read. The endpoint templates must use a
+     * {@link JaxbMarshallerPool} as their unmarshaller.
+     *
+     * @return the number of elements passed to the consumer
+     */
+    public <T, E> long callForEach(T request, QName elementName, Class<E> elementType, Consumer<E> consumer) {
+        return callStreaming(request, reader -> {
+            final JaxbMarshallerPool unmarshaller = getStreamingUnmarshaller();
+            long count = 0;
+            while (reader.hasNext()) {
+                if (reader.isStartElement() && elementName.equals(reader.getName())) {
+                    //Leaves the reader on the event after the element, which may be the next match
+                    consumer.accept(unmarshaller.unmarshal(reader, elementType));
+                    count++;
+                } else {
+                    reader.next();
+                }
+            }
+            return count;
+        });
+    }
+
+    private JaxbMarshallerPool getStreamingUnmarshaller() {
+        if (this.primary().getUnmarshaller() instanceof JaxbMarshallerPool jaxbMarshallerPool) {
+            return jaxbMarshallerPool;
+        }
+        throw new IllegalStateException("callForEach requires a JaxbMarshallerPool unmarshaller");
+    }
+
+    private <T, R> R callStreaming(T request, EndpointHealthTracker.Endpoint<WebServiceTemplate> endpoint,
+                                   StaxResponseExtractor<R> extractor, AtomicBoolean reading) {
+        final WebServiceTemplate template = this.streaming().get(endpoint.getIndex());
+        return template.sendAndReceive(endpoint.getUri(), message -> {
+            MarshallingUtils.marshal(template.getMarshaller(), request, message);
+            ((SaajSoapMessage) message).setSoapAction(config.getSoapAction());
+        }, message -> {
+            StreamingSoapResponse response = (StreamingSoapResponse) message;
+            try {
+                XMLStreamReader reader = response.getBodyReader();
+                reading.set(true);
+                return extractor.extract(reader);
+            } catch (XMLStreamException e) {
+                throw new InvalidXmlException("Could not read SOAP response", e);
+            } finally {
+                closeQuietly(response);
+            }
+        });
+    }
+
+    private static void closeQuietly(StreamingSoapResponse response) {
         try {
-            return callPrimary(request);
-        } catch (Exception e) {
-            log.error(
-                "Unexpected error when trying to connect to primary service", e);
-            lastException = e;
+            response.close();
+        } catch (XMLStreamException e) {
+            log.debug("Failed to close streamed SOAP response", e);
+        }
+    }
+
+    private static List<WebServiceTemplate> createStreamingTemplates(WebServiceTemplate primary,
+                                                                     List<WebServiceTemplate> failover) {
+        List<WebServiceTemplate> streaming = new ArrayList<>();
+        streaming.add(createStreamingTemplate(primary));
+        if (failover != null) {
+            failover.forEach(template -> streaming.add(createStreamingTemplate(template)));
         }
+        return List.copyOf(streaming);
+    }
+
+    /**
+     * A copy of the template that creates {@link StreamingSoapResponse}s. The check connection flags have no
+     * getters to copy them from, so they are set to the defaults every template from
+     * {@link SoapWebServiceTemplateFactory} uses, under which a fault sent with an HTTP 500 is resolved as a fault
+     * rather than failing as a transport error. Interceptors that are not {@link StreamingClientInterceptor}s are
+     * left off, as they may read or write the response.
+     */
+    static WebServiceTemplate createStreamingTemplate(WebServiceTemplate source) {
+        WebServiceTemplate streamingTemplate =
+            new WebServiceTemplate(new StreamingWebServiceMessageFactory(source.getMessageFactory()));
+        streamingTemplate.setMessageSenders(source.getMessageSenders());
+        streamingTemplate.setMarshaller(source.getMarshaller());
+        streamingTemplate.setUnmarshaller(source.getUnmarshaller());
+        streamingTemplate.setInterceptors(getStreamingInterceptors(source));
+        streamingTemplate.setFaultMessageResolver(
+            new StreamingFaultMessageResolver(source.getFaultMessageResolver()));
+        streamingTemplate.setCheckConnectionForFault(true);
+        streamingTemplate.setCheckConnectionForError(true);
+        return streamingTemplate;
+    }
 
-        if (!CollectionUtils.isEmpty(this.failover())) {
-            log.info("Attempting failover clients");
+    private static ClientInterceptor[] getStreamingInterceptors(WebServiceTemplate source) {
+        final List<ClientInterceptor> streamingInterceptors = new ArrayList<>();
+        if (source.getInterceptors() == null) {
+            return new ClientInterceptor[0];
         }
-        int count = 1;
-        for (WebServiceTemplate webServiceTemplate : this.failover()) {
+        for (ClientInterceptor interceptor : source.getInterceptors()) {
+            if (interceptor instanceof StreamingClientInterceptor) {
+                streamingInterceptors.add(interceptor);
+            } else {
+                log.warn("Interceptor {} is not a StreamingClientInterceptor so does not run on streamed calls",
+                    interceptor.getClass().getName());
+            }
+        }
+        return streamingInterceptors.toArray(new ClientInterceptor[0]);
+    }
+
+    private <R> R callSequentially(Function<EndpointHealthTracker.Endpoint<WebServiceTemplate>, R> action,
+                                   List<EndpointHealthTracker.Endpoint<WebServiceTemplate>> endpoints,
+                                   Exception previousException, BooleanSupplier canFailover) {
+        Exception lastException = previousException;
+        for (EndpointHealthTracker.Endpoint<WebServiceTemplate> endpoint : endpoints) {
             try {
-                return call(request, webServiceTemplate);
+                return callAndRecord(endpoint, action);
             } catch (Exception e) {
-                log.error(
-                    "Unexpected error when trying to connect to Failover client: attempting failover client " + count++,
-                    e);
                 lastException = e;
+                if (e instanceof InterruptedException || Thread.currentThread().isInterrupted()
+                    || AbortableHttpRequestFactory.isCurrentCallAborted()) {
+                    //Cancelled by the caller so there is no point trying the remaining endpoints
+                    break;
+                }
+                if (!canFailover.getAsBoolean()) {
+                    break;
+                }
             }
         }
         throw new RemoteGatewayException("Failed to call: " + this.config().getRequestMethod(), lastException);
     }
 
+    private <T, R> R callHedged(T request, List<EndpointHealthTracker.Endpoint<WebServiceTemplate>> endpoints,
+                                HedgeConfig hedge) {
+        final CompletionService<R> completionService =
+            new ExecutorCompletionService<>(SharedExecutors.getHedgeExecutor());
+        final List<Future<R>> futures = new ArrayList<>(2);
+        final List<AbortableHttpRequestFactory.Abort> aborts = new ArrayList<>(2);
+        final long hedgeDelay = getHedgeDelay(endpoints.get(0), hedge).toNanos();
+        final Function<EndpointHealthTracker.Endpoint<WebServiceTemplate>, R> action =
+            endpoint -> call(request, endpoint);
+        try {
+            submitAttempt(completionService, futures, aborts, endpoints.get(0), action);
+        } catch (RejectedExecutionException e) {
+            log.warn("Executor full, calling without hedging", e);
+            return callSequentially(action, endpoints, null, () -> true);
+        }
+        int outstanding = 1;
+        boolean hedgeTried = false;
+        Exception lastException = null;
+        try {
+            while (outstanding > 0) {
+                Future<R> completed = hedgeTried
+                    ? completionService.take()
+                    : completionService.poll(hedgeDelay, TimeUnit.NANOSECONDS);
+                if (completed != null) {
+                    outstanding--;
+                    try {
+                        return completed.get();
+                    } catch (ExecutionException e) {
+                        lastException = e.getCause() instanceof Exception cause ? cause : e;
+                    }
+                }
+                if (!hedgeTried) {
+                    //Either the first endpoint is slow or it has already failed
+                    hedgeTried = true;
+                    try {
+                        submitAttempt(completionService, futures, aborts, endpoints.get(1), action);
+                        outstanding++;
+                    } catch (RejectedExecutionException e) {
+                        //Executor full so wait for the first endpoint, then fail over to the second as normal
+                        log.warn("Executor full, not hedging", e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RemoteGatewayException("Interrupted calling: " + this.config().getRequestMethod(), e);
+        } finally {
+            //Closes the losing attempt's connection as interrupting alone does not stop HttpClient I/O
+            for (int index = 0; index < futures.size(); index++) {
+                if (!futures.get(index).isDone()) {
+                    aborts.get(index).abort();
+                    futures.get(index).cancel(true);
+                }
+            }
+        }
+        return callSequentially(action, endpoints.subList(futures.size(), endpoints.size()), lastException,
+            () -> true);
+    }
+
+    private <R> void submitAttempt(CompletionService<R> completionService, List<Future<R>> futures,
+                                   List<AbortableHttpRequestFactory.Abort> aborts,
+                                   EndpointHealthTracker.Endpoint<WebServiceTemplate> endpoint,
+                                   Function<EndpointHealthTracker.Endpoint<WebServiceTemplate>, R> action) {
+        final AbortableHttpRequestFactory.Abort abort = new AbortableHttpRequestFactory.Abort();
+        futures.add(completionService.submit(
+            () -> AbortableHttpRequestFactory.callAbortable(abort, () -> callAndRecord(endpoint, action))));
+        aborts.add(abort);
+    }
+
+    static Duration getHedgeDelay(EndpointHealthTracker.Endpoint<?> endpoint, HedgeConfig hedge) {
+        if (endpoint.getSuccessLatencySampleCount() < hedge.getMinSamples()) {
+            return hedge.getMaxDelay();
+        }
+        Duration delay = endpoint.getSuccessLatencyPercentile(hedge.getPercentile());
+        if (delay.compareTo(hedge.getMinDelay()) < 0) {
+            return hedge.getMinDelay();
+        }
+        return delay.compareTo(hedge.getMaxDelay()) > 0 ? hedge.getMaxDelay() : delay;
+    }
+
+    private <R> R callAndRecord(EndpointHealthTracker.Endpoint<WebServiceTemplate> endpoint,
+                                Function<EndpointHealthTracker.Endpoint<WebServiceTemplate>, R> action) {
+        final long start = System.nanoTime();
+        try {
+            R response = action.apply(endpoint);
+            this.health().recordSuccess(endpoint, Duration.ofNanos(System.nanoTime() - start));
+            return response;
+        } catch (SoapFaultClientException | SoapStreamingFaultException e) {
+            //The endpoint responded so is still healthy, the fault is handled like any other failure
+            this.health().recordSuccess(endpoint, Duration.ofNanos(System.nanoTime() - start));
+            logFailure(endpoint, e);
+            throw e;
+        } catch (RuntimeException e) {
+            //A hedged call cancelled because the other endpoint answered first is not a failure of this endpoint
+            if (!Thread.currentThread().isInterrupted() && !AbortableHttpRequestFactory.isCurrentCallAborted()) {
+                this.health().recordFailure(endpoint, Duration.ofNanos(System.nanoTime() - start));
+                logFailure(endpoint, e);
+            }
+            throw e;
+        }
+    }
+
+    private void logFailure(EndpointHealthTracker.Endpoint<WebServiceTemplate> endpoint, Exception exception) {
+        if (endpoint.getIndex() == 0) {
+            log.error("Unexpected error when trying to connect to primary service", exception);
+        } else {
+            log.error("Unexpected error when trying to connect to Failover client: " + endpoint.getIndex(),
+                exception);
+        }
+    }
+
 
     @SuppressWarnings("unchecked")
-    private <T, R> R call(T request, WebServiceTemplate webServiceTemplate) {
-        return (R) webServiceTemplate
-            .marshalSendAndReceive(config.getUri(), request, message -> {
+    private <T, R> R call(T request, EndpointHealthTracker.Endpoint<WebServiceTemplate> endpoint) {
+        return (R) endpoint.getTarget()
+            .marshalSendAndReceive(endpoint.getUri(), request, message -> {
                 SaajSoapMessage saajSoapMessage = (SaajSoapMessage) message;
                 saajSoapMessage.setSoapAction(config.getSoapAction());
             });
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.soap.SOAPException;
+import org.springframework.ws.client.core.WebServiceTemplate;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.ws.transport.http.ClientHttpRequestMessageSender;
+import uk.gov.hmcts.juror.standard.config.SoapConfig;
+import uk.gov.hmcts.juror.standard.config.WebConfig;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Builds {@link SoapWebServiceTemplate}s from a {@link SoapConfig} without each client creating its own JAXB and
+ * SAAJ infrastructure.
+ *
+ * <p>One {@link JaxbMarshallerPool} is created per {@link SoapConfig#getRequestLocation()} (the JAXB context path)
+ * and shared by the primary and failover templates of every config using it, along with a single SAAJ message
+ * factory. Both live for the lifetime of the application.
+ */
+public final class SoapWebServiceTemplateFactory {
+
+    private static final int MAX_IDLE_MARSHALLERS = 64;
+
+    private static final Map<String, JaxbMarshallerPool> MARSHALLERS = new ConcurrentHashMap<>();
+    private static final AtomicReference<SaajSoapMessageFactory> MESSAGE_FACTORY = new AtomicReference<>();
+
+    private SoapWebServiceTemplateFactory() {
+
+    }
+
+    public static SoapWebServiceTemplate create(SoapConfig config) {
+        final JaxbMarshallerPool marshaller = getMarshaller(config);
+        return SoapWebServiceTemplate.create(config, webConfig -> createWebServiceTemplate(webConfig, marshaller));
+    }
+
+    public static SoapWebServiceTemplate create(SoapConfig config, ExecutorService executor) {
+        final JaxbMarshallerPool marshaller = getMarshaller(config);
+        return SoapWebServiceTemplate.create(config, webConfig -> createWebServiceTemplate(webConfig, marshaller),
+            executor);
+    }
+
+    public static WebServiceTemplate createWebServiceTemplate(WebConfig webConfig, JaxbMarshallerPool marshaller) {
+        WebServiceTemplate webServiceTemplate = new WebServiceTemplate(getMessageFactory());
+        webServiceTemplate.setMarshaller(marshaller);
+        webServiceTemplate.setUnmarshaller(marshaller);
+        //SOAP calls are always POSTs, so they are retried unless retry.retryNonIdempotent is set to false
+        webServiceTemplate.setMessageSender(
+            new ClientHttpRequestMessageSender(WebConfig.getRequestFactory(webConfig, true)));
+        return webServiceTemplate;
+    }
+
+    public static JaxbMarshallerPool getMarshaller(SoapConfig config) {
+        return MARSHALLERS.computeIfAbsent(config.getRequestLocation(), contextPath -> {
+            try {
+                return new JaxbMarshallerPool(contextPath, MAX_IDLE_MARSHALLERS);
+            } catch (JAXBException e) {
+                throw new InternalServerException("Unable to create JAXB context for: " + contextPath, e);
+            }
+        });
+    }
+
+    public static SaajSoapMessageFactory getMessageFactory() {
+        SaajSoapMessageFactory messageFactory = MESSAGE_FACTORY.get();
+        if (messageFactory != null) {
+            return messageFactory;
+        }
+        try {
+            messageFactory = new SaajSoapMessageFactory(jakarta.xml.soap.MessageFactory.newInstance());
+        } catch (SOAPException e) {
+            throw new InternalServerException("Unable to create SAAJ message factory", e);
+        }
+        //Another thread may have won the race, in which case its factory is used
+        return MESSAGE_FACTORY.compareAndSet(null, messageFactory) ? messageFactory : MESSAGE_FACTORY.get();
+    }
+
+    /**
+     * Forgets every cached marshaller and message factory. Intended for tests.
+     */
+    public static void clear() {
+        MARSHALLERS.clear();
+        MESSAGE_FACTORY.set(null);
+    }
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads a streamed SOAP response body. The reader is positioned on the first element inside the SOAP body (or on
+ * the end of the body if it is empty) and is only valid until this method returns.
+ */
+@FunctionalInterface
+public interface StaxResponseExtractor<R> {
+    R extract(XMLStreamReader reader) throws XMLStreamException;
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.springframework.ws.client.support.interceptor.ClientInterceptor;
+
+/**
+ * A {@link ClientInterceptor} that can also run on the templates {@link SoapWebServiceTemplate} uses for streamed
+ * calls. It must not read, write or replace the response message, which is read once by the caller's extractor.
+ * Interceptors that do not implement this, such as payload validating or logging interceptors, are left off those
+ * templates.
+ */
+public interface StreamingClientInterceptor extends ClientInterceptor {
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ws.InvalidXmlException;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.client.core.FaultMessageResolver;
+
+import java.io.IOException;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Resolves faults in {@link StreamingSoapResponse}s by reading the body, which throws a
+ * {@link SoapStreamingFaultException}. Other messages are passed to the delegate, which usually expects a SAAJ
+ * message and would fail on a streamed one.
+ */
+@Slf4j
+class StreamingFaultMessageResolver implements FaultMessageResolver {
+
+    private final FaultMessageResolver delegate;
+
+    StreamingFaultMessageResolver(FaultMessageResolver delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void resolveFault(WebServiceMessage message) throws IOException {
+        if (!(message instanceof StreamingSoapResponse response)) {
+            if (delegate != null) {
+                delegate.resolveFault(message);
+            }
+            return;
+        }
+        try {
+            response.getBodyReader();
+        } catch (XMLStreamException e) {
+            throw new InvalidXmlException("Could not read SOAP fault", e);
+        } finally {
+            try {
+                response.close();
+            } catch (XMLStreamException e) {
+                log.debug("Failed to close streamed SOAP response", e);
+            }
+        }
+        //The connection reported a fault but the body did not contain one
+        throw new SoapStreamingFaultException(null, null);
+    }
+}
@@ -0,0 +1,115 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.springframework.ws.InvalidXmlException;
+import org.springframework.ws.WebServiceMessage;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXSource;
+
+/**
+ * A SOAP response read directly from the transport stream with StAX.
+ *
+ * <p>Nothing is buffered: the envelope is read up to the body and the body contents are left for the caller, so the
+ * message can only be read once and only while the connection is open. MTOM/multipart responses are not supported.
+ * Writing the message out or writing to its payload throws a {@link SoapStreamingUnsupportedException}.
+ */
+class StreamingSoapResponse implements WebServiceMessage {
+
+    private static final Set<String> SOAP_ENVELOPE_NAMESPACES = Set.of(
+        "http://schemas.xmlsoap.org/soap/envelope/",
+        "http://www.w3.org/2003/05/soap-envelope");
+
+    private final InputStream inputStream;
+    private XMLStreamReader reader;
+
+    StreamingSoapResponse(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * Reads up to the contents of the SOAP body.
+     *
+     * @throws SoapStreamingFaultException if the body contains a SOAP fault
+     */
+    XMLStreamReader getBodyReader() throws XMLStreamException {
+        if (reader != null) {
+            throw new IllegalStateException("Streamed SOAP response can only be read once");
+        }
+        reader = JaxbMarshallerPool.XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT && isSoapElement("Body")) {
+                reader.nextTag();
+                if (reader.isStartElement() && isSoapElement("Fault")) {
+                    throw readFault();
+                }
+                return reader;
+            }
+        }
+        throw new XMLStreamException("SOAP response does not contain a body");
+    }
+
+    void close() throws XMLStreamException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    private boolean isSoapElement(String localName) {
+        return localName.equals(reader.getLocalName()) && SOAP_ENVELOPE_NAMESPACES.contains(reader.getNamespaceURI());
+    }
+
+    private SoapStreamingFaultException readFault() throws XMLStreamException {
+        String faultCode = null;
+        String faultString = null;
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                //SOAP 1.1 uses faultcode/faultstring and SOAP 1.2 uses Code/Value and Reason/Text
+                String localName = reader.getLocalName();
+                if (faultCode == null && ("faultcode".equals(localName) || "Value".equals(localName))) {
+                    faultCode = reader.getElementText();
+                } else if (faultString == null && ("faultstring".equals(localName) || "Text".equals(localName))) {
+                    faultString = reader.getElementText();
+                } else {
+                    depth++;
+                }
+            }
+        }
+        return new SoapStreamingFaultException(faultCode, faultString);
+    }
+
+    @Override
+    public Source getPayloadSource() {
+        try {
+            XMLStreamReader bodyReader = getBodyReader();
+            return bodyReader.isStartElement() ? new StAXSource(bodyReader) : null;
+        } catch (XMLStreamException e) {
+            throw new InvalidXmlException("Could not read SOAP response", e);
+        }
+    }
+
+    @Override
+    public Result getPayloadResult() {
+        throw new SoapStreamingUnsupportedException("Streamed SOAP responses are read only");
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) {
+        throw new SoapStreamingUnsupportedException("Streamed SOAP responses are not buffered so cannot be written");
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingSoapResponse[not buffered]";
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.WebServiceMessageFactory;
+
+import java.io.InputStream;
+
+/**
+ * Creates requests with the delegate factory and wraps responses in a {@link StreamingSoapResponse} so they are read
+ * with StAX instead of being parsed into a DOM.
+ */
+class StreamingWebServiceMessageFactory implements WebServiceMessageFactory {
+
+    private final WebServiceMessageFactory delegate;
+
+    StreamingWebServiceMessageFactory(WebServiceMessageFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public WebServiceMessage createWebServiceMessage() {
+        return delegate.createWebServiceMessage();
+    }
+
+    @Override
+    public WebServiceMessage createWebServiceMessage(InputStream inputStream) {
+        return new StreamingSoapResponse(inputStream);
+    }
+}
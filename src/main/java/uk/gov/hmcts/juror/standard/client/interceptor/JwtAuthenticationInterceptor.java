@@ -2,27 +2,67 @@ package uk.gov.hmcts.juror.standard.client.interceptor;
 
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
+import uk.gov.hmcts.juror.standard.client.SharedExecutors;
 import uk.gov.hmcts.juror.standard.config.JwtSecurityConfig;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
 
 import java.io.IOException;
 import java.security.Key;
+import java.time.Clock;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
-
+/**
+ * Adds a signed service JWT to outbound requests.
+ *
+ * <p>The signed token is cached and reused until {@link JwtSecurityConfig#getTokenRefreshMargin()} before it
+ * expires, at which point a replacement is generated on the refresh executor while the current token continues
+ * to be used. Only if a refresh has not completed by the time half of the margin remains does a request thread
+ * generate a token itself. Unless one is given, refreshes run on {@link SharedExecutors#getTokenRefreshExecutor()}.
+ */
+@Slf4j
 public class JwtAuthenticationInterceptor implements ClientHttpRequestInterceptor {
 
     private final JwtSecurityConfig config;
     private final JwtService jwtService;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+
+    private final AtomicReference<Key> signingKey = new AtomicReference<>();
+    private final AtomicReference<CachedToken> cachedToken = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
 
+    /**
+     * Uses the system UTC clock.
+     *
+     * @deprecated use {@link #JwtAuthenticationInterceptor(JwtService, JwtSecurityConfig, Clock)} with the
+     *     application's {@link Clock} bean, so token expiry follows the same clock as the rest of the application
+     */
+    @Deprecated
     public JwtAuthenticationInterceptor(JwtService jwtService, JwtSecurityConfig config) {
+        this(jwtService, config, Clock.systemUTC());
+    }
+
+    public JwtAuthenticationInterceptor(JwtService jwtService, JwtSecurityConfig config, Clock clock) {
+        //Looked up for each refresh, so a shared executor shut down with an earlier application context is replaced
+        this(jwtService, config, clock, task -> SharedExecutors.getTokenRefreshExecutor().execute(task));
+    }
+
+    public JwtAuthenticationInterceptor(JwtService jwtService, JwtSecurityConfig config, Clock clock,
+                                        Executor refreshExecutor) {
         this.jwtService = jwtService;
         this.config = config;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
     }
 
     @Override
@@ -31,12 +71,47 @@ public class JwtAuthenticationInterceptor implements ClientHttpRequestIntercepto
 
         HttpHeaders headers = request.getHeaders();
         if (!headers.containsKey(HttpHeaders.AUTHORIZATION)) {
-            headers.add(HttpHeaders.AUTHORIZATION,
-                Optional.ofNullable(config.getAuthenticationPrefix()).orElse("") + generateJwt());
+            headers.add(HttpHeaders.AUTHORIZATION, getAuthorizationHeader());
         }
         return execution.execute(request, body);
     }
 
+    /**
+     * The Authorization header value this interceptor adds, for clients that are not built on RestTemplate.
+     */
+    public String getAuthorizationHeader() {
+        return Optional.ofNullable(config.getAuthenticationPrefix()).orElse("") + getJwt();
+    }
+
+    String getJwt() {
+        final long now = clock.millis();
+        CachedToken token = cachedToken.get();
+        if (token == null || now >= token.hardRefreshAt()) {
+            return refresh().jwt();
+        }
+        if (now >= token.refreshAt() && refreshing.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::refresh, refreshExecutor)
+                .whenComplete((ignored, throwable) -> {
+                    refreshing.set(false);
+                    if (throwable != null) {
+                        log.warn("Failed to refresh outbound service JWT", throwable);
+                    }
+                });
+        }
+        return token.jwt();
+    }
+
+    private CachedToken refresh() {
+        final long issuedAt = clock.millis();
+        final long tokenValidity = this.config.getTokenValidity();
+        final long margin = Math.min(this.config.getTokenRefreshMargin(), tokenValidity / 2);
+        CachedToken token = new CachedToken(generateJwt(),
+            issuedAt + tokenValidity - margin,
+            issuedAt + tokenValidity - margin / 2);
+        cachedToken.set(token);
+        return token;
+    }
+
     private String generateJwt() {
         return jwtService.generateJwtToken(null, this.config.getIssuer(),
             this.config.getSubject(),
@@ -47,7 +122,10 @@ public class JwtAuthenticationInterceptor implements ClientHttpRequestIntercepto
 
     @SuppressWarnings("PMD.LawOfDemeter")
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(this.config.getSecret()));
+        return signingKey.updateAndGet(
+            key -> key == null ? Keys.hmacShaKeyFor(Decoders.BASE64.decode(this.config.getSecret())) : key);
     }
 
+    private record CachedToken(String jwt, long refreshAt, long hardRefreshAt) {
+    }
 }
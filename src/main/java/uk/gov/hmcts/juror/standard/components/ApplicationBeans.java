@@ -1,5 +1,6 @@
 package uk.gov.hmcts.juror.standard.components;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -11,6 +12,8 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import uk.gov.hmcts.juror.standard.client.SharedExecutors;
+import uk.gov.hmcts.juror.standard.config.HttpConnectionManagers;
 
 import java.security.SecureRandom;
 import java.time.Clock;
@@ -51,4 +54,11 @@ public class ApplicationBeans {
     public Clock clock() {
         return Clock.systemDefaultZone();
     }
+
+    //Shared managers and executors are held statically for clients built from config, so are closed with the context
+    @PreDestroy
+    public void closeSharedClientResources() {
+        SharedExecutors.shutdownAll();
+        HttpConnectionManagers.closeAll();
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import uk.gov.hmcts.juror.standard.cache.AuthorityGraphCache;
 import uk.gov.hmcts.juror.standard.datastore.repository.UserRepository;
 
 @Configuration
@@ -17,8 +18,15 @@ import uk.gov.hmcts.juror.standard.datastore.repository.UserRepository;
 public class ApplicationDatabaseBeans {
 
     @Bean
-    public UserDetailsService userDetailsService(UserRepository userRepository) {
-        return email -> userRepository.findUserByEmail(email)
+    public UserDetailsService userDetailsService(UserRepository userRepository,
+                                                 AuthorityGraphCache authorityGraphCache) {
+        //Authorities come from the recursive query, so the roles and permissions are never loaded or walked
+        return email -> userRepository.findByEmail(email)
+            .map(user -> {
+                authorityGraphCache.attachRoleGraph(user);
+                user.setResolvedAuthorityNames(userRepository.findAuthorityNamesByEmail(email));
+                return user;
+            })
             .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
@@ -13,6 +13,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
+import uk.gov.hmcts.juror.standard.service.contracts.auth.ParsedJwt;
 
 import java.io.IOException;
 
@@ -23,7 +24,7 @@ public abstract class AbstractJwtAuthenticationFilter
 
     protected final JwtService jwtService;
 
-    abstract UserDetails getUserDetails(String jwt);
+    abstract UserDetails getUserDetails(ParsedJwt jwt);
 
     protected AbstractJwtAuthenticationFilter(JwtService jwtService) {
         super();
@@ -40,11 +41,11 @@ public abstract class AbstractJwtAuthenticationFilter
             filterChain.doFilter(request, response);
             return;
         }
-        final String jwt = authHeader.substring(7);
-        UserDetails userDetails = getUserDetails(jwt);
+        final VerifiedJwt verifiedJwt = verify(authHeader.substring(7));
+        UserDetails userDetails = verifiedJwt.userDetails();
         if (userDetails != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             log.trace("User details found and user not already authentication");
-            if (jwtService.isJwtValid(jwt, userDetails)) {
+            if (jwtService.isJwtValid(verifiedJwt.jwt(), userDetails)) {
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
@@ -61,4 +62,12 @@ public abstract class AbstractJwtAuthenticationFilter
         }
         filterChain.doFilter(request, response);
     }
+
+    VerifiedJwt verify(String token) {
+        ParsedJwt jwt = jwtService.parseJwt(token);
+        return new VerifiedJwt(jwt, getUserDetails(jwt));
+    }
+
+    record VerifiedJwt(ParsedJwt jwt, UserDetails userDetails) {
+    }
 }
@@ -5,26 +5,31 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.standard.cache.UserDetailsCache;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
+import uk.gov.hmcts.juror.standard.service.contracts.auth.ParsedJwt;
 
 @Component
 @ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "true")
 public class JwtAuthenticationFilterDB extends AbstractJwtAuthenticationFilter {
 
     private final UserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
 
     @Autowired
-    public JwtAuthenticationFilterDB(UserDetailsService userDetailsService, JwtService jwtService) {
+    public JwtAuthenticationFilterDB(UserDetailsService userDetailsService, JwtService jwtService,
+                                     UserDetailsCache userDetailsCache) {
         super(jwtService);
         this.userDetailsService = userDetailsService;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
-    UserDetails getUserDetails(String jwt) {
-        String email = jwtService.extractEmail(jwt);
+    UserDetails getUserDetails(ParsedJwt jwt) {
+        String email = jwt.subject();
         if (email == null) {
             return null;
         }
-        return userDetailsService.loadUserByUsername(email);
+        return userDetailsCache.get(email, userDetailsService::loadUserByUsername);
     }
 }
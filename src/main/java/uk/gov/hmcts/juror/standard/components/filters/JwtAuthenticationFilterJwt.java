@@ -1,23 +1,70 @@
 package uk.gov.hmcts.juror.standard.components.filters;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.standard.cache.CachedUserDetails;
+import uk.gov.hmcts.juror.standard.cache.ExpiringCache;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
+import uk.gov.hmcts.juror.standard.service.contracts.auth.ParsedJwt;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
 
 
 @Component
 @ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "false")
 public class JwtAuthenticationFilterJwt extends AbstractJwtAuthenticationFilter {
 
+    @Getter(AccessLevel.PACKAGE)
+    private final ExpiringCache<String, VerifiedJwt> tokenCache;
+
     @Autowired
-    public JwtAuthenticationFilterJwt(JwtService jwtService) {
+    public JwtAuthenticationFilterJwt(JwtService jwtService, Clock clock,
+                                      @Value("${uk.gov.hmcts.juror.security.token-cache.enabled:false}")
+                                      boolean tokenCacheEnabled,
+                                      @Value("${uk.gov.hmcts.juror.security.token-cache.max-size:10000}")
+                                      int tokenCacheMaxSize) {
         super(jwtService);
+        this.tokenCache = tokenCacheEnabled ? new ExpiringCache<>(tokenCacheMaxSize, clock) : null;
     }
 
+    //A snapshot rather than the extracted User, as a cached principal is shared by every request using the token
     @Override
-    UserDetails getUserDetails(String jwt) {
-        return jwtService.extractUserDetails(jwt);
+    UserDetails getUserDetails(ParsedJwt jwt) {
+        final UserDetails userDetails = jwtService.extractUserDetails(jwt);
+        return userDetails == null ? null : CachedUserDetails.of(userDetails);
+    }
+
+    @Override
+    VerifiedJwt verify(String token) {
+        if (tokenCache == null) {
+            return super.verify(token);
+        }
+        //Keyed by digest so raw bearer tokens are not retained in memory
+        final String cacheKey = digest(token);
+        VerifiedJwt verifiedJwt = tokenCache.get(cacheKey);
+        if (verifiedJwt == null) {
+            verifiedJwt = super.verify(token);
+            tokenCache.put(cacheKey, verifiedJwt, verifiedJwt.jwt().expiration());
+        }
+        return verifiedJwt;
+    }
+
+    static String digest(String token) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new InternalServerException("Unable to create token digest", exception);
+        }
     }
 }
@@ -0,0 +1,87 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.URI;
+import java.util.function.Supplier;
+
+/**
+ * Request factory whose requests can be aborted from another thread.
+ *
+ * <p>Interrupting a thread blocked in HttpClient I/O does not stop the request, which keeps its connection until
+ * the response or a timeout arrives. Requests created while {@link #callAbortable(Abort, Supplier)} runs are
+ * registered with its {@link Abort}, and {@link Abort#abort()} cancels them, closing their connection so the
+ * blocked thread fails straight away.
+ */
+public class AbortableHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private static final ThreadLocal<Abort> CURRENT_ABORT = new ThreadLocal<>();
+
+    public AbortableHttpRequestFactory(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * Runs {@code action} on the calling thread, registering any request it sends through this factory with
+     * {@code abort}.
+     */
+    public static <R> R callAbortable(Abort abort, Supplier<R> action) {
+        final Abort previous = CURRENT_ABORT.get();
+        CURRENT_ABORT.set(abort);
+        try {
+            return action.get();
+        } finally {
+            CURRENT_ABORT.set(previous);
+        }
+    }
+
+    /**
+     * Whether the {@link Abort} of the {@link #callAbortable(Abort, Supplier)} running on the calling thread has been
+     * aborted.
+     */
+    public static boolean isCurrentCallAborted() {
+        final Abort abort = CURRENT_ABORT.get();
+        return abort != null && abort.isAborted();
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+        final ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+        final Abort abort = CURRENT_ABORT.get();
+        if (abort != null && request instanceof Cancellable cancellable) {
+            abort.register(cancellable);
+        }
+        return request;
+    }
+
+    /**
+     * Handle used to abort the request currently sent by a {@link #callAbortable(Abort, Supplier)} call. Once
+     * aborted, any further request registered with it is cancelled immediately.
+     */
+    public static final class Abort {
+        private Cancellable current;
+        private boolean aborted;
+
+        synchronized void register(Cancellable request) {
+            this.current = request;
+            if (this.aborted) {
+                request.cancel();
+            }
+        }
+
+        public synchronized void abort() {
+            this.aborted = true;
+            if (this.current != null) {
+                this.current.cancel();
+            }
+        }
+
+        public synchronized boolean isAborted() {
+            return this.aborted;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+import org.apache.hc.core5.http.ConnectionClosedException;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpRequestInterceptor;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import javax.net.ssl.SSLException;
+
+/**
+ * HttpClient retry strategy with exponential backoff, jitter, a retry budget and {@code Retry-After} support.
+ *
+ * <p>Only idempotent methods are retried unless {@link WebConfig.Retry#getRetryNonIdempotent()} is set, or is unset
+ * and the strategy was created to retry them by default. The strategy must also be registered as a request
+ * interceptor so it can count requests for the {@link RetryBudget} and record the method of the request being
+ * retried. Interceptors run again for every retry, so a request is only counted the first time its context is seen.
+ */
+@Slf4j
+public class AdaptiveRetryStrategy implements HttpRequestRetryStrategy, HttpRequestInterceptor {
+
+    private static final String METHOD_ATTRIBUTE = AdaptiveRetryStrategy.class.getName() + ".method";
+
+    //Failures that a retry will not fix, as in DefaultHttpRequestRetryStrategy
+    private static final Set<Class<? extends IOException>> NON_RETRYABLE_EXCEPTIONS = Set.of(
+        InterruptedIOException.class,
+        UnknownHostException.class,
+        ConnectionClosedException.class,
+        NoRouteToHostException.class,
+        SSLException.class);
+
+    private final int maxRetries;
+    private final Duration initialDelay;
+    private final WebConfig.Retry config;
+    private final boolean retryNonIdempotentByDefault;
+    @Getter
+    private final RetryBudget budget;
+    private final Clock clock;
+    private final DoubleSupplier random;
+
+    public AdaptiveRetryStrategy(int maxRetries, Duration initialDelay, WebConfig.Retry config) {
+        this(maxRetries, initialDelay, config, false);
+    }
+
+    public AdaptiveRetryStrategy(int maxRetries, Duration initialDelay, WebConfig.Retry config,
+                                 boolean retryNonIdempotentByDefault) {
+        this(maxRetries, initialDelay, config, retryNonIdempotentByDefault, Clock.systemUTC(),
+            () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    public AdaptiveRetryStrategy(int maxRetries, Duration initialDelay, WebConfig.Retry config,
+                                 boolean retryNonIdempotentByDefault, Clock clock, DoubleSupplier random) {
+        this.maxRetries = maxRetries;
+        this.initialDelay = initialDelay;
+        this.config = config;
+        this.retryNonIdempotentByDefault = retryNonIdempotentByDefault;
+        this.budget = new RetryBudget(config.getBudget(), config.getBudgetRatio());
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public void process(HttpRequest request, EntityDetails entity, HttpContext context) {
+        //Retries run through the interceptors again with the same context, which already holds the method
+        if (context.getAttribute(METHOD_ATTRIBUTE) == null) {
+            budget.recordRequest();
+        }
+        context.setAttribute(METHOD_ATTRIBUTE, request.getMethod());
+    }
+
+    @Override
+    public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+        if (execCount > maxRetries || isNonRetryable(exception) || !canRetry(request.getMethod())) {
+            return false;
+        }
+        return acquireRetry(request.getMethod());
+    }
+
+    @Override
+    public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+        if (execCount > maxRetries || !config.getRetryableStatusCodes().contains(response.getCode())) {
+            return false;
+        }
+        final String method = (String) context.getAttribute(METHOD_ATTRIBUTE);
+        if (method == null || !canRetry(method)) {
+            return false;
+        }
+        final Duration retryAfter = getRetryAfter(response);
+        if (retryAfter != null && retryAfter.compareTo(config.getMaxRetryAfter()) > 0) {
+            //The service has asked for longer than we are prepared to wait
+            return false;
+        }
+        return acquireRetry(method);
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpRequest request, IOException exception, int execCount,
+                                      HttpContext context) {
+        return TimeValue.ofMilliseconds(getBackoff(execCount).toMillis());
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+        final Duration retryAfter = getRetryAfter(response);
+        final Duration delay = retryAfter == null ? getBackoff(execCount) : retryAfter;
+        return TimeValue.ofMilliseconds(delay.toMillis());
+    }
+
+    /**
+     * Exponential backoff for the given attempt (1 for the first retry) with up to {@code jitter} of it randomised.
+     */
+    Duration getBackoff(int execCount) {
+        final double exponential = initialDelay.toMillis() * Math.pow(config.getMultiplier(), execCount - 1);
+        final double capped = Math.min(exponential, config.getMaxDelay().toMillis());
+        return Duration.ofMillis(Math.round(capped * (1 - config.getJitter() * random.getAsDouble())));
+    }
+
+    Duration getRetryAfter(HttpResponse response) {
+        final Header header = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+        if (header == null || header.getValue() == null) {
+            return null;
+        }
+        final String value = header.getValue().trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException numberFormatException) {
+            try {
+                Instant retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                Duration delay = Duration.between(clock.instant(), retryAt);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException dateTimeParseException) {
+                log.debug("Ignoring invalid Retry-After header: {}", value);
+                return null;
+            }
+        }
+    }
+
+    private boolean canRetry(String method) {
+        return config.isRetryNonIdempotentOrDefault(retryNonIdempotentByDefault) || Method.isIdempotent(method);
+    }
+
+    private static boolean isNonRetryable(IOException exception) {
+        return NON_RETRYABLE_EXCEPTIONS.stream().anyMatch(type -> type.isInstance(exception));
+    }
+
+    private boolean acquireRetry(String method) {
+        if (budget.tryAcquireRetry()) {
+            return true;
+        }
+        log.warn("Retry budget exhausted, not retrying {} request", method);
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequestInterceptor;
+
+/**
+ * Creates non-blocking Apache HttpClient 5 clients from a {@link WebConfig}, applying the same pool, timeout,
+ * proxy, SSL, basic authentication and retry settings as {@link WebConfig#getRequestFactory()}. With
+ * {@link WebConfig.Pool#isShared()} the client uses {@link HttpConnectionManagers#getSharedAsync(WebConfig)}, a
+ * pool shared with other async clients for the same settings but separate from the blocking clients' pool.
+ */
+public final class AsyncHttpClientFactory {
+
+    private AsyncHttpClientFactory() {
+
+    }
+
+    /**
+     * Creates and starts a client. The caller owns the client and must close it.
+     *
+     * @param interceptors additional request interceptors, run after authentication headers are added
+     */
+    public static CloseableHttpAsyncClient create(WebConfig webConfig, HttpRequestInterceptor... interceptors) {
+        final WebConfig.Pool pool = webConfig.getPoolOrDefault();
+        final WebConfig.AuthInterceptor authInterceptor = new WebConfig.AuthInterceptor();
+        final HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create()
+            .setDefaultRequestConfig(pool.toRequestConfig())
+            .addRequestInterceptorFirst(authInterceptor);
+        if (webConfig.getProxy() != null && webConfig.getProxy().isEnable()) {
+            WebConfig.Proxy proxy = webConfig.getProxy();
+            builder.setProxy(new HttpHost(proxy.getScheme(), proxy.getHost(), proxy.getPort()));
+            if (StringUtils.isNotBlank(proxy.getUsername())) {
+                authInterceptor.addBasic("Proxy-Authorization", proxy.getUsername(), proxy.getPassword());
+            }
+        }
+        if (StringUtils.isNotBlank(webConfig.getUsername())) {
+            authInterceptor.addBasic("Authorization", webConfig.getUsername(), webConfig.getPassword());
+        }
+        if (webConfig.getMaxRetries() != null) {
+            AdaptiveRetryStrategy retryStrategy = new AdaptiveRetryStrategy(webConfig.getMaxRetries(),
+                webConfig.getInitialRetryDelay(), webConfig.getRetryOrDefault());
+            builder.setRetryStrategy(retryStrategy)
+                .addRequestInterceptorLast(retryStrategy);
+        }
+        if (pool.isShared()) {
+            builder.setConnectionManager(HttpConnectionManagers.getSharedAsync(webConfig))
+                .setConnectionManagerShared(true);
+        } else {
+            builder.setConnectionManager(HttpConnectionManagers.createAsync(webConfig))
+                .evictExpiredConnections();
+            if (pool.getIdleEvictionTime() != null) {
+                builder.evictIdleConnections(HttpConnectionManagers.toTimeValue(pool.getIdleEvictionTime()));
+            }
+        }
+        for (HttpRequestInterceptor interceptor : interceptors) {
+            builder.addRequestInterceptorLast(interceptor);
+        }
+        final CloseableHttpAsyncClient client = builder.build();
+        client.start();
+        return client;
+    }
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class BatchConfig {
+    //Number of requests sent one after another by a single worker
+    @Min(1)
+    private int size = 50;
+    //Maximum number of batches in flight at once
+    @Min(1)
+    private int maxConcurrency = 4;
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+public class CircuitBreakerConfig {
+    //Consecutive failures after which an endpoint is skipped
+    @Min(1)
+    private int failureThreshold = 3;
+    //How long a failing endpoint is skipped before it is probed again
+    @NotNull
+    private Duration coolDown = Duration.ofSeconds(30);
+    //When disabled a skipped endpoint is retried with live traffic once the cool-down has passed
+    private boolean probeEnabled = true;
+    @NotNull
+    private Duration probeTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+public class HedgeConfig {
+    private boolean enabled;
+    //Latency percentile of the first endpoint after which the request is also sent to the next endpoint
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double percentile = 0.95;
+    @NotNull
+    private Duration minDelay = Duration.ofMillis(50);
+    //Also used as the delay until minSamples successful calls have been recorded
+    @NotNull
+    private Duration maxDelay = Duration.ofSeconds(2);
+    @Min(1)
+    private int minSamples = 20;
+}
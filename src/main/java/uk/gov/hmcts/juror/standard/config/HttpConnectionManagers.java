@@ -0,0 +1,156 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.IdleConnectionEvictor;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.io.ModalCloseable;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates pooled connection managers for {@link WebConfig}s.
+ *
+ * <p>Configs that point at the same scheme, host and port with the same SSL and pool settings share one manager,
+ * so their connections are reused and {@link WebConfig.Pool#getMaxTotal()} applies across all of them. Blocking and
+ * async clients use separate managers, so each has its own pool. Shared managers live for the lifetime of the
+ * application, clients using them must not close them, and they are closed by {@link #closeAll()} when the
+ * application context shuts down.
+ */
+public final class HttpConnectionManagers {
+
+    private static final Map<Key, SharedManager<PoolingHttpClientConnectionManager>> SHARED_MANAGERS =
+        new ConcurrentHashMap<>();
+    private static final Map<Key, SharedManager<PoolingAsyncClientConnectionManager>> SHARED_ASYNC_MANAGERS =
+        new ConcurrentHashMap<>();
+
+    private HttpConnectionManagers() {
+
+    }
+
+    public static PoolingHttpClientConnectionManager getShared(WebConfig webConfig) {
+        return SHARED_MANAGERS.computeIfAbsent(Key.of(webConfig), ignored -> {
+            PoolingHttpClientConnectionManager manager = create(webConfig);
+            return new SharedManager<>(manager, startEvictor(manager, webConfig));
+        }).manager();
+    }
+
+    public static PoolingAsyncClientConnectionManager getSharedAsync(WebConfig webConfig) {
+        return SHARED_ASYNC_MANAGERS.computeIfAbsent(Key.of(webConfig), ignored -> {
+            PoolingAsyncClientConnectionManager manager = createAsync(webConfig);
+            return new SharedManager<>(manager, startEvictor(manager, webConfig));
+        }).manager();
+    }
+
+    public static PoolingHttpClientConnectionManager create(WebConfig webConfig) {
+        final WebConfig.Pool pool = webConfig.getPoolOrDefault();
+        final ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom();
+        if (pool.getConnectTimeout() != null) {
+            connectionConfig.setConnectTimeout(toTimeout(pool.getConnectTimeout()));
+        }
+        if (pool.getTimeToLive() != null) {
+            connectionConfig.setTimeToLive(toTimeValue(pool.getTimeToLive()));
+        }
+        final PoolingHttpClientConnectionManagerBuilder builder = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxTotal())
+            .setMaxConnPerRoute(pool.getMaxPerRoute())
+            .setDefaultConnectionConfig(connectionConfig.build());
+        if (webConfig.getSsl() != null && webConfig.getSsl().isEnable()) {
+            try {
+                builder.setSSLSocketFactory(webConfig.getSsl().getSSLConnectionSocketFactory());
+            } catch (Exception e) {
+                throw new InternalServerException("Unexpected error when setting up SSL connection factory", e);
+            }
+        }
+        return builder.build();
+    }
+
+    public static PoolingAsyncClientConnectionManager createAsync(WebConfig webConfig) {
+        final WebConfig.Pool pool = webConfig.getPoolOrDefault();
+        final ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom();
+        if (pool.getConnectTimeout() != null) {
+            connectionConfig.setConnectTimeout(toTimeout(pool.getConnectTimeout()));
+        }
+        if (pool.getTimeToLive() != null) {
+            connectionConfig.setTimeToLive(toTimeValue(pool.getTimeToLive()));
+        }
+        final PoolingAsyncClientConnectionManagerBuilder builder = PoolingAsyncClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxTotal())
+            .setMaxConnPerRoute(pool.getMaxPerRoute())
+            .setDefaultConnectionConfig(connectionConfig.build());
+        if (webConfig.getSsl() != null && webConfig.getSsl().isEnable()) {
+            try {
+                builder.setTlsStrategy(ClientTlsStrategyBuilder.create()
+                    .setSslContext(webConfig.getSsl().getSSLContext())
+                    .build());
+            } catch (Exception e) {
+                throw new InternalServerException("Unexpected error when setting up SSL context", e);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Closes and forgets every shared manager. Intended for application shutdown and tests.
+     */
+    public static void closeAll() {
+        SHARED_MANAGERS.values().removeIf(HttpConnectionManagers::close);
+        SHARED_ASYNC_MANAGERS.values().removeIf(HttpConnectionManagers::close);
+    }
+
+    private static boolean close(SharedManager<?> sharedManager) {
+        if (sharedManager.evictor() != null) {
+            sharedManager.evictor().shutdown();
+        }
+        sharedManager.manager().close(CloseMode.GRACEFUL);
+        return true;
+    }
+
+    private static IdleConnectionEvictor startEvictor(ConnPoolControl<?> manager, WebConfig webConfig) {
+        final Duration idleEvictionTime = webConfig.getPoolOrDefault().getIdleEvictionTime();
+        if (idleEvictionTime == null) {
+            return null;
+        }
+        final TimeValue idleTime = toTimeValue(idleEvictionTime);
+        final IdleConnectionEvictor evictor = new IdleConnectionEvictor(manager, idleTime, idleTime);
+        evictor.start();
+        return evictor;
+    }
+
+    static TimeValue toTimeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+
+    static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    //Copies the settings a manager is built from, so configs changed after the manager was created cannot alter
+    //the key it is stored under
+    record Key(String scheme, String host, Integer port, SslContextCache.Key ssl,
+               int maxTotal, int maxPerRoute, Duration timeToLive, Duration idleEvictionTime,
+               Duration connectTimeout) {
+
+        static Key of(WebConfig webConfig) {
+            final WebConfig.Pool pool = webConfig.getPoolOrDefault();
+            final WebConfig.SslConfig ssl = webConfig.getSsl();
+            return new Key(webConfig.getScheme(), webConfig.getHost(), webConfig.getPort(),
+                ssl != null && ssl.isEnable() ? SslContextCache.Key.of(ssl) : null,
+                pool.getMaxTotal(), pool.getMaxPerRoute(), pool.getTimeToLive(), pool.getIdleEvictionTime(),
+                pool.getConnectTimeout());
+        }
+    }
+
+    private record SharedManager<M extends ModalCloseable>(M manager, IdleConnectionEvictor evictor) {
+    }
+}
@@ -28,6 +28,12 @@ public class JwtSecurityConfig {
 
     private String authenticationPrefix;
 
+    /**
+     * How long before expiry (in milliseconds) a cached outbound token is refreshed.
+     * Capped at half of {@link #tokenValidity}.
+     */
+    private long tokenRefreshMargin = 60_000;
+
     public void setClaims(Map<String, Object> claims) {
         if (claims.containsKey("permissions") && claims.get("permissions") instanceof Map claimsMap) {
             claims.put("permissions", claimsMap.values());
@@ -0,0 +1,240 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Base64;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.security.PrivateKey;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedKeyManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+/**
+ * Key and trust managers for one key store/trust store pair that pick up changes to the files on disk.
+ *
+ * <p>The {@link javax.net.ssl.SSLContext} built from these managers never changes, so its TLS session cache is
+ * kept, but at most once per reload check interval a handshake compares the files' modification time and size with
+ * those last loaded and, if either changed, loads them again. If loading fails the previous material is kept.
+ */
+@Slf4j
+class ReloadableX509Managers {
+
+    private final SslContextCache.Key key;
+    private final Duration reloadCheckInterval;
+    private final AtomicReference<Material> material = new AtomicReference<>();
+    private final AtomicLong lastCheck = new AtomicLong();
+
+    ReloadableX509Managers(SslContextCache.Key key)
+        throws CertificateException, NoSuchAlgorithmException, KeyStoreException, IOException,
+        UnrecoverableKeyException {
+        this.key = key;
+        this.reloadCheckInterval = key.reloadCheckInterval();
+        this.material.set(load());
+        this.lastCheck.set(System.currentTimeMillis());
+    }
+
+    KeyManager[] getKeyManagers() {
+        return material.get().keyManager() == null ? null : new KeyManager[]{new DelegatingKeyManager()};
+    }
+
+    TrustManager[] getTrustManagers() {
+        return new TrustManager[]{new DelegatingTrustManager()};
+    }
+
+    private Material current() {
+        final long now = System.currentTimeMillis();
+        final long last = lastCheck.get();
+        if (reloadCheckInterval != null && now - last >= reloadCheckInterval.toMillis()
+            && lastCheck.compareAndSet(last, now)) {
+            reloadIfChanged();
+        }
+        return material.get();
+    }
+
+    boolean reloadIfChanged() {
+        final Material loaded = material.get();
+        if (loaded.trustStoreStamp().equals(FileStamp.of(key.trustStoreLocation()))
+            && loaded.keyStoreStamp().equals(FileStamp.of(key.keyStoreLocation()))) {
+            return false;
+        }
+        try {
+            material.set(load());
+            log.info("Reloaded SSL material from {} and {}", key.trustStoreLocation(), key.keyStoreLocation());
+            return true;
+        } catch (GeneralSecurityException | IOException e) {
+            log.warn("Failed to reload SSL material, continuing with the previously loaded material", e);
+            return false;
+        }
+    }
+
+    private Material load()
+        throws CertificateException, NoSuchAlgorithmException, KeyStoreException, IOException,
+        UnrecoverableKeyException {
+        //Stamp before reading so a change made while loading is picked up by the next check
+        final FileStamp trustStoreStamp = FileStamp.of(key.trustStoreLocation());
+        final FileStamp keyStoreStamp = FileStamp.of(key.keyStoreLocation());
+
+        final TrustManagerFactory trustManagerFactory =
+            TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        //Without a trust store the JVM default trust material is used
+        trustManagerFactory.init(key.trustStoreLocation() == null ? null
+            : loadKeyStore(key.trustStoreLocation(), key.trustStorePassword()));
+
+        X509ExtendedKeyManager keyManager = null;
+        if (key.keyStoreLocation() != null) {
+            final KeyManagerFactory keyManagerFactory =
+                KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            final String keyPassword = key.keyPassword() == null ? key.keyStorePassword() : key.keyPassword();
+            keyManagerFactory.init(loadKeyStore(key.keyStoreLocation(), key.keyStorePassword()),
+                keyPassword.toCharArray());
+            keyManager = find(keyManagerFactory.getKeyManagers(), X509ExtendedKeyManager.class);
+        }
+        return new Material(keyManager, find(trustManagerFactory.getTrustManagers(), X509ExtendedTrustManager.class),
+            trustStoreStamp, keyStoreStamp);
+    }
+
+    private KeyStore loadKeyStore(File file, String password)
+        throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
+        byte[] fileContent = Files.readAllBytes(file.toPath());
+        if (key.base64Encoded()) {
+            fileContent = Base64.decodeBase64(fileContent);
+        }
+        final KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        try (InputStream inputStream = new ByteArrayInputStream(fileContent)) {
+            keyStore.load(inputStream, password.toCharArray());
+        }
+        return keyStore;
+    }
+
+    private static <T> T find(Object[] managers, Class<T> type) throws KeyStoreException {
+        for (Object manager : managers) {
+            if (type.isInstance(manager)) {
+                return type.cast(manager);
+            }
+        }
+        throw new KeyStoreException("No " + type.getSimpleName() + " available");
+    }
+
+    private record Material(X509ExtendedKeyManager keyManager, X509ExtendedTrustManager trustManager,
+                            FileStamp trustStoreStamp, FileStamp keyStoreStamp) {
+    }
+
+    record FileStamp(long lastModified, long length) {
+        private static final FileStamp NONE = new FileStamp(0, 0);
+
+        static FileStamp of(File file) {
+            return file == null ? NONE : new FileStamp(file.lastModified(), file.length());
+        }
+    }
+
+    private final class DelegatingKeyManager extends X509ExtendedKeyManager {
+        private X509ExtendedKeyManager delegate() {
+            return current().keyManager();
+        }
+
+        @Override
+        public String[] getClientAliases(String keyType, Principal... issuers) {
+            return delegate().getClientAliases(keyType, issuers);
+        }
+
+        @Override
+        public String chooseClientAlias(String[] keyType, Principal[] issuers, Socket socket) {
+            return delegate().chooseClientAlias(keyType, issuers, socket);
+        }
+
+        @Override
+        public String[] getServerAliases(String keyType, Principal... issuers) {
+            return delegate().getServerAliases(keyType, issuers);
+        }
+
+        @Override
+        public String chooseServerAlias(String keyType, Principal[] issuers, Socket socket) {
+            return delegate().chooseServerAlias(keyType, issuers, socket);
+        }
+
+        @Override
+        public X509Certificate[] getCertificateChain(String alias) {
+            return delegate().getCertificateChain(alias);
+        }
+
+        @Override
+        public PrivateKey getPrivateKey(String alias) {
+            return delegate().getPrivateKey(alias);
+        }
+
+        @Override
+        public String chooseEngineClientAlias(String[] keyType, Principal[] issuers, SSLEngine engine) {
+            return delegate().chooseEngineClientAlias(keyType, issuers, engine);
+        }
+
+        @Override
+        public String chooseEngineServerAlias(String keyType, Principal[] issuers, SSLEngine engine) {
+            return delegate().chooseEngineServerAlias(keyType, issuers, engine);
+        }
+    }
+
+    private final class DelegatingTrustManager extends X509ExtendedTrustManager {
+        private X509ExtendedTrustManager delegate() {
+            return current().trustManager();
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+            throws CertificateException {
+            delegate().checkClientTrusted(chain, authType, socket);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+            throws CertificateException {
+            delegate().checkServerTrusted(chain, authType, socket);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+            throws CertificateException {
+            delegate().checkClientTrusted(chain, authType, engine);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+            throws CertificateException {
+            delegate().checkServerTrusted(chain, authType, engine);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            delegate().checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            delegate().checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return delegate().getAcceptedIssuers();
+        }
+    }
+}
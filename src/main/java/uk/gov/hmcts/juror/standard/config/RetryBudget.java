@@ -0,0 +1,47 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket limiting retries to a fraction of the requests sent.
+ *
+ * <p>The bucket starts full with {@code budget} retries. Each request adds {@code ratio} of a retry, up to the
+ * budget, and each retry removes one. Once a backend starts failing every request the retry rate therefore falls to
+ * {@code ratio} of the request rate instead of multiplying the load on it.
+ */
+public class RetryBudget {
+
+    //Balances are held in thousandths of a retry so fractional ratios can be added atomically
+    private static final long SCALE = 1000;
+
+    private final long capacity;
+    private final long deposit;
+    private final AtomicLong balance;
+
+    public RetryBudget(int budget, double ratio) {
+        this.capacity = budget * SCALE;
+        this.deposit = Math.round(ratio * SCALE);
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    public void recordRequest() {
+        if (deposit > 0 && balance.get() < capacity) {
+            balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+        }
+    }
+
+    public boolean tryAcquireRetry() {
+        long current = balance.get();
+        while (current >= SCALE) {
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+            current = balance.get();
+        }
+        return false;
+    }
+
+    public double getAvailableRetries() {
+        return (double) balance.get() / SCALE;
+    }
+}
@@ -3,7 +3,9 @@ package uk.gov.hmcts.juror.standard.config;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.time.Duration;
 import java.util.List;
 
 @EqualsAndHashCode(callSuper = true)
@@ -23,4 +25,16 @@ public class SoapConfig extends WebConfig {
     private String soapAction;
 
     private List<WebConfig> failoverConfig;
+
+    //Default timeout of SoapWebServiceTemplate.callAsync covering every failover attempt, unset for no timeout
+    private Duration asyncTimeout;
+
+    @NestedConfigurationProperty
+    private CircuitBreakerConfig circuitBreaker = new CircuitBreakerConfig();
+
+    @NestedConfigurationProperty
+    private HedgeConfig hedge = new HedgeConfig();
+
+    @NestedConfigurationProperty
+    private BatchConfig batch = new BatchConfig();
 }
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.CertificateException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+
+/**
+ * Shares one {@link SSLContext} between {@link WebConfig.SslConfig}s that use the same key store and trust store.
+ *
+ * <p>Key material is read from disk once per distinct store rather than for every client, and clients sharing a
+ * context also share its TLS session cache, so reconnections to the same host can resume sessions instead of
+ * performing a full handshake. Changes to the store files are picked up without rebuilding the context, see
+ * {@link WebConfig.SslConfig#getReloadCheckInterval()}.
+ */
+public final class SslContextCache {
+
+    private static final Map<Key, SSLContext> SSL_CONTEXTS = new ConcurrentHashMap<>();
+
+    private SslContextCache() {
+
+    }
+
+    @SuppressWarnings("AbbreviationAsWordInName")
+    public static SSLContext getSSLContext(WebConfig.SslConfig sslConfig)
+        throws CertificateException, NoSuchAlgorithmException, KeyStoreException, IOException,
+        UnrecoverableKeyException, KeyManagementException {
+        final Key key = Key.of(sslConfig);
+        SSLContext sslContext = SSL_CONTEXTS.get(key);
+        if (sslContext == null) {
+            //Built outside the map so checked exceptions reach the caller, a concurrent build of the same key is
+            //discarded in favour of the first one stored
+            final SSLContext created = create(key);
+            sslContext = SSL_CONTEXTS.putIfAbsent(key, created);
+            if (sslContext == null) {
+                sslContext = created;
+            }
+        }
+        return sslContext;
+    }
+
+    /**
+     * Forgets every cached context. Intended for tests.
+     */
+    public static void clear() {
+        SSL_CONTEXTS.clear();
+    }
+
+    private static SSLContext create(Key key)
+        throws CertificateException, NoSuchAlgorithmException, KeyStoreException, IOException,
+        UnrecoverableKeyException, KeyManagementException {
+        final ReloadableX509Managers managers = new ReloadableX509Managers(key);
+        final SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(managers.getKeyManagers(), managers.getTrustManagers(), null);
+
+        final SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+        if (key.sessionCacheSize() != null) {
+            sessionContext.setSessionCacheSize(key.sessionCacheSize());
+        }
+        if (key.sessionTimeout() != null) {
+            sessionContext.setSessionTimeout(Math.toIntExact(key.sessionTimeout().toSeconds()));
+        }
+        return sslContext;
+    }
+
+    record Key(File trustStoreLocation, String trustStorePassword,
+               File keyStoreLocation, String keyStorePassword, String keyPassword,
+               boolean base64Encoded, Integer sessionCacheSize, Duration sessionTimeout,
+               Duration reloadCheckInterval) {
+
+        static Key of(WebConfig.SslConfig sslConfig) {
+            //Stores without a password are not loaded
+            final boolean hasTrustStore = sslConfig.getTrustStoreLocation() != null
+                && StringUtils.isNotBlank(sslConfig.getTrustStorePassword());
+            final boolean hasKeyStore = sslConfig.getKeyStoreLocation() != null
+                && StringUtils.isNotBlank(sslConfig.getKeyStorePassword());
+            return new Key(
+                hasTrustStore ? sslConfig.getTrustStoreLocation().getAbsoluteFile() : null,
+                hasTrustStore ? sslConfig.getTrustStorePassword() : null,
+                hasKeyStore ? sslConfig.getKeyStoreLocation().getAbsoluteFile() : null,
+                hasKeyStore ? sslConfig.getKeyStorePassword() : null,
+                hasKeyStore ? sslConfig.getKeyPassword() : null,
+                sslConfig.isBase64Encoded(),
+                sslConfig.getSessionCacheSize(),
+                sslConfig.getSessionTimeout(),
+                sslConfig.getReloadCheckInterval());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.juror.standard.config;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -8,36 +10,29 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.config.RequestConfig;
-import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpRequestInterceptor;
 import org.apache.hc.core5.http.protocol.HttpContext;
-import org.apache.hc.core5.ssl.SSLContextBuilder;
-import org.apache.hc.core5.util.TimeValue;
 import org.apache.logging.log4j.util.TriConsumer;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.security.KeyManagementException;
-import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
+import javax.net.ssl.SSLContext;
 
 @Data
 @Slf4j
@@ -54,9 +49,13 @@ public class WebConfig {
 
     @Min(0)
     private Integer maxRetries;
+    //Initial retry delay in milliseconds, used when retry.initialDelay is not set
     @Min(0)
     private long retryDelay;
 
+    @NestedConfigurationProperty
+    private Retry retry;
+
     @NestedConfigurationProperty
     private Proxy proxy;
 
@@ -69,11 +68,30 @@ public class WebConfig {
     @NestedConfigurationProperty
     private SslConfig ssl;
 
+    @NestedConfigurationProperty
+    private Pool pool;
+
 
     public String getUri() {
         return this.scheme + "://" + this.host + ":" + this.port + this.url;
     }
 
+    public Pool getPoolOrDefault() {
+        return this.pool == null ? new Pool() : this.pool;
+    }
+
+    public Retry getRetryOrDefault() {
+        return this.retry == null ? new Retry() : this.retry;
+    }
+
+    public Duration getInitialRetryDelay() {
+        final Retry retryOrDefault = getRetryOrDefault();
+        if (retryOrDefault.getInitialDelay() != null) {
+            return retryOrDefault.getInitialDelay();
+        }
+        return this.retryDelay > 0 ? Duration.ofMillis(this.retryDelay) : Retry.DEFAULT_INITIAL_DELAY;
+    }
+
     @Data
     public static class Proxy {
         private String scheme;
@@ -88,6 +106,66 @@ public class WebConfig {
         private boolean enable;
     }
 
+    @Data
+    public static class Pool {
+        @Min(1)
+        private int maxTotal = 100;
+        @Min(1)
+        private int maxPerRoute = 20;
+        //Null values fall back to the HttpClient defaults
+        private Duration timeToLive;
+        private Duration idleEvictionTime = Duration.ofSeconds(30);
+        private Duration connectTimeout;
+        private Duration responseTimeout;
+        private Duration connectionRequestTimeout;
+        //Share the connection manager with other configs for the same host, ssl and pool settings
+        private boolean shared = true;
+
+        public RequestConfig toRequestConfig() {
+            RequestConfig.Builder builder = RequestConfig.custom();
+            if (this.responseTimeout != null) {
+                builder.setResponseTimeout(HttpConnectionManagers.toTimeout(this.responseTimeout));
+            }
+            if (this.connectionRequestTimeout != null) {
+                builder.setConnectionRequestTimeout(HttpConnectionManagers.toTimeout(this.connectionRequestTimeout));
+            }
+            return builder.build();
+        }
+    }
+
+    @Data
+    public static class Retry {
+        static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+
+        //Delay before the first retry (defaulting to retryDelay), multiplied for each further retry up to maxDelay
+        private Duration initialDelay;
+        @NotNull
+        private Duration maxDelay = Duration.ofSeconds(10);
+        @DecimalMin("1.0")
+        private double multiplier = 2.0;
+        //Fraction of each delay that is randomised so clients do not retry in step
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private double jitter = 0.5;
+        //Retries allowed in a burst, refilled by budgetRatio of a retry for every request sent
+        @Min(0)
+        private int budget = 10;
+        @DecimalMin("0.0")
+        private double budgetRatio = 0.1;
+        //Longest Retry-After header that is honoured, longer values are not retried
+        @NotNull
+        private Duration maxRetryAfter = Duration.ofSeconds(30);
+        //Also retry non idempotent methods such as POST, for services known to be safe. Unset defaults to true for
+        //SOAP templates, which always POST, and false otherwise
+        private Boolean retryNonIdempotent;
+        @NotNull
+        private Set<Integer> retryableStatusCodes = new HashSet<>(Set.of(429, 502, 503, 504));
+
+        public boolean isRetryNonIdempotentOrDefault(boolean defaultValue) {
+            return this.retryNonIdempotent == null ? defaultValue : this.retryNonIdempotent;
+        }
+    }
+
     @Data
     public static class SslConfig {
         private boolean isBase64Encoded;
@@ -99,42 +177,33 @@ public class WebConfig {
         private String keyPassword;
         private boolean enable;
 
+        //Client TLS session cache settings, null values keep the JVM defaults
+        @Min(0)
+        private Integer sessionCacheSize;
+        private Duration sessionTimeout;
+        //How often handshakes check the store files for changes, null disables reloading
+        private Duration reloadCheckInterval = Duration.ofMinutes(1);
+
         @SuppressWarnings("AbbreviationAsWordInName")
         public SSLConnectionSocketFactory getSSLConnectionSocketFactory()
             throws CertificateException,
             NoSuchAlgorithmException,
             KeyStoreException, IOException,
             UnrecoverableKeyException, KeyManagementException {
-            SSLContextBuilder sslContextBuilder = new SSLContextBuilder();
-            if (this.getTrustStoreLocation() != null && StringUtils.isNotBlank(
-                this.getTrustStorePassword())) {
-                sslContextBuilder.loadTrustMaterial(
-                    loadKeyStore(this.getTrustStoreLocation(),
-                        this.getTrustStorePassword().toCharArray()),
-                    null);
-            }
-            if (this.getKeyStoreLocation() != null && StringUtils.isNotBlank(
-                this.getKeyStorePassword())) {
-                sslContextBuilder.loadKeyMaterial(
-                    loadKeyStore(this.getKeyStoreLocation(),
-                        this.getKeyStorePassword().toCharArray()),
-                    this.getKeyPassword().toCharArray());
-            }
-            return new SSLConnectionSocketFactory(sslContextBuilder.build());
+            return new SSLConnectionSocketFactory(getSSLContext());
         }
 
-        private KeyStore loadKeyStore(final File file, final char... password)
-            throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
-
-            byte[] fileContent = Files.readAllBytes(file.toPath());
-            if (this.isBase64Encoded) {
-                fileContent = Base64.decodeBase64(fileContent);
-            }
-            final KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
-            try (InputStream inputStream = new ByteArrayInputStream(fileContent)) {
-                keyStore.load(inputStream, password);
-            }
-            return keyStore;
+        /**
+         * Returns the {@link SSLContext} shared by every config using the same stores and session settings, see
+         * {@link SslContextCache}.
+         */
+        @SuppressWarnings("AbbreviationAsWordInName")
+        public SSLContext getSSLContext()
+            throws CertificateException,
+            NoSuchAlgorithmException,
+            KeyStoreException, IOException,
+            UnrecoverableKeyException, KeyManagementException {
+            return SslContextCache.getSSLContext(this);
         }
     }
 
@@ -146,10 +215,18 @@ public class WebConfig {
     public static ClientHttpRequestFactory getRequestFactory(
         WebConfig webConfig
     ) {
+        return getRequestFactory(webConfig, false);
+    }
+
+    /**
+     * As {@link #getRequestFactory(WebConfig)}, retrying non idempotent requests unless
+     * {@link Retry#getRetryNonIdempotent()} says otherwise when {@code retryNonIdempotentByDefault} is set.
+     */
+    public static ClientHttpRequestFactory getRequestFactory(WebConfig webConfig,
+                                                             boolean retryNonIdempotentByDefault) {
         try {
-            final RequestConfig config =
-                RequestConfig.custom()
-                    .build();
+            final Pool pool = webConfig.getPoolOrDefault();
+            final RequestConfig config = pool.toRequestConfig();
 
             final AuthInterceptor authInterceptor = new AuthInterceptor();
 
@@ -163,20 +240,26 @@ public class WebConfig {
             }
 
             if (webConfig.getMaxRetries() != null) {
-                httpClientBuilder.setRetryStrategy(
-                    new DefaultHttpRequestRetryStrategy(webConfig.getMaxRetries(),
-                        TimeValue.ofMicroseconds(webConfig.getRetryDelay()))
-                );
+                AdaptiveRetryStrategy retryStrategy =
+                    new AdaptiveRetryStrategy(webConfig.getMaxRetries(), webConfig.getInitialRetryDelay(),
+                        webConfig.getRetryOrDefault(), retryNonIdempotentByDefault);
+                httpClientBuilder.setRetryStrategy(retryStrategy)
+                    .addRequestInterceptorLast(retryStrategy);
             }
 
-            if (webConfig.getSsl() != null && webConfig.getSsl().isEnable()) {
-                httpClientBuilder.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
-                    .setSSLSocketFactory(webConfig.getSsl().getSSLConnectionSocketFactory())
-                    .build()
-                );
+            if (pool.isShared()) {
+                httpClientBuilder.setConnectionManager(HttpConnectionManagers.getShared(webConfig))
+                    .setConnectionManagerShared(true);
+            } else {
+                httpClientBuilder.setConnectionManager(HttpConnectionManagers.create(webConfig))
+                    .evictExpiredConnections();
+                if (pool.getIdleEvictionTime() != null) {
+                    httpClientBuilder.evictIdleConnections(
+                        HttpConnectionManagers.toTimeValue(pool.getIdleEvictionTime()));
+                }
             }
             httpClientBuilder.addRequestInterceptorFirst(authInterceptor);
-            return new HttpComponentsClientHttpRequestFactory(httpClientBuilder.build());
+            return new AbortableHttpRequestFactory(httpClientBuilder.build());
         } catch (Exception e) {
             log.error("Unexpected error when setting up request factory", e);
             throw new InternalServerException("Unexpected error when setting up request factory", e);
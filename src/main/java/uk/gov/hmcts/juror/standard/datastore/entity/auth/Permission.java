@@ -10,6 +10,9 @@ import lombok.experimental.Accessors;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Getter
 @Setter
 @Entity
@@ -17,10 +20,32 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Permission {
+    //Permission names form a small fixed set so authorities are interned and shared across all users. Names also
+    //come from token claims, so the map is bounded and names past the limit get their own instance.
+    static final int MAX_INTERNED_AUTHORITIES = 1024;
+    private static final Map<String, GrantedAuthority> GRANTED_AUTHORITIES = new ConcurrentHashMap<>();
+
     @Id
     private String name;
 
+    /**
+     * Forgets every interned authority. Intended for tests.
+     */
+    static void clearInternedAuthorities() {
+        GRANTED_AUTHORITIES.clear();
+    }
+
     public GrantedAuthority toGrantedAuthority() {
-        return new SimpleGrantedAuthority(name);
+        if (name == null) {
+            return new SimpleGrantedAuthority(name);
+        }
+        GrantedAuthority interned = GRANTED_AUTHORITIES.get(name);
+        if (interned != null) {
+            return interned;
+        }
+        if (GRANTED_AUTHORITIES.size() >= MAX_INTERNED_AUTHORITIES) {
+            return new SimpleGrantedAuthority(name);
+        }
+        return GRANTED_AUTHORITIES.computeIfAbsent(name, SimpleGrantedAuthority::new);
     }
 }
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.juror.standard.datastore.entity.auth;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, flattened view of every permission reachable from a set of direct permissions and roles.
+ *
+ * <p>Results record the version of every {@link Role} walked to compute them; a change to one of those roles'
+ * permissions or inherited roles bumps its version so only results that depend on it are recomputed on next use.
+ */
+record ResolvedAuthorities(List<RoleVersion> dependencies,
+                           Set<Permission> permissions,
+                           Set<GrantedAuthority> authorities,
+                           Set<String> authorityNames) {
+
+    boolean isCurrent() {
+        for (RoleVersion dependency : dependencies) {
+            if (dependency.role().getVersion() != dependency.version()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Wraps authority names that have already been resolved, for example by the database.
+     */
+    static ResolvedAuthorities of(Collection<String> authorityNames) {
+        Set<Permission> permissions = authorityNames.stream()
+            .map(Permission::new)
+            .collect(Collectors.toUnmodifiableSet());
+        Set<GrantedAuthority> authorities = permissions.stream()
+            .map(Permission::toGrantedAuthority)
+            .collect(Collectors.toUnmodifiableSet());
+        return new ResolvedAuthorities(List.of(), permissions, authorities, Set.copyOf(authorityNames));
+    }
+
+    static ResolvedAuthorities resolve(Collection<Permission> directPermissions, Collection<Role> roles) {
+        return resolve(directPermissions, roles, UnaryOperator.identity());
+    }
+
+    /**
+     * Resolves authorities, walking each role reached through {@code roleResolver} so a fully loaded instance of it
+     * can be substituted for a lazily loaded one.
+     */
+    static ResolvedAuthorities resolve(Collection<Permission> directPermissions, Collection<Role> roles,
+                                       UnaryOperator<Role> roleResolver) {
+        Set<Permission> permissions = new HashSet<>(directPermissions);
+        List<RoleVersion> dependencies = new ArrayList<>();
+        //Visited roles are tracked by identity so cyclic or diamond shaped inheritance is only walked once
+        Set<Role> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Role> toVisit = new ArrayDeque<>(roles);
+        while (!toVisit.isEmpty()) {
+            Role role = roleResolver.apply(toVisit.pop());
+            if (visited.add(role)) {
+                //Read before the role's contents, so a change made while walking it is picked up next time
+                dependencies.add(new RoleVersion(role, role.getVersion()));
+                permissions.addAll(role.getPermissions());
+                toVisit.addAll(role.getInheritedRoles());
+            }
+        }
+        Set<GrantedAuthority> authorities = permissions.stream()
+            .map(Permission::toGrantedAuthority)
+            .collect(Collectors.toUnmodifiableSet());
+        Set<String> authorityNames = authorities.stream()
+            .map(GrantedAuthority::getAuthority)
+            .collect(Collectors.toUnmodifiableSet());
+        return new ResolvedAuthorities(List.copyOf(dependencies), Collections.unmodifiableSet(permissions),
+            authorities, authorityNames);
+    }
+
+    record RoleVersion(Role role, long version) {
+    }
+}
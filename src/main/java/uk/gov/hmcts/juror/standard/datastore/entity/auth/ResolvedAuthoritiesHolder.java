@@ -0,0 +1,46 @@
+package uk.gov.hmcts.juror.standard.datastore.entity.auth;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Per entity cache of {@link ResolvedAuthorities}. The cached value is transient so it is simply recomputed
+ * after deserialization. Concurrent resolution is benign as the cached value is immutable. The role resolver is
+ * also transient, so after deserialization roles are walked as they are.
+ */
+final class ResolvedAuthoritiesHolder implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3405127348125096214L;
+
+    private transient ResolvedAuthorities resolved;
+    private transient UnaryOperator<Role> roleResolver;
+
+    ResolvedAuthorities get(Supplier<ResolvedAuthorities> resolver) {
+        ResolvedAuthorities current = this.resolved;
+        if (current == null || !current.isCurrent()) {
+            current = resolver.get();
+            this.resolved = current;
+        }
+        return current;
+    }
+
+    void set(ResolvedAuthorities resolved) {
+        this.resolved = resolved;
+    }
+
+    void invalidate() {
+        this.resolved = null;
+    }
+
+    UnaryOperator<Role> getRoleResolver() {
+        return this.roleResolver == null ? UnaryOperator.identity() : this.roleResolver;
+    }
+
+    void setRoleResolver(UnaryOperator<Role> roleResolver) {
+        this.roleResolver = roleResolver;
+        invalidate();
+    }
+}
@@ -4,17 +4,27 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.security.core.GrantedAuthority;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Entity
+@NamedEntityGraph(name = Role.GRAPH, attributeNodes = {
+    @NamedAttributeNode("permissions"),
+    @NamedAttributeNode("inheritedRoles")
+})
 @NoArgsConstructor
 @Accessors(chain = true)
 @SuppressWarnings({
@@ -23,17 +33,26 @@ import java.util.Set;
 })
 public class Role {
 
+    public static final String GRAPH = "Role.graph";
+
     @Id
     @Getter
     @Setter
     private String name;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     private Set<Permission> permissions;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     private Set<Role> inheritedRoles;
 
+    @Transient
+    private final ResolvedAuthoritiesHolder resolvedAuthorities = new ResolvedAuthoritiesHolder();
+
+    //Bumped on every change, authorities resolved through this role are recomputed once it moves on
+    @Transient
+    private final AtomicLong version = new AtomicLong();
+
 
     public Role(String name) {
         setName(name);
@@ -44,6 +63,7 @@ public class Role {
         if (permissions != null) {
             this.getPermissionsInternal().addAll(permissions);
         }
+        markChanged();
         return this;
     }
 
@@ -52,11 +72,15 @@ public class Role {
     }
 
     public Set<Permission> getCombinedPermissions() {
-        Set<Permission> permissionSet = new HashSet<>(this.getPermissions());
-        for (Role inhertiedRole : this.getInheritedRoles()) {
-            permissionSet.addAll(inhertiedRole.getCombinedPermissions());
-        }
-        return Collections.unmodifiableSet(permissionSet);
+        return getResolvedAuthorities().permissions();
+    }
+
+    public Set<GrantedAuthority> getCombinedAuthorities() {
+        return getResolvedAuthorities().authorities();
+    }
+
+    private ResolvedAuthorities getResolvedAuthorities() {
+        return this.resolvedAuthorities.get(() -> ResolvedAuthorities.resolve(Collections.emptySet(), List.of(this)));
     }
 
     public Set<Role> getInheritedRoles() {
@@ -69,13 +93,26 @@ public class Role {
         if (inheritedRoles != null) {
             this.getInheritedRolesInternal().addAll(inheritedRoles);
         }
+        markChanged();
         return this;
     }
 
     public void addPermission(Permission permission) {
         this.getPermissionsInternal().add(permission);
+        markChanged();
+    }
+
+
+    /**
+     * Makes authorities resolved through this role stale, for example once it has been replaced by a newer copy.
+     */
+    public void markChanged() {
+        this.version.incrementAndGet();
     }
 
+    long getVersion() {
+        return this.version.get();
+    }
 
     private Set<Permission> getPermissionsInternal() {
         if (this.permissions == null) {
@@ -8,7 +8,11 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AccessLevel;
@@ -27,6 +31,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Function;
 
 @Entity
 @Getter
@@ -35,17 +40,27 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "users") //Required as Postgres does not like the table being called user
+@NamedEntityGraph(name = User.AUTHORITIES_GRAPH, attributeNodes = {
+    @NamedAttributeNode("roles"),
+    @NamedAttributeNode("permissions")
+})
 @SuppressWarnings({
     "PMD.LawOfDemeter",
     "PMD.ShortClassName"
 })
 public class User implements UserDetails {
 
+    //Direct roles and permissions only, inherited roles are resolved through setRoleGraph
+    public static final String AUTHORITIES_GRAPH = "User.authorities";
+    //Must match the increment of users_id_seq, each value taken from it reserves the block of ids ending at it
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Serial
     private static final long serialVersionUID = -788975566569897618L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private long id;
 
     @Email
@@ -63,11 +78,11 @@ public class User implements UserDetails {
     @NotBlank
     private String lastname;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @Setter(AccessLevel.NONE)
     private Set<Role> roles;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @Setter(AccessLevel.NONE)
     private Set<Permission> permissions;
 
@@ -80,27 +95,57 @@ public class User implements UserDetails {
     @Builder.Default
     private boolean enabled = true;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final ResolvedAuthoritiesHolder resolvedAuthorities = new ResolvedAuthoritiesHolder();
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Set<GrantedAuthority> grantedAuthorities = new HashSet<>();
-        this.getCombinedPermissions().forEach(permission -> grantedAuthorities.add(permission.toGrantedAuthority()));
-        return grantedAuthorities;
+        return getResolvedAuthorities().authorities();
+    }
+
+    public Set<String> getAuthorityNames() {
+        return getResolvedAuthorities().authorityNames();
     }
 
     public void setRoles(Set<Role> roles) {
         this.getRolesInternal().clear();
+        this.resolvedAuthorities.invalidate();
         this.addAllRoles(roles);
     }
 
     public void setPermissions(Set<Permission> permissions) {
         this.getPermissionsInternal().clear();
+        this.resolvedAuthorities.invalidate();
         this.addAllPermissions(permissions);
     }
 
     public Set<Permission> getCombinedPermissions() {
-        Set<Permission> combinedPermissions = new HashSet<>(this.getPermissions());
-        this.getRoles().forEach(role -> combinedPermissions.addAll(role.getCombinedPermissions()));
-        return combinedPermissions;
+        return getResolvedAuthorities().permissions();
+    }
+
+    /**
+     * Resolves inherited roles by name through {@code roleGraph}, for example a cache of fully loaded roles, instead
+     * of walking this user's lazily loaded role entities. Roles it does not know are walked as they are.
+     */
+    public void setRoleGraph(Function<String, Role> roleGraph) {
+        this.resolvedAuthorities.setRoleResolver(role -> {
+            Role resolved = roleGraph.apply(role.getName());
+            return resolved == null ? role : resolved;
+        });
+    }
+
+    /**
+     * Uses authority names resolved elsewhere, such as {@code UserRepository.findAuthorityNamesByEmail}, until this
+     * user's roles or permissions, or the role graph, next change.
+     */
+    public void setResolvedAuthorityNames(Collection<String> authorityNames) {
+        this.resolvedAuthorities.set(ResolvedAuthorities.of(authorityNames));
+    }
+
+    private ResolvedAuthorities getResolvedAuthorities() {
+        return this.resolvedAuthorities.get(() -> ResolvedAuthorities.resolve(this.getPermissionsInternal(),
+            this.getRolesInternal(), this.resolvedAuthorities.getRoleResolver()));
     }
 
     private Set<Permission> getPermissionsInternal() {
@@ -130,6 +175,7 @@ public class User implements UserDetails {
             return;
         }
         this.getPermissionsInternal().removeAll(permissions);
+        this.resolvedAuthorities.invalidate();
     }
 
     public void removeAllRoles(Collection<Role> roles) {
@@ -137,6 +183,7 @@ public class User implements UserDetails {
             return;
         }
         this.getRolesInternal().removeAll(roles);
+        this.resolvedAuthorities.invalidate();
     }
 
     public void addAllPermissions(Collection<Permission> permissions) {
@@ -144,6 +191,7 @@ public class User implements UserDetails {
             return;
         }
         this.getPermissionsInternal().addAll(permissions);
+        this.resolvedAuthorities.invalidate();
     }
 
     public void addAllRoles(Collection<Role> roles) {
@@ -151,6 +199,7 @@ public class User implements UserDetails {
             return;
         }
         this.getRolesInternal().addAll(roles);
+        this.resolvedAuthorities.invalidate();
     }
 
     @Override
@@ -1,15 +1,28 @@
 package uk.gov.hmcts.juror.standard.datastore.repository;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Repository
 @ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "true")
 public interface RoleRepository extends JpaRepository<Role, String> {
 
+    //Roles are cached detached, so they are always loaded with their permissions and inherited roles
+    @Override
+    @EntityGraph(Role.GRAPH)
+    List<Role> findAll();
+
+    @Override
+    @EntityGraph(Role.GRAPH)
+    Optional<Role> findById(String name);
+
+    @EntityGraph(Role.GRAPH)
     Set<Role> getRolesByNameIsIn(Set<String> name);
 }
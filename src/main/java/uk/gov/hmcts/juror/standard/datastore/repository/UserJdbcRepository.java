@@ -0,0 +1,97 @@
+package uk.gov.hmcts.juror.standard.datastore.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes users with JDBC batches rather than through the persistence context, for inserting many users at once.
+ * Statements run in the caller's transaction.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "true")
+public class UserJdbcRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    static final String ALLOCATE_IDS = "SELECT nextval('users_id_seq') FROM generate_series(1, ?)";
+    static final String INSERT_USER = """
+        INSERT INTO users (id, email, password, firstname, lastname,
+            account_non_expired, account_non_locked, credentials_non_expired, enabled)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    static final String INSERT_USER_ROLE = "INSERT INTO users_roles (user_id, roles_name) VALUES (?, ?)";
+    static final String INSERT_USER_PERMISSION =
+        "INSERT INTO users_permissions (user_id, permissions_name) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the users along with their direct roles and permissions, setting each user's id from blocks reserved
+     * in {@code users_id_seq}. Only the names of the roles and permissions are used, they must already exist.
+     *
+     * @throws org.springframework.dao.DuplicateKeyException if a user with one of the emails already exists
+     */
+    public void insertAll(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        List<Long> ids = allocateIds(users.size());
+        List<Link> roles = new ArrayList<>();
+        List<Link> permissions = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            user.setId(ids.get(i));
+            user.getRoles().forEach(role -> roles.add(new Link(user.getId(), role.getName())));
+            user.getPermissions().forEach(permission -> permissions.add(new Link(user.getId(), permission.getName())));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER, users, BATCH_SIZE, (preparedStatement, user) -> {
+            preparedStatement.setLong(1, user.getId());
+            preparedStatement.setString(2, user.getEmail());
+            preparedStatement.setString(3, user.getPassword());
+            preparedStatement.setString(4, user.getFirstname());
+            preparedStatement.setString(5, user.getLastname());
+            preparedStatement.setBoolean(6, user.isAccountNonExpired());
+            preparedStatement.setBoolean(7, user.isAccountNonLocked());
+            preparedStatement.setBoolean(8, user.isCredentialsNonExpired());
+            preparedStatement.setBoolean(9, user.isEnabled());
+        });
+        insertLinks(INSERT_USER_ROLE, roles);
+        insertLinks(INSERT_USER_PERMISSION, permissions);
+    }
+
+    //Reserves whole blocks in one round trip, the same way Hibernate's pooled optimizer does for User ids, so ids
+    //from either never overlap. Unused ids at the end of the last block are skipped.
+    List<Long> allocateIds(int count) {
+        final int blocks = (count + User.ID_ALLOCATION_SIZE - 1) / User.ID_ALLOCATION_SIZE;
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockEnd : jdbcTemplate.queryForList(ALLOCATE_IDS, Long.class, blocks)) {
+            for (long id = blockEnd - User.ID_ALLOCATION_SIZE + 1; id <= blockEnd && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void insertLinks(String sql, List<Link> links) {
+        if (links.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, links, BATCH_SIZE, (preparedStatement, link) -> {
+            preparedStatement.setLong(1, link.userId());
+            preparedStatement.setString(2, link.name());
+        });
+    }
+
+    private record Link(long userId, String name) {
+    }
+}
@@ -0,0 +1,43 @@
+package uk.gov.hmcts.juror.standard.datastore.repository;
+
+/**
+ * Native SQL shared by {@link UserRepository} queries.
+ */
+final class UserQueries {
+
+    /**
+     * Common table expression {@code user_role(name)} holding every role the user with {@code :email} has, directly
+     * or through any level of inheritance. UNION rather than UNION ALL also stops cyclic inheritance from recursing
+     * forever.
+     */
+    static final String USER_ROLE_CTE = """
+        WITH RECURSIVE user_role(name) AS (
+            SELECT ur.roles_name
+            FROM users_roles ur
+                JOIN users u ON u.id = ur.user_id
+            WHERE u.email = :email
+            UNION
+            SELECT rir.inherited_roles_name
+            FROM role_inherited_roles rir
+                JOIN user_role r ON r.name = rir.role_name
+        )
+        """;
+
+    /**
+     * Distinct names of every permission the user has, from their roles in {@link #USER_ROLE_CTE} or directly.
+     */
+    static final String COMBINED_PERMISSIONS = """
+        SELECT rp.permissions_name
+        FROM role_permissions rp
+            JOIN user_role r ON r.name = rp.role_name
+        UNION
+        SELECT up.permissions_name
+        FROM users_permissions up
+            JOIN users u ON u.id = up.user_id
+        WHERE u.email = :email
+        """;
+
+    private UserQueries() {
+
+    }
+}
@@ -1,19 +1,76 @@
 package uk.gov.hmcts.juror.standard.datastore.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "true")
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @EntityGraph(User.AUTHORITIES_GRAPH)
     Optional<User> findUserByEmail(String email);
 
+    /**
+     * Loads only the user's own row, leaving its roles and permissions unloaded, for callers that resolve authorities
+     * with {@link #findAuthorityNamesByEmail(String)} instead.
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Returns the names of every permission the user has, directly or through any level of inherited role, in a
+     * single statement.
+     */
+    @Query(value = UserQueries.USER_ROLE_CTE + UserQueries.COMBINED_PERMISSIONS, nativeQuery = true)
+    Set<String> findAuthorityNamesByEmail(@Param("email") String email);
+
+    /**
+     * Returns everything needed for a {@code UserResponse} in one statement without loading the entity, see
+     * {@link UserResponseRow}. Empty if there is no user with the email.
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = UserQueries.USER_ROLE_CTE + """
+        , authority(type, name) AS (
+            SELECT 'ROLE', ur.roles_name
+            FROM users_roles ur
+                JOIN users u ON u.id = ur.user_id
+            WHERE u.email = :email
+            UNION ALL
+            SELECT 'PERMISSION', up.permissions_name
+            FROM users_permissions up
+                JOIN users u ON u.id = up.user_id
+            WHERE u.email = :email
+            UNION ALL
+            SELECT 'COMBINED_PERMISSION', combined.name
+            FROM (
+        """ + UserQueries.COMBINED_PERMISSIONS + """
+            ) combined(name)
+        )
+        SELECT u.email, u.firstname, u.lastname, a.type, a.name
+        FROM users u
+            LEFT JOIN authority a ON TRUE
+        WHERE u.email = :email
+        """, nativeQuery = true)
+    List<UserResponseRow> findUserResponseRowsByEmail(@Param("email") String email);
+
+    //Neither of these touch the lazy role and permission associations
     boolean existsByEmail(String email);
 
+    boolean existsByEmailIn(Collection<String> emails);
+
     void deleteByEmail(String email);
 }
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.juror.standard.datastore.repository;
+
+/**
+ * Read-only projection of one row of {@link UserRepository#findUserResponseRowsByEmail(String)}.
+ *
+ * <p>Every row repeats the user's details alongside one role, direct permission or combined permission name; a user
+ * with none of these has a single row with a null type and name.
+ */
+public interface UserResponseRow {
+
+    String getEmail();
+
+    String getFirstname();
+
+    String getLastname();
+
+    Type getType();
+
+    String getName();
+
+    enum Type {
+        ROLE,
+        PERMISSION,
+        COMBINED_PERMISSION
+    }
+}
@@ -7,7 +7,10 @@ import uk.gov.hmcts.juror.standard.api.model.auth.UserResponse;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+import uk.gov.hmcts.juror.standard.datastore.repository.UserResponseRow;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Mapper(componentModel = "spring")
@@ -17,6 +20,39 @@ public abstract class UserMapper {
     @Mapping(target = "combinedPermissions", expression = "java(mapPermissionsToString(user.getCombinedPermissions()))")
     public abstract UserResponse toUserResponse(User user);
 
+    /**
+     * Builds a response from the rows of {@code UserRepository.findUserResponseRowsByEmail}, or null if there are
+     * none.
+     */
+    public UserResponse toUserResponse(List<UserResponseRow> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return null;
+        }
+        Set<String> roles = new HashSet<>();
+        Set<String> permissions = new HashSet<>();
+        Set<String> combinedPermissions = new HashSet<>();
+        for (UserResponseRow row : rows) {
+            if (row.getType() == null) {
+                continue;
+            }
+            switch (row.getType()) {
+                case ROLE -> roles.add(row.getName());
+                case PERMISSION -> permissions.add(row.getName());
+                case COMBINED_PERMISSION -> combinedPermissions.add(row.getName());
+                default -> throw new IllegalArgumentException("Unexpected row type: " + row.getType());
+            }
+        }
+        UserResponseRow user = rows.get(0);
+        return UserResponse.builder()
+            .email(user.getEmail())
+            .firstname(user.getFirstname())
+            .lastname(user.getLastname())
+            .roles(roles)
+            .permissions(permissions)
+            .combinedPermissions(combinedPermissions)
+            .build();
+    }
+
     public abstract Set<String> mapRolesToString(Set<Role> value);
 
     public abstract Set<String> mapPermissionsToString(Set<Permission> value);
@@ -21,7 +21,13 @@ public interface JwtService {
     String generateJwtToken(String id, String issuer, String subject, long tokenValidity, Key secretKey,
                             Map<String, Object> claims);
 
+    ParsedJwt parseJwt(String jwt);
+
     boolean isJwtValid(String jwt, UserDetails userDetails);
 
+    boolean isJwtValid(ParsedJwt jwt, UserDetails userDetails);
+
     UserDetails extractUserDetails(String jwt);
+
+    UserDetails extractUserDetails(ParsedJwt jwt);
 }
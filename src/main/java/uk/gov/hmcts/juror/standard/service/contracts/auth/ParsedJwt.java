@@ -0,0 +1,22 @@
+package uk.gov.hmcts.juror.standard.service.contracts.auth;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * The claims of a JWT whose signature has already been verified.
+ *
+ * <p>Produced once per token by {@link JwtService#parseJwt(String)} so callers can read the subject, expiry,
+ * permissions and roles without verifying the signature again.
+ */
+public record ParsedJwt(String subject, Instant expiration, Set<String> permissions, Set<String> roles) {
+
+    public ParsedJwt {
+        permissions = permissions == null ? Set.of() : Set.copyOf(permissions);
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiration == null || expiration.isBefore(now);
+    }
+}
@@ -2,15 +2,22 @@ package uk.gov.hmcts.juror.standard.service.contracts.auth;
 
 import uk.gov.hmcts.juror.standard.api.model.auth.AssignPermissionsRequest;
 import uk.gov.hmcts.juror.standard.api.model.auth.RegisterRequest;
+import uk.gov.hmcts.juror.standard.api.model.auth.UserResponse;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
 
+import java.util.List;
+
 public interface UserService {
     String authenticate(String email, String password);
 
     String register(RegisterRequest request);
 
+    void registerAll(List<RegisterRequest> requests);
+
     User getUser(String email);
 
+    UserResponse getUserResponse(String email);
+
     void deleteUser(String email);
 
     void resetPassword(String email, String password);
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.juror.standard.service.impl.auth;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Micrometer meters for JWT verification and generation.
+ *
+ * <p>Tokens issued are tagged by subject only for the service subjects listed in
+ * {@code uk.gov.hmcts.juror.security.metrics.tagged-subjects}. Every other subject, including user emails, is
+ * counted under {@value #OTHER_SUBJECT} so personal data never reaches the metrics endpoint.
+ */
+@Component
+public class JwtMetrics {
+
+    public static final String VERIFY_TIMER = "juror.security.jwt.verify";
+    public static final String PARSE_FAILURE_COUNTER = "juror.security.jwt.parse.failures";
+    public static final String GENERATE_TIMER = "juror.security.jwt.generate";
+    public static final String ISSUED_COUNTER = "juror.security.jwt.issued";
+    public static final String OTHER_SUBJECT = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer verifySuccessTimer;
+    private final Timer verifyFailureTimer;
+    private final Timer generateTimer;
+    private final Set<String> taggedSubjects;
+
+    @Autowired
+    public JwtMetrics(MeterRegistry meterRegistry,
+                      @Value("${uk.gov.hmcts.juror.security.metrics.tagged-subjects:}") Set<String> taggedSubjects) {
+        this.meterRegistry = meterRegistry;
+        this.taggedSubjects = Set.copyOf(taggedSubjects);
+        this.verifySuccessTimer = Timer.builder(VERIFY_TIMER)
+            .description("Time taken to parse and verify the signature of a JWT")
+            .tag("outcome", "success").register(meterRegistry);
+        this.verifyFailureTimer = Timer.builder(VERIFY_TIMER)
+            .description("Time taken to parse and verify the signature of a JWT")
+            .tag("outcome", "failure").register(meterRegistry);
+        this.generateTimer = Timer.builder(GENERATE_TIMER)
+            .description("Time taken to build and sign a JWT")
+            .register(meterRegistry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void verified(Timer.Sample sample) {
+        sample.stop(verifySuccessTimer);
+    }
+
+    public void verificationFailed(Timer.Sample sample, Exception exception) {
+        sample.stop(verifyFailureTimer);
+        Counter.builder(PARSE_FAILURE_COUNTER)
+            .description("JWTs that failed to parse or verify, by cause")
+            .tag("cause", getCause(exception))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void generated(Timer.Sample sample, String subject) {
+        sample.stop(generateTimer);
+        Counter.builder(ISSUED_COUNTER)
+            .description("JWTs issued, by subject")
+            .tag("subject", getSubjectTag(subject))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    String getSubjectTag(String subject) {
+        if (subject != null && taggedSubjects.contains(subject)) {
+            return subject;
+        }
+        return OTHER_SUBJECT;
+    }
+
+    static String getCause(Exception exception) {
+        if (exception instanceof ExpiredJwtException) {
+            return "expired";
+        }
+        if (exception instanceof SignatureException) {
+            return "bad_signature";
+        }
+        if (exception instanceof MalformedJwtException) {
+            return "malformed";
+        }
+        if (exception instanceof UnsupportedJwtException) {
+            return "unsupported";
+        }
+        return "other";
+    }
+}
@@ -2,8 +2,8 @@ package uk.gov.hmcts.juror.standard.service.impl.auth;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,18 +15,20 @@ import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
+import uk.gov.hmcts.juror.standard.service.contracts.auth.ParsedJwt;
 import uk.gov.hmcts.juror.standard.service.exceptions.UnauthorisedException;
 
 import java.security.Key;
 import java.time.Clock;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import javax.crypto.SecretKey;
 
 @Service
 @Slf4j
@@ -45,12 +47,30 @@ public class JwtServiceImpl implements JwtService {
 
     private final Clock clock;
 
+    private final JwtMetrics jwtMetrics;
+
+    private final AtomicReference<JwtSigningKey> signingKey = new AtomicReference<>();
+
     private static final String PERMISSIONS_KEY = "permissions";
     private static final String ROLES_KEY = "roles";
 
     @Autowired
-    public JwtServiceImpl(Clock clock) {
+    public JwtServiceImpl(Clock clock, JwtMetrics jwtMetrics) {
         this.clock = clock;
+        this.jwtMetrics = jwtMetrics;
+    }
+
+    @PostConstruct
+    void initSigningKey() {
+        rotateSecret(jwtSecret);
+    }
+
+    /**
+     * Replaces the signing key and parser used for all subsequent token operations.
+     * In-flight requests keep using the key they already read.
+     */
+    public void rotateSecret(String secret) {
+        this.signingKey.set(JwtSigningKey.fromSecret(secret));
     }
 
     @Override
@@ -74,17 +94,37 @@ public class JwtServiceImpl implements JwtService {
     }
 
     private Claims extractAllClaims(String jwt) {
+        final Timer.Sample sample = jwtMetrics.start();
         try {
-            return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(jwt).getPayload();
+            Claims claims = signingKey.get().parser().parseSignedClaims(jwt).getPayload();
+            jwtMetrics.verified(sample);
+            return claims;
         } catch (Exception exception) {
+            jwtMetrics.verificationFailed(sample, exception);
             throw new UnauthorisedException("Failed to parse JWT", exception);
         }
     }
 
+    @Override
+    public ParsedJwt parseJwt(String jwt) {
+        Claims claims = extractAllClaims(jwt);
+        Date expiration = claims.getExpiration();
+        return new ParsedJwt(
+            claims.getSubject(),
+            expiration == null ? null : expiration.toInstant(),
+            extractStringSet(claims, PERMISSIONS_KEY),
+            extractStringSet(claims, ROLES_KEY));
+    }
+
     @Override
     public boolean isJwtValid(String jwt, UserDetails userDetails) {
-        final boolean doesEmailMatch = extractEmail(jwt).equals(userDetails.getUsername());
-        final boolean isExpired = isJwtExpired(jwt);
+        return isJwtValid(parseJwt(jwt), userDetails);
+    }
+
+    @Override
+    public boolean isJwtValid(ParsedJwt jwt, UserDetails userDetails) {
+        final boolean doesEmailMatch = jwt.subject() != null && jwt.subject().equals(userDetails.getUsername());
+        final boolean isExpired = jwt.isExpired(Instant.ofEpochMilli(clock.millis()));
         if (log.isTraceEnabled()) {
             log.trace("isJwtValid: email match: " + doesEmailMatch + " isExpired: " + isExpired);
         }
@@ -93,56 +133,59 @@ public class JwtServiceImpl implements JwtService {
 
     @Override
     public UserDetails extractUserDetails(String jwt) {
-        return User.builder().email(extractEmail(jwt)).permissions(extractPermissions(jwt)).build();
+        return extractUserDetails(parseJwt(jwt));
     }
 
-
-    private Set<Permission> extractPermissions(String jwt) {
-        Set<String> permissions = extractClaim(jwt, claims -> {
-            Object obj = claims.getOrDefault(PERMISSIONS_KEY, Set.of());
-            if (obj instanceof Collection<?> set) {
-                return set.stream().map(Object::toString).collect(Collectors.toUnmodifiableSet());
-            }
-            return Set.of();
-        });
+    @Override
+    public UserDetails extractUserDetails(ParsedJwt jwt) {
         if (log.isTraceEnabled()) {
-            log.trace("Extracting permissions from JWT found: " + String.join(",", permissions));
+            log.trace("Extracting permissions from JWT found: " + String.join(",", jwt.permissions()));
         }
-        return permissions.stream().map(Permission::new).collect(Collectors.toUnmodifiableSet());
+        Set<Permission> permissions =
+            jwt.permissions().stream().map(Permission::new).collect(Collectors.toUnmodifiableSet());
+        return User.builder().email(jwt.subject()).permissions(permissions).build();
     }
 
-    private boolean isJwtExpired(String jwt) {
-        return extractExpiration(jwt).before(new Date(clock.millis()));
+    private Set<String> extractStringSet(Claims claims, String key) {
+        Object obj = claims.getOrDefault(key, Set.of());
+        if (obj instanceof Collection<?> set) {
+            return set.stream().map(Object::toString).collect(Collectors.toUnmodifiableSet());
+        }
+        return Set.of();
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    private Key getSigningKey() {
+        return signingKey.get().secretKey();
     }
 
     @Override
     public String generateJwtToken(@NotNull UserDetails userDetails) {
         Map<String, Object> claims = new ConcurrentHashMap<>();
-        claims.put(PERMISSIONS_KEY,
-            userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toSet()));
         if (userDetails instanceof User user) {
+            claims.put(PERMISSIONS_KEY, user.getAuthorityNames());
             claims.put(ROLES_KEY, user.getRoles().stream().map(Role::getName).collect(Collectors.toSet()));
+        } else {
+            claims.put(PERMISSIONS_KEY, userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet()));
         }
         return generateJwtToken(claims, userDetails);
     }
 
     @Override
     public String generateJwtToken(Map<String, Object> claims, UserDetails userDetails) {
-        Key signingKey = getSigningKey();
-        return generateJwtToken(null, null, userDetails.getUsername(), tokenValidity, signingKey, claims);
+        return generateJwtToken(null, null, userDetails.getUsername(), tokenValidity, getSigningKey(), claims);
     }
 
     @Override
     public String generateJwtToken(String id, String issuer, String subject, long tokenValidity, Key secretKey,
                                    Map<String, Object> claims) {
+        final Timer.Sample sample = jwtMetrics.start();
         try {
             Date issuedAtDate = new Date(clock.millis());
-            return Jwts.builder().id(id).issuer(issuer).claims(claims).subject(subject).issuedAt(issuedAtDate)
+            String jwt = Jwts.builder().id(id).issuer(issuer).claims(claims).subject(subject).issuedAt(issuedAtDate)
                 .expiration(new Date(issuedAtDate.getTime() + tokenValidity)).signWith(secretKey).compact();
+            jwtMetrics.generated(sample, subject);
+            return jwt;
         } catch (Exception exception) {
             throw new UnauthorisedException("Failed to parse JWT", exception);
         }
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.juror.standard.service.impl.auth;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+
+/**
+ * Immutable pairing of a decoded HMAC signing key and the parser that verifies against it.
+ *
+ * <p>Both are thread safe, so a single instance can be shared by every request and swapped
+ * atomically when the secret is rotated.
+ */
+public record JwtSigningKey(SecretKey secretKey, JwtParser parser) {
+
+    public static JwtSigningKey fromSecret(String base64Secret) {
+        SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+        return new JwtSigningKey(secretKey, Jwts.parser().verifyWith(secretKey).build());
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.hmcts.juror.standard.service.impl.auth;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.juror.standard.cache.AuthorityGraphCache;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
 import uk.gov.hmcts.juror.standard.datastore.repository.PermissionRepository;
@@ -13,6 +14,7 @@ import uk.gov.hmcts.juror.standard.service.exceptions.InvalidPermissionValueExce
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "true")
@@ -22,10 +24,14 @@ public class PermissionServiceImpl implements PermissionService {
 
     private final RoleService roleService;
 
+    private final AuthorityGraphCache authorityGraphCache;
+
     public PermissionServiceImpl(PermissionRepository permissionRepository,
-                                 RoleService roleService) {
+                                 RoleService roleService,
+                                 AuthorityGraphCache authorityGraphCache) {
         this.permissionRepository = permissionRepository;
         this.roleService = roleService;
+        this.authorityGraphCache = authorityGraphCache;
     }
 
     @Override
@@ -33,13 +39,14 @@ public class PermissionServiceImpl implements PermissionService {
         if (permissionsString == null || permissionsString.isEmpty()) {
             return Collections.emptySet();
         }
-        Set<Permission> permissions = permissionRepository.getPermissionByNameIn(permissionsString);
-        if (permissions.size() != permissionsString.size()) {
-            permissions.forEach(permission -> permissionsString.remove(permission.getName()));
+        Set<String> missingPermissions = authorityGraphCache.findMissingPermissions(permissionsString);
+        if (!missingPermissions.isEmpty()) {
             throw new InvalidPermissionValueException(
-                    "One or more permissions could not be located: " + permissionsString);
+                    "One or more permissions could not be located: " + missingPermissions);
         }
-        return permissions;
+        return permissionsString.stream()
+            .map(permissionRepository::getReferenceById)
+            .collect(Collectors.toSet());
     }
 
     @Override
@@ -55,6 +62,7 @@ public class PermissionServiceImpl implements PermissionService {
         Optional<Permission> permissionOptional = permissionRepository.findById(permissionName);
         Permission permission = permissionOptional.orElseGet(() -> new Permission(permissionName));
         permission = permissionRepository.save(permission);
+        authorityGraphCache.permissionChanged(permission);
         roleService.assignPermission(permission,roles);
         return permission;
     }
@@ -3,6 +3,7 @@ package uk.gov.hmcts.juror.standard.service.impl.auth;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.juror.standard.cache.AuthorityGraphCache;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
 import uk.gov.hmcts.juror.standard.datastore.repository.RoleRepository;
@@ -10,8 +11,10 @@ import uk.gov.hmcts.juror.standard.service.contracts.auth.RoleService;
 import uk.gov.hmcts.juror.standard.service.exceptions.InvalidRoleValueException;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "true")
@@ -19,9 +22,11 @@ public class RoleServiceImpl implements RoleService {
 
 
     private final RoleRepository roleRepository;
+    private final AuthorityGraphCache authorityGraphCache;
 
-    public RoleServiceImpl(RoleRepository roleRepository) {
+    public RoleServiceImpl(RoleRepository roleRepository, AuthorityGraphCache authorityGraphCache) {
         this.roleRepository = roleRepository;
+        this.authorityGraphCache = authorityGraphCache;
     }
 
     @Override
@@ -29,12 +34,15 @@ public class RoleServiceImpl implements RoleService {
         if (roleNames == null || roleNames.isEmpty()) {
             return Collections.emptySet();
         }
-        Set<Role> roles = roleRepository.getRolesByNameIsIn(roleNames);
-        if (roles.size() != roleNames.size()) {
-            roles.forEach(role -> roleNames.remove(role.getName()));
-            throw new InvalidRoleValueException("One or more roles could not be located: " + roleNames);
+        Set<String> missingRoleNames = authorityGraphCache.findMissingRoles(roleNames);
+        if (!missingRoleNames.isEmpty()) {
+            throw new InvalidRoleValueException("One or more roles could not be located: " + missingRoleNames);
         }
-        return roles;
+        //References belong to the caller's persistence context, so they are the same instances as any of its
+        //already loaded roles and can be added to or removed from its entities
+        return roleNames.stream()
+            .map(roleRepository::getReferenceById)
+            .collect(Collectors.toSet());
     }
 
     @Override
@@ -49,7 +57,9 @@ public class RoleServiceImpl implements RoleService {
         Optional<Role> roleOptional = roleRepository.findById(roleName);
         Role role = roleOptional.orElseGet(() -> new Role(roleName));
         role.setInheritedRoles(inheritedRoles);
-        return roleRepository.save(role);
+        role = roleRepository.save(role);
+        authorityGraphCache.rolesChanged(Set.of(role));
+        return role;
     }
 
     @Override
@@ -58,7 +68,9 @@ public class RoleServiceImpl implements RoleService {
         if (roles == null || roles.isEmpty()) {
             return;
         }
-        roles.forEach(role -> role.addPermission(permission));
-        roleRepository.saveAll(roles);
+        //Changes the managed copy of each role, the given instances may be detached
+        List<Role> managedRoles = roleRepository.findAllById(roles.stream().map(Role::getName).toList());
+        managedRoles.forEach(role -> role.addPermission(permission));
+        authorityGraphCache.rolesChanged(roleRepository.saveAll(managedRoles));
     }
 }
@@ -2,6 +2,7 @@ package uk.gov.hmcts.juror.standard.service.impl.auth;
 
 import io.jsonwebtoken.lang.Collections;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,13 +13,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.juror.standard.api.model.auth.AssignPermissionsRequest;
 import uk.gov.hmcts.juror.standard.api.model.auth.RegisterRequest;
+import uk.gov.hmcts.juror.standard.api.model.auth.UserResponse;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.CannotAssignPermissionsToSelfError;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.CannotDeleteSelfError;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.UserAlreadyRegisteredError;
+import uk.gov.hmcts.juror.standard.cache.AuthorityGraphCache;
+import uk.gov.hmcts.juror.standard.cache.UserDetailsCache;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+import uk.gov.hmcts.juror.standard.datastore.repository.UserJdbcRepository;
 import uk.gov.hmcts.juror.standard.datastore.repository.UserRepository;
+import uk.gov.hmcts.juror.standard.datastore.repository.UserResponseRow;
+import uk.gov.hmcts.juror.standard.mapping.UserMapper;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.PermissionService;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.RoleService;
@@ -27,33 +34,58 @@ import uk.gov.hmcts.juror.standard.service.exceptions.BusinessRuleValidationExce
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 import uk.gov.hmcts.juror.standard.service.exceptions.NotFoundException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 @ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.security", name = "use-database", havingValue = "true")
 public class UserServiceImpl implements UserService {
 
+    static final int MAX_ENCODING_THREADS = 4;
+
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
     private final RoleService roleService;
     private final PermissionService permissionService;
+    private final UserDetailsCache userDetailsCache;
+    private final AuthorityGraphCache authorityGraphCache;
+    private final UserMapper userMapper;
 
     public UserServiceImpl(UserRepository userRepository,
+                           UserJdbcRepository userJdbcRepository,
                            RoleService roleService,
                            PermissionService permissionService,
                            PasswordEncoder passwordEncoder,
                            JwtService jwtService,
-                           AuthenticationManager authenticationManager) {
+                           AuthenticationManager authenticationManager,
+                           UserDetailsCache userDetailsCache,
+                           AuthorityGraphCache authorityGraphCache,
+                           UserMapper userMapper) {
         this.userRepository = userRepository;
+        this.userJdbcRepository = userJdbcRepository;
         this.roleService = roleService;
         this.permissionService = permissionService;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.userDetailsCache = userDetailsCache;
+        this.authorityGraphCache = authorityGraphCache;
+        this.userMapper = userMapper;
     }
 
 
@@ -66,6 +98,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public String register(RegisterRequest request) {
         if (doesUserExist(request.getEmail())) {
             throw new BusinessRuleValidationException(new UserAlreadyRegisteredError());
@@ -84,8 +117,115 @@ public class UserServiceImpl implements UserService {
         return jwtService.generateJwtToken(user);
     }
 
+    @Override
+    @Transactional
+    public void registerAll(List<RegisterRequest> requests) {
+        Set<String> emails = new HashSet<>();
+        Set<String> roleNames = new HashSet<>();
+        Set<String> permissionNames = new HashSet<>();
+        for (RegisterRequest request : requests) {
+            if (!emails.add(request.getEmail())) {
+                throw new BusinessRuleValidationException(new UserAlreadyRegisteredError());
+            }
+            addAll(roleNames, request.getRoles());
+            addAll(permissionNames, request.getPermissions());
+        }
+        if (userRepository.existsByEmailIn(emails)) {
+            throw new BusinessRuleValidationException(new UserAlreadyRegisteredError());
+        }
+        //One lookup for every name used by any request, rather than one per request
+        Map<String, Role> roles = roleService.getRoles(roleNames).stream()
+            .collect(Collectors.toMap(Role::getName, Function.identity()));
+        Map<String, Permission> permissions = permissionService.getPermissions(permissionNames).stream()
+            .collect(Collectors.toMap(Permission::getName, Function.identity()));
+
+        List<String> passwords = encodePasswords(requests);
+
+        List<User> users = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            RegisterRequest request = requests.get(i);
+            users.add(User.builder()
+                .firstname(request.getFirstname())
+                .lastname(request.getLastname())
+                .email(request.getEmail())
+                .roles(select(roles, request.getRoles()))
+                .permissions(select(permissions, request.getPermissions()))
+                .password(passwords.get(i))
+                .build());
+        }
+        try {
+            userJdbcRepository.insertAll(users);
+        } catch (DuplicateKeyException e) {
+            //Registered concurrently since the check above
+            throw new BusinessRuleValidationException(new UserAlreadyRegisteredError());
+        }
+    }
+
+    //Password hashing is deliberately slow, so it is spread over a few threads of its own rather than the common
+    //pool, which would starve every other parallel stream in the JVM for the length of the import
+    private List<String> encodePasswords(List<RegisterRequest> requests) {
+        final int threads = Math.max(1, Math.min(requests.size(),
+            Math.min(Runtime.getRuntime().availableProcessors(), MAX_ENCODING_THREADS)));
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "password-encoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<String>> futures = new ArrayList<>(requests.size());
+            for (RegisterRequest request : requests) {
+                futures.add(executor.submit(() -> passwordEncoder.encode(request.getPassword())));
+            }
+            List<String> passwords = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                passwords.add(future.get());
+            }
+            return passwords;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("Interrupted encoding passwords", e);
+        } catch (ExecutionException e) {
+            throw new InternalServerException("Failed to encode passwords", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void addAll(Set<String> names, Collection<String> toAdd) {
+        if (toAdd != null) {
+            names.addAll(toAdd);
+        }
+    }
+
+    private static <T> Set<T> select(Map<String, T> byName, Collection<String> names) {
+        if (names == null) {
+            return new HashSet<>();
+        }
+        return names.stream().map(byName::get).collect(Collectors.toSet());
+    }
+
     @Override
     public User getUser(String email) {
+        User user = findUser(email);
+        //Authorities are resolved in one query, the cached role graph is only walked after later changes
+        authorityGraphCache.attachRoleGraph(user);
+        user.setResolvedAuthorityNames(userRepository.findAuthorityNamesByEmail(email));
+        return user;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserResponse getUserResponse(String email) {
+        //Built from projection rows, so no entity is loaded into or dirty checked by the persistence context
+        List<UserResponseRow> rows = userRepository.findUserResponseRowsByEmail(email);
+        if (rows.isEmpty()) {
+            throw new NotFoundException("User with email: " + email + " not found");
+        }
+        return userMapper.toUserResponse(rows);
+    }
+
+    //For updates, which do not read the user's authorities
+    private User findUser(String email) {
         Optional<User> userOptional = userRepository.findUserByEmail(email);
         if (userOptional.isPresent()) {
             return userOptional.get();
@@ -103,6 +243,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     @SuppressWarnings("PMD.UselessParentheses")
     public void updatePermissions(AssignPermissionsRequest request) {
         if (isUserSameAsAuthenticatedUser(request.getEmail())) {
@@ -119,7 +260,7 @@ public class UserServiceImpl implements UserService {
         if (isEmpty.test(request.getAdd()) && isEmpty.test(request.getRemove())) {
             return;
         }
-        User user = getUser(request.getEmail());
+        User user = findUser(request.getEmail());
         if (!isEmpty.test(request.getAdd())) {
             Set<Permission> permissions = permissionService.getPermissions(request.getAdd().getPermissions());
             Set<Role> roles = roleService.getRoles(request.getAdd().getRoles());
@@ -135,6 +276,7 @@ public class UserServiceImpl implements UserService {
             user.removeAllRoles(roles);
         }
         save(user);
+        userDetailsCache.invalidate(request.getEmail());
     }
 
     @PreAuthorize("isFullyAuthenticated()")
@@ -155,12 +297,14 @@ public class UserServiceImpl implements UserService {
             throw new NotFoundException("User with email: " + email + " not found");
         }
         userRepository.deleteByEmail(email);
+        userDetailsCache.invalidate(email);
     }
 
     @Override
     public void resetPassword(String email, String password) {
-        User user = getUser(email);
+        User user = findUser(email);
         user.setPassword(passwordEncoder.encode(password));
         save(user);
+        userDetailsCache.invalidate(email);
     }
 }
@@ -0,0 +1,12 @@
+-- users.id was created as bigserial alongside an explicit users_id_seq, so the column default draws from its own
+-- implicit sequence. Make users_id_seq the single source of user ids so ids it hands out, for example to bulk
+-- inserts, can never collide with ids assigned by the column default.
+
+SELECT setval('support_library.users_id_seq',
+              GREATEST((SELECT COALESCE(MAX(id), 1) FROM support_library.users),
+                       (SELECT last_value FROM support_library.users_id_seq)));
+
+ALTER TABLE support_library.users
+    ALTER COLUMN id SET DEFAULT nextval('support_library.users_id_seq');
+
+ALTER SEQUENCE support_library.users_id_seq OWNED BY support_library.users.id;
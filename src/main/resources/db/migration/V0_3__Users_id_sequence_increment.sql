@@ -0,0 +1,4 @@
+-- User ids are allocated in blocks of 50 (User.ID_ALLOCATION_SIZE). Each value taken from users_id_seq reserves the
+-- ids from value - 49 to value, so the sequence must step by the block size.
+
+ALTER SEQUENCE support_library.users_id_seq INCREMENT BY 50;
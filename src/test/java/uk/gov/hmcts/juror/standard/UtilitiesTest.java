@@ -0,0 +1,164 @@
+package uk.gov.hmcts.juror.standard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Utilities")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class UtilitiesTest {
+
+    private static final List<Integer> VALUES = List.of(1, 2, 3, 4, 5, 6, 7);
+    private static final List<List<Integer>> EXPECTED = List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7));
+
+    @Nested
+    @DisplayName("public static <T> List<List<T>> getBatches(List<T> collection, int batchSize)")
+    class GetBatchesList {
+        @Test
+        void positiveBatches() {
+            assertEquals(EXPECTED, Utilities.getBatches(VALUES, 3), "Batches must match");
+        }
+
+        @Test
+        void positiveEmpty() {
+            assertEquals(List.of(), Utilities.getBatches(List.of(), 3), "Batches must be empty");
+        }
+
+        @Test
+        void negativeInvalidBatchSize() {
+            assertThrows(IllegalArgumentException.class, () -> Utilities.getBatches(VALUES, 0),
+                "Batch size must be validated");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static <T> List<List<T>> getBatchesView(List<T> collection, int batchSize)")
+    class GetBatchesView {
+        @Test
+        void positiveBatches() {
+            List<List<Integer>> batches = Utilities.getBatchesView(VALUES, 3);
+            assertEquals(EXPECTED, batches, "Batches must match");
+            assertEquals(List.of(7), batches.get(2), "Last batch must match");
+        }
+
+        @Test
+        void positiveReflectsChanges() {
+            List<Integer> values = new ArrayList<>(VALUES);
+            List<List<Integer>> batches = Utilities.getBatchesView(values, 3);
+            values.add(8);
+            assertEquals(List.of(7, 8), batches.get(2), "View must reflect the list");
+        }
+
+        @Test
+        void negativeOutOfBounds() {
+            List<List<Integer>> batches = Utilities.getBatchesView(VALUES, 3);
+            assertThrows(IndexOutOfBoundsException.class, () -> batches.get(3), "Index must be validated");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static <T> Iterator<List<T>> getBatches(Iterator<T> source, int batchSize)")
+    class GetBatchesIterator {
+        @Test
+        void positiveLazyBatches() {
+            AtomicInteger consumed = new AtomicInteger();
+            Iterator<Integer> source = VALUES.stream().peek(value -> consumed.incrementAndGet()).iterator();
+            Iterator<List<Integer>> batches = Utilities.getBatches(source, 3);
+            assertEquals(0, consumed.get(), "Nothing must be consumed up front");
+            assertEquals(List.of(1, 2, 3), batches.next(), "First batch must match");
+            assertEquals(3, consumed.get(), "Only the first batch must be consumed");
+            assertEquals(List.of(4, 5, 6), batches.next(), "Second batch must match");
+            assertEquals(List.of(7), batches.next(), "Last batch must match");
+            assertFalse(batches.hasNext(), "There must be no more batches");
+            assertThrows(NoSuchElementException.class, batches::next, "Exhausted iterator must throw");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static <T> Stream<List<T>> getBatches(Stream<T> source, int batchSize)")
+    class GetBatchesStream {
+        @Test
+        void positiveSequential() {
+            assertEquals(EXPECTED, Utilities.getBatches(VALUES.stream(), 3).toList(), "Batches must match");
+        }
+
+        @Test
+        void positiveParallelKeepsEveryElement() {
+            List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+            List<List<Integer>> batches = Utilities.getBatches(values.parallelStream(), 100).toList();
+            assertTrue(batches.stream().allMatch(batch -> batch.size() <= 100), "Batches must not exceed the size");
+            assertEquals(values, batches.stream().flatMap(List::stream).collect(Collectors.toList()),
+                "Every element must be kept in order");
+        }
+
+        @Test
+        void positiveCloseClosesSource() {
+            AtomicInteger closed = new AtomicInteger();
+            try (Stream<List<Integer>> batches = Utilities.getBatches(
+                VALUES.stream().onClose(closed::incrementAndGet), 3)) {
+                assertEquals(3, batches.count(), "Batch count must match");
+            }
+            assertEquals(1, closed.get(), "Source must be closed");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static <T> Spliterator<List<T>> getBatches(Spliterator<T> source, int batchSize)")
+    class GetBatchesSpliterator {
+        @Test
+        void positiveSizeEstimate() {
+            Spliterator<List<Integer>> batches = Utilities.getBatches(VALUES.spliterator(), 3);
+            assertEquals(3, batches.estimateSize(), "Estimate must be the batch count");
+            assertTrue(batches.hasCharacteristics(Spliterator.SIZED), "Sized source must stay sized");
+            assertTrue(batches.hasCharacteristics(Spliterator.NONNULL), "Batches must be non null");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static <T> long forEachBatch(Iterator<T> source, int batchSize, Consumer<List<T>> consumer)")
+    class ForEachBatch {
+        @Test
+        void positiveReusesBuffer() {
+            List<List<Integer>> copies = new ArrayList<>();
+            List<List<Integer>> buffers = new ArrayList<>();
+            long count = Utilities.forEachBatch(VALUES.iterator(), 3, batch -> {
+                copies.add(List.copyOf(batch));
+                buffers.add(batch);
+            });
+            assertEquals(3, count, "Batch count must match");
+            assertEquals(EXPECTED, copies, "Batches must match");
+            assertSame(buffers.get(0), buffers.get(2), "Buffer must be reused");
+        }
+
+        @Test
+        void positiveStream() {
+            List<List<Integer>> copies = new ArrayList<>();
+            Utilities.forEachBatch(VALUES.stream(), 3, batch -> copies.add(List.copyOf(batch)));
+            assertEquals(EXPECTED, copies, "Batches must match");
+        }
+
+        @Test
+        void negativeInvalidBatchSize() {
+            assertThrows(IllegalArgumentException.class,
+                () -> Utilities.forEachBatch(VALUES.iterator(), -1, batch -> { }), "Batch size must be validated");
+        }
+    }
+}
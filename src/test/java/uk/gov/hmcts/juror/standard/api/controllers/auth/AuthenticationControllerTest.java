@@ -23,8 +23,6 @@ import uk.gov.hmcts.juror.standard.api.model.auth.UserResponse;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.CannotAssignPermissionsToSelfError;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.CannotDeleteSelfError;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.UserAlreadyRegisteredError;
-import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
-import uk.gov.hmcts.juror.standard.mapping.UserMapper;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.UserService;
 import uk.gov.hmcts.juror.standard.service.exceptions.BusinessRuleValidationException;
 import uk.gov.hmcts.juror.standard.service.exceptions.InvalidPermissionValueException;
@@ -41,6 +39,7 @@ import uk.gov.hmcts.juror.standard.testsupport.controller.NotFoundPayloadArgumen
 import uk.gov.hmcts.juror.standard.testsupport.controller.SuccessRequestArgument;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -60,6 +59,7 @@ import static uk.gov.hmcts.juror.standard.api.controllers.auth.AuthenticationCon
 import static uk.gov.hmcts.juror.standard.api.controllers.auth.AuthenticationControllerTest.GetUserDetails.GET_USER_DETAILS_URL;
 import static uk.gov.hmcts.juror.standard.api.controllers.auth.AuthenticationControllerTest.Login.POST_LOGIN_URL;
 import static uk.gov.hmcts.juror.standard.api.controllers.auth.AuthenticationControllerTest.Register.POST_REGISTER_URL;
+import static uk.gov.hmcts.juror.standard.api.controllers.auth.AuthenticationControllerTest.RegisterAll.POST_REGISTER_BULK_URL;
 import static uk.gov.hmcts.juror.standard.api.controllers.auth.AuthenticationControllerTest.ResetPassword.PUT_RESET_PASSWORD_URL;
 import static uk.gov.hmcts.juror.standard.api.controllers.auth.AuthenticationControllerTest.UpdatePermissions.PUT_UPDATE_PERMISSIONS_URL;
 import static uk.gov.hmcts.juror.standard.testsupport.TestUtil.addJsonPath;
@@ -92,9 +92,6 @@ class AuthenticationControllerTest {
     @MockitoBean
     private UserService userService;
 
-    @MockitoBean
-    private UserMapper userMapper;
-
     protected Stream<InvalidPayloadArgument> getInvalidPayloadUserEmailRequestArgumentSource(
         String payload,
         Consumer<ResultActions> postActions) {
@@ -346,6 +343,77 @@ class AuthenticationControllerTest {
 
     }
 
+    @Nested
+    @DisplayName("POST " + POST_REGISTER_BULK_URL)
+    class RegisterAll extends ControllerWithPayloadTest {
+        static final String POST_REGISTER_BULK_URL = CONTROLLER_BASEURL + "/register/bulk";
+
+        public RegisterAll() {
+            super(HttpMethod.POST, POST_REGISTER_BULK_URL, HttpStatus.CREATED);
+        }
+
+        @Override
+        protected String getTypicalPayload() {
+            return readResource("postRegisterBulkValid.json", RESOURCE_PREFIX);
+        }
+
+        @Test
+        void negativeUserAlreadyRegistered() throws Exception {
+            callAndExpectErrorResponse(new ErrorRequestArgument(HttpStatus.UNPROCESSABLE_ENTITY,
+                getTypicalPayload(), "USER_ALREADY_REGISTERED", "A user with this email is already registered.")
+                .setPreActions(builder -> doThrow(
+                    new BusinessRuleValidationException(new UserAlreadyRegisteredError()))
+                    .when(userService).registerAll(any())));
+        }
+
+        @Test
+        void negativeInvalidRole() throws Exception {
+            callAndExpectErrorResponse(new ErrorRequestArgument(HttpStatus.BAD_REQUEST,
+                getTypicalPayload(), "INVALID_PAYLOAD", "One or more roles could not be located: [INVALID]")
+                .setPreActions(builder -> doThrow(
+                    new InvalidRoleValueException("One or more roles could not be located: [INVALID]"))
+                    .when(userService).registerAll(any())));
+        }
+
+        @Override
+        protected Stream<SuccessRequestArgument> getSuccessRequestArgument() {
+            return Stream.of(new SuccessRequestArgument("Typical", null, resultActions -> {
+                ArgumentCaptor<List<RegisterRequest>> captor = ArgumentCaptor.forClass(List.class);
+                verify(userService, times(1)).registerAll(captor.capture());
+                List<RegisterRequest> requests = captor.getValue();
+                assertEquals(2, requests.size(), "Request count must match");
+                assertEquals("user@cgi.com", requests.get(0).getEmail(), "Email must match");
+                assertEquals("password404", requests.get(0).getPassword(), "Password must match");
+                assertEquals(Set.of(TestRoles.USER.getName()), requests.get(0).getRoles(), "Roles must match");
+                assertEquals(Set.of(TestPermissions.USER_CREATE.getName()), requests.get(0).getPermissions(),
+                    "Permissions must match");
+                assertEquals("admin@cgi.com", requests.get(1).getEmail(), "Email must match");
+                assertEquals("Jo", requests.get(1).getFirstname(), "First name must match");
+                assertEquals("Smith", requests.get(1).getLastname(), "Last name must match");
+                assertNull(requests.get(1).getPermissions(), "Permissions must be null");
+            }, getTypicalPayload()));
+        }
+
+        @Override
+        protected Stream<InvalidPayloadArgument> getInvalidPayloadArgumentSource() {
+            String postPayload = getTypicalPayload();
+            Consumer<ResultActions> postActions = resultActions -> verify(userService, never()).registerAll(any());
+            return TestUtil.concat(
+                Stream.of(
+                    new InvalidPayloadArgument(deleteJsonPath(postPayload, "$.users"),
+                        "users: must not be null").setPostActions(postActions),
+                    new InvalidPayloadArgument(replaceJsonPath(postPayload, "$.users", new HashSet<>()),
+                        "users: size must be between 1 and 2500").setPostActions(postActions),
+                    new InvalidPayloadArgument(replaceJsonPath(postPayload, "$.users[1].email", ""),
+                        "users[1].email: must not be blank").setPostActions(postActions),
+                    new InvalidPayloadArgument(replaceJsonPath(postPayload, "$.users[0].password", "123456789"),
+                        "users[0].password: length must be between 10 and 2500").setPostActions(postActions)
+                ),
+                getInvalidPayloadRolesArgumentSource("$.users[0]", postPayload, postActions)
+            );
+        }
+    }
+
     @Nested
     @DisplayName("DELETE " + DELETE_USER_URL)
     class DeleteUser extends ControllerWithPayloadTest {
@@ -626,14 +694,11 @@ class AuthenticationControllerTest {
 
         public SuccessRequestArgument createSuccessRequestArgument(String name, UserResponse userResponse,
                                                                    String responsePayload) {
-            User user = User.builder().build();
-
             return new SuccessRequestArgument(name, builder -> {
-                when(userService.getUser(TestConstants.EMAIL)).thenReturn(user);
-                when(userMapper.toUserResponse(user)).thenReturn(userResponse);
+                when(userService.getUserResponse(TestConstants.EMAIL)).thenReturn(userResponse);
             }, resultActions -> {
-                verify(userService, times(1)).getUser(TestConstants.EMAIL);
-                verify(userMapper, times(1)).toUserResponse(any());
+                verify(userService, times(1)).getUserResponse(TestConstants.EMAIL);
+                verify(userService, never()).getUser(any());
 
             }, getTypicalPayload(), responsePayload);
         }
@@ -660,17 +725,18 @@ class AuthenticationControllerTest {
 
         @Override
         protected Stream<InvalidPayloadArgument> getInvalidPayloadArgumentSource() {
-            Consumer<ResultActions> postActions = resultActions -> verify(userService, never()).getUser(any());
+            Consumer<ResultActions> postActions =
+                resultActions -> verify(userService, never()).getUserResponse(any());
             return getInvalidPayloadUserEmailRequestArgumentSource(getTypicalPayload(), postActions);
         }
 
         @Test
         void negativeUserNotFound() throws Exception {
             callAndValidate(new NotFoundPayloadArgument(getTypicalPayload())
-                .setPostActions(resultActions -> verify(userService, times(1)).getUser(any()))
+                .setPostActions(resultActions -> verify(userService, times(1)).getUserResponse(any()))
                 .setPreActions(
                     builder -> doThrow(new NotFoundException("User with email: " + TestConstants.EMAIL + " not found"))
-                        .when(userService).getUser(TestConstants.EMAIL)));
+                        .when(userService).getUserResponse(TestConstants.EMAIL)));
         }
     }
 }
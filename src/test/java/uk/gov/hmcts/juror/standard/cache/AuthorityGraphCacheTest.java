@@ -0,0 +1,214 @@
+package uk.gov.hmcts.juror.standard.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+import uk.gov.hmcts.juror.standard.datastore.repository.PermissionRepository;
+import uk.gov.hmcts.juror.standard.datastore.repository.RoleRepository;
+import uk.gov.hmcts.juror.standard.testsupport.TestPermissions;
+import uk.gov.hmcts.juror.standard.testsupport.TestRoles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AuthorityGraphCache")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class AuthorityGraphCacheTest {
+
+    private static final Duration MIN_RELOAD_INTERVAL = Duration.ofSeconds(5);
+
+    private RoleRepository roleRepository;
+    private PermissionRepository permissionRepository;
+    private Clock clock;
+    private AuthorityGraphCache authorityGraphCache;
+
+    @BeforeEach
+    void beforeEach() {
+        this.roleRepository = mock(RoleRepository.class);
+        this.permissionRepository = mock(PermissionRepository.class);
+        when(roleRepository.findAll()).thenReturn(List.of(TestRoles.USER, TestRoles.ADMIN));
+        when(permissionRepository.findAll()).thenReturn(
+            List.of(TestPermissions.USER_CREATE, TestPermissions.USER_DELETE));
+        this.clock = mock(Clock.class);
+        this.authorityGraphCache =
+            new AuthorityGraphCache(roleRepository, permissionRepository, clock, MIN_RELOAD_INTERVAL);
+    }
+
+    @Nested
+    @DisplayName("public Set<String> findMissingRoles(Set<String> roleNames)")
+    class FindMissingRoles {
+        @Test
+        void positiveLoadedOnce() {
+            assertEquals(Set.of(), authorityGraphCache.findMissingRoles(Set.of("ADMIN")),
+                "No roles must be missing");
+            assertEquals(Set.of(), authorityGraphCache.findMissingRoles(Set.of("USER", "ADMIN")),
+                "No roles must be missing");
+            verify(roleRepository, times(1)).findAll();
+        }
+
+        @Test
+        void negativeMissingReloadsOnce() {
+            authorityGraphCache.reload();
+            when(clock.millis()).thenReturn(MIN_RELOAD_INTERVAL.toMillis());
+            assertEquals(Set.of("INVALID"), authorityGraphCache.findMissingRoles(Set.of("ADMIN", "INVALID")),
+                "Only unknown roles must be returned");
+            verify(roleRepository, times(2)).findAll();
+        }
+
+        @Test
+        void negativeMissingReloadRateLimited() {
+            authorityGraphCache.reload();
+            when(clock.millis()).thenReturn(MIN_RELOAD_INTERVAL.toMillis() - 1);
+            assertEquals(Set.of("INVALID"), authorityGraphCache.findMissingRoles(Set.of("INVALID")),
+                "Unknown role must be returned");
+            when(clock.millis()).thenReturn(MIN_RELOAD_INTERVAL.toMillis());
+            assertEquals(Set.of("INVALID"), authorityGraphCache.findMissingRoles(Set.of("INVALID")),
+                "Unknown role must be returned");
+            assertEquals(Set.of("INVALID"), authorityGraphCache.findMissingRoles(Set.of("INVALID")),
+                "Unknown role must be returned");
+            verify(roleRepository, times(2)).findAll();
+        }
+
+        @Test
+        void positiveCreatedElsewhereFoundAfterReload() {
+            authorityGraphCache.reload();
+            when(clock.millis()).thenReturn(MIN_RELOAD_INTERVAL.toMillis());
+            when(roleRepository.findAll()).thenReturn(List.of(TestRoles.USER, TestRoles.ADMIN, new Role("NEW")));
+            assertEquals(Set.of(), authorityGraphCache.findMissingRoles(Set.of("NEW")), "No roles must be missing");
+        }
+    }
+
+    @Nested
+    @DisplayName("public Set<String> findMissingPermissions(Set<String> permissionNames)")
+    class FindMissingPermissions {
+        @Test
+        void positiveFound() {
+            assertEquals(Set.of(),
+                authorityGraphCache.findMissingPermissions(
+                    Set.of(TestPermissions.USER_CREATE.getName(), TestPermissions.USER_DELETE.getName())),
+                "No permissions must be missing");
+            verify(permissionRepository, times(1)).findAll();
+        }
+
+        @Test
+        void negativeMissing() {
+            assertEquals(Set.of("INVALID"),
+                authorityGraphCache.findMissingPermissions(Set.of(TestPermissions.USER_CREATE.getName(), "INVALID")),
+                "Only unknown permissions must be returned");
+        }
+    }
+
+    @Nested
+    @DisplayName("public User attachRoleGraph(User user)")
+    class AttachRoleGraph {
+        @AfterEach
+        void afterEach() {
+            TestRoles.reset();
+        }
+
+        @Test
+        void positiveResolvedAgainstCachedRoles() {
+            TestRoles.USER.addPermission(TestPermissions.USER_CREATE);
+            User user = new User();
+            //A lazily loaded copy of ADMIN whose inherited roles have not been initialised
+            user.setRoles(Set.of(new Role("ADMIN")));
+
+            assertSame(user, authorityGraphCache.attachRoleGraph(user), "User must be returned");
+            assertEquals(Set.of(TestPermissions.USER_CREATE.getName()), user.getAuthorityNames(),
+                "Inherited permissions must come from the cached roles");
+        }
+
+        @Test
+        void positiveCachedRolesAreCopies() {
+            authorityGraphCache.reload();
+            //Changes to an entity that was never saved must not leak into the cached copy
+            TestRoles.USER.addPermission(TestPermissions.USER_CREATE);
+            User user = new User();
+            user.setRoles(Set.of(new Role("ADMIN")));
+            authorityGraphCache.attachRoleGraph(user);
+
+            assertEquals(Set.of(), user.getAuthorityNames(), "Cached roles must not share state with entities");
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot updates")
+    class Updates {
+
+        @AfterEach
+        void afterEach() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        void positiveRoleChangedWithoutReload() {
+            authorityGraphCache.reload();
+            authorityGraphCache.rolesChanged(Set.of(new Role("NEW")));
+
+            assertEquals(Set.of(), authorityGraphCache.findMissingRoles(Set.of("NEW")), "No roles must be missing");
+            verify(roleRepository, times(1)).findAll();
+        }
+
+        @Test
+        void positiveReplacedRoleRecomputesAttachedUsers() {
+            authorityGraphCache.reload();
+            User user = new User();
+            user.setRoles(Set.of(new Role("ADMIN")));
+            authorityGraphCache.attachRoleGraph(user);
+            assertEquals(Set.of(), user.getAuthorityNames(), "Cached roles have no permissions");
+
+            authorityGraphCache.rolesChanged(
+                Set.of(new Role("USER").setPermissions(Set.of(TestPermissions.USER_CREATE))));
+            assertEquals(Set.of(TestPermissions.USER_CREATE.getName()), user.getAuthorityNames(),
+                "Authorities must be recomputed against the replacement role");
+        }
+
+        @Test
+        void positivePermissionChangedWithoutReload() {
+            authorityGraphCache.reload();
+            authorityGraphCache.permissionChanged(new Permission("NEW_PERMISSION"));
+
+            assertEquals(Set.of(), authorityGraphCache.findMissingPermissions(Set.of("NEW_PERMISSION")),
+                "No permissions must be missing");
+            verify(permissionRepository, times(1)).findAll();
+        }
+
+        @Test
+        void positiveAppliedAfterCommit() {
+            authorityGraphCache.reload();
+            TransactionSynchronizationManager.initSynchronization();
+            Permission permission = new Permission("NEW_PERMISSION");
+            authorityGraphCache.permissionChanged(permission);
+
+            List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size(), "Change must be deferred until commit");
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.clearSynchronization();
+
+            assertEquals(Set.of(), authorityGraphCache.findMissingPermissions(Set.of("NEW_PERMISSION")),
+                "No permissions must be missing");
+            verify(permissionRepository, times(1)).findAll();
+        }
+    }
+}
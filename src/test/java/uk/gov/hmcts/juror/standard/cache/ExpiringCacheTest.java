@@ -0,0 +1,136 @@
+package uk.gov.hmcts.juror.standard.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ExpiringCache")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class ExpiringCacheTest {
+
+    private Clock clock;
+    private Instant now;
+
+    @BeforeEach
+    void beforeEach() {
+        this.clock = mock(Clock.class);
+        this.now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    void negativeInvalidMaxSize() {
+        IllegalArgumentException exception =
+            assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<String, String>(0, clock));
+        assertEquals("maxSize must be greater than 0", exception.getMessage(), "Message must match");
+    }
+
+    @Nested
+    @DisplayName("public V get(K key)")
+    class Get {
+        @Test
+        void positiveHit() {
+            ExpiringCache<String, String> cache = new ExpiringCache<>(10, clock);
+            cache.put("key", "value", now.plusSeconds(10));
+            assertEquals("value", cache.get("key"), "Value must match");
+            assertEquals(1, cache.getHitCount(), "Hit count must match");
+            assertEquals(0, cache.getMissCount(), "Miss count must match");
+        }
+
+        @Test
+        void negativeMiss() {
+            ExpiringCache<String, String> cache = new ExpiringCache<>(10, clock);
+            assertNull(cache.get("key"), "Value must be null");
+            assertEquals(0, cache.getHitCount(), "Hit count must match");
+            assertEquals(1, cache.getMissCount(), "Miss count must match");
+        }
+
+        @Test
+        void negativeExpired() {
+            ExpiringCache<String, String> cache = new ExpiringCache<>(10, clock);
+            cache.put("key", "value", now.plusSeconds(10));
+            when(clock.instant()).thenReturn(now.plusSeconds(10));
+            assertNull(cache.get("key"), "Expired value must not be returned");
+            assertEquals(0, cache.size(), "Expired entry must be removed");
+            assertEquals(1, cache.getEvictionCount(), "Eviction count must match");
+        }
+    }
+
+    @Nested
+    @DisplayName("public void put(K key, V value, Instant expiresAt)")
+    class Put {
+        @Test
+        void negativeAlreadyExpiredNotStored() {
+            ExpiringCache<String, String> cache = new ExpiringCache<>(10, clock);
+            cache.put("key", "value", now);
+            cache.put("key2", "value", null);
+            assertEquals(0, cache.size(), "Size must match");
+        }
+
+        @Test
+        void positiveExpiredEntriesEvictedFirstWhenFull() {
+            ExpiringCache<String, String> cache = new ExpiringCache<>(2, clock);
+            cache.put("short", "value", now.plusSeconds(1));
+            cache.put("long", "value", now.plusSeconds(100));
+            when(clock.instant()).thenReturn(now.plusSeconds(2));
+            cache.put("new", "value", now.plusSeconds(50));
+
+            assertNull(cache.get("short"), "Expired value must be evicted");
+            assertEquals("value", cache.get("long"), "Live value must be kept");
+            assertEquals("value", cache.get("new"), "New value must be stored");
+        }
+
+        @Test
+        void positiveSoonestToExpireEvictedWhenFull() {
+            ExpiringCache<String, String> cache = new ExpiringCache<>(2, clock);
+            cache.put("soon", "value", now.plusSeconds(10));
+            cache.put("later", "value", now.plusSeconds(100));
+            cache.put("new", "value", now.plusSeconds(50));
+
+            assertEquals(2, cache.size(), "Size must not exceed max size");
+            assertNull(cache.get("soon"), "Soonest to expire must be evicted");
+            assertEquals("value", cache.get("later"), "Value must be kept");
+            assertEquals("value", cache.get("new"), "Value must be stored");
+        }
+
+        @Test
+        void positiveReplacedAndInvalidatedEntriesNotEvicted() {
+            ExpiringCache<String, String> cache = new ExpiringCache<>(2, clock);
+            cache.put("replaced", "old", now.plusSeconds(10));
+            cache.put("replaced", "new", now.plusSeconds(200));
+            cache.put("invalidated", "value", now.plusSeconds(20));
+            cache.invalidate("invalidated");
+            cache.put("later", "value", now.plusSeconds(100));
+            cache.put("new", "value", now.plusSeconds(50));
+
+            assertEquals(2, cache.size(), "Size must not exceed max size");
+            assertEquals(1, cache.getEvictionCount(), "Only one live entry must be evicted");
+            assertEquals("new", cache.get("replaced"), "Replacement must use its own expiry");
+            assertNull(cache.get("later"), "Soonest to expire must be evicted");
+            assertEquals("value", cache.get("new"), "Value must be stored");
+        }
+    }
+
+    @Test
+    void positiveInvalidate() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, clock);
+        cache.put("key", "value", now.plusSeconds(10));
+        cache.put("key2", "value", now.plusSeconds(10));
+        cache.invalidate("key");
+        assertNull(cache.get("key"), "Invalidated value must be removed");
+        cache.invalidateAll();
+        assertEquals(0, cache.size(), "Cache must be empty");
+    }
+}
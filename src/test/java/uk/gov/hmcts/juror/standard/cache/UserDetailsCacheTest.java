@@ -0,0 +1,143 @@
+package uk.gov.hmcts.juror.standard.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.juror.standard.testsupport.TestConstants;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("UserDetailsCache")
+@SuppressWarnings("unchecked")
+class UserDetailsCacheTest {
+
+    private Clock clock;
+    private Instant now;
+    private Function<String, UserDetails> loader;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void beforeEach() {
+        this.clock = mock(Clock.class);
+        this.now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        this.loader = mock(Function.class);
+        this.userDetails = User.withUsername(TestConstants.EMAIL)
+            .password("password")
+            .authorities("user::create")
+            .build();
+        when(loader.apply(TestConstants.EMAIL)).thenReturn(userDetails);
+    }
+
+    @Test
+    void positiveDisabledPassesThrough() {
+        UserDetailsCache cache = new UserDetailsCache(clock, false, Duration.ofMinutes(1), 10);
+        assertFalse(cache.isEnabled(), "Cache must be disabled");
+        UserDetails first = cache.get(TestConstants.EMAIL, loader);
+        assertInstanceOf(CachedUserDetails.class, first, "Principal must be the same type as when enabled");
+        assertEquals(TestConstants.EMAIL, first.getUsername(), "Username must match");
+        assertNotSame(first, cache.get(TestConstants.EMAIL, loader), "User details must be loaded each time");
+        verify(loader, times(2)).apply(TestConstants.EMAIL);
+    }
+
+    @Test
+    void positiveEnabledLoadsOnce() {
+        UserDetailsCache cache = new UserDetailsCache(clock, true, Duration.ofMinutes(1), 10);
+        assertTrue(cache.isEnabled(), "Cache must be enabled");
+        UserDetails first = cache.get(TestConstants.EMAIL, loader);
+        assertSame(first, cache.get(TestConstants.EMAIL, loader), "Cached user details must be returned");
+        verify(loader, times(1)).apply(TestConstants.EMAIL);
+        assertEquals(1, cache.getHitCount(), "Hit count must match");
+        assertEquals(1, cache.getMissCount(), "Miss count must match");
+    }
+
+    @Test
+    void positiveReloadedAfterTtl() {
+        UserDetailsCache cache = new UserDetailsCache(clock, true, Duration.ofMinutes(1), 10);
+        cache.get(TestConstants.EMAIL, loader);
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(1)));
+        cache.get(TestConstants.EMAIL, loader);
+        verify(loader, times(2)).apply(TestConstants.EMAIL);
+    }
+
+    @Test
+    void positiveCachesImmutableCopy() {
+        UserDetailsCache cache = new UserDetailsCache(clock, true, Duration.ofMinutes(1), 10);
+        UserDetails cached = cache.get(TestConstants.EMAIL, loader);
+        assertNotSame(userDetails, cached, "Loaded user details must not be shared");
+        assertEquals(TestConstants.EMAIL, cached.getUsername(), "Username must match");
+        assertEquals(userDetails.getAuthorities(), cached.getAuthorities(), "Authorities must match");
+        assertTrue(cached.isEnabled(), "Enabled must match");
+        assertNull(cached.getPassword(), "Password must not be cached");
+        assertThrows(UnsupportedOperationException.class, () -> cached.getAuthorities().clear(),
+            "Authorities must be immutable");
+    }
+
+    @Test
+    void negativeNotFoundIsNotCached() {
+        UserDetailsCache cache = new UserDetailsCache(clock, true, Duration.ofMinutes(1), 10);
+        when(loader.apply(TestConstants.EMAIL)).thenReturn(null);
+        assertNull(cache.get(TestConstants.EMAIL, loader), "User details must be null");
+        assertNull(cache.get(TestConstants.EMAIL, loader), "User details must be null");
+        verify(loader, times(2)).apply(TestConstants.EMAIL);
+    }
+
+    @Test
+    void positiveLoadRacingInvalidateIsNotCached() {
+        UserDetailsCache cache = new UserDetailsCache(clock, true, Duration.ofMinutes(1), 10);
+        when(loader.apply(TestConstants.EMAIL)).thenAnswer(invocation -> {
+            //The user is changed and invalidated while the old state is being loaded
+            cache.invalidate(TestConstants.EMAIL);
+            return userDetails;
+        });
+        cache.get(TestConstants.EMAIL, loader);
+        cache.get(TestConstants.EMAIL, loader);
+        verify(loader, times(2)).apply(TestConstants.EMAIL);
+    }
+
+    @Test
+    void positiveInvalidatedAgainAfterTransaction() {
+        UserDetailsCache cache = new UserDetailsCache(clock, true, Duration.ofMinutes(1), 10);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(TestConstants.EMAIL);
+            //Loaded before the invalidating transaction committed
+            cache.get(TestConstants.EMAIL, loader);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.get(TestConstants.EMAIL, loader);
+        verify(loader, times(2)).apply(TestConstants.EMAIL);
+    }
+
+    @Test
+    void positiveReloadedAfterInvalidate() {
+        UserDetailsCache cache = new UserDetailsCache(clock, true, Duration.ofMinutes(1), 10);
+        cache.get(TestConstants.EMAIL, loader);
+        cache.invalidate(TestConstants.EMAIL);
+        cache.get(TestConstants.EMAIL, loader);
+        verify(loader, times(2)).apply(TestConstants.EMAIL);
+    }
+}
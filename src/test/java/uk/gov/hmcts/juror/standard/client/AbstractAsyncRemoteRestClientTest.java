@@ -0,0 +1,167 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.standard.client.interceptor.JwtAuthenticationInterceptor;
+import uk.gov.hmcts.juror.standard.config.WebConfig;
+import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AbstractAsyncRemoteRestClient")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class AbstractAsyncRemoteRestClientTest {
+
+    private HttpServer server;
+    private WebConfig webConfig;
+    private Map<String, String> authorizationHeaders;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        authorizationHeaders = new ConcurrentHashMap<>();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/record", exchange -> {
+            recordAuthorization(exchange);
+            respond(exchange, 200, "{\"name\":\"juror\",\"count\":2}");
+        });
+        server.createContext("/api/echo", exchange -> {
+            recordAuthorization(exchange);
+            respond(exchange, 200, new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        });
+        server.createContext("/api/missing", exchange -> respond(exchange, 404, ""));
+        server.createContext("/api/empty", exchange -> respond(exchange, 204, ""));
+        server.start();
+
+        webConfig = new WebConfig();
+        webConfig.setScheme("http");
+        webConfig.setHost("localhost");
+        webConfig.setPort(server.getAddress().getPort());
+        webConfig.setUrl("/api");
+    }
+
+    @AfterEach
+    void afterEach() {
+        server.stop(0);
+    }
+
+    private void recordAuthorization(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null) {
+            authorizationHeaders.put(exchange.getRequestURI().getPath(), authorization);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void positiveGet() throws Exception {
+        try (TestClient client = new TestClient(webConfig)) {
+            assertEquals(new Record("juror", 2), await(client.get("/record", Record.class)), "Response must match");
+        }
+    }
+
+    @Test
+    void positiveConcurrentRequests() throws Exception {
+        try (TestClient client = new TestClient(webConfig)) {
+            List<CompletableFuture<Record>> futures = List.of(client.get("/record", Record.class),
+                client.post("/echo", new Record("a", 1), Record.class),
+                client.post("/echo", new Record("b", 2), Record.class));
+            assertEquals(List.of(new Record("juror", 2), new Record("a", 1), new Record("b", 2)),
+                futures.stream().map(CompletableFuture::join).toList(), "Responses must match");
+        }
+    }
+
+    @Test
+    void positiveEmptyResponse() throws Exception {
+        try (TestClient client = new TestClient(webConfig)) {
+            assertNull(await(client.get("/empty", Record.class)), "Empty response must be null");
+        }
+    }
+
+    @Test
+    void positiveBasicAuthentication() throws Exception {
+        webConfig.setUsername("user");
+        webConfig.setPassword("password");
+        try (TestClient client = new TestClient(webConfig)) {
+            await(client.get("/record", Record.class));
+        }
+        assertEquals("Basic dXNlcjpwYXNzd29yZA==", authorizationHeaders.get("/api/record"),
+            "Basic authentication must be sent");
+    }
+
+    @Test
+    void positiveJwtAuthentication() throws Exception {
+        JwtAuthenticationInterceptor jwtAuthenticationInterceptor = mock(JwtAuthenticationInterceptor.class);
+        List<Thread> headerThreads = new CopyOnWriteArrayList<>();
+        when(jwtAuthenticationInterceptor.getAuthorizationHeader()).thenAnswer(invocation -> {
+            headerThreads.add(Thread.currentThread());
+            return "Bearer token";
+        });
+        try (TestClient client = new TestClient(webConfig, jwtAuthenticationInterceptor)) {
+            await(client.post("/echo", new Record("a", 1), Record.class));
+        }
+        assertEquals("Bearer token", authorizationHeaders.get("/api/echo"), "JWT must be sent");
+        assertEquals(List.of(Thread.currentThread()), headerThreads,
+            "JWT must be resolved on the calling thread, not an I/O thread");
+    }
+
+    @Test
+    void negativeErrorStatus() {
+        try (TestClient client = new TestClient(webConfig)) {
+            ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> await(client.get("/missing", Record.class)));
+            assertInstanceOf(RemoteGatewayException.class, exception.getCause(), "Cause must match");
+            assertTrue(exception.getCause().getMessage().startsWith("Unexpected response status 404"),
+                "Message must include the status");
+        }
+    }
+
+    public record Record(String name, int count) {
+    }
+
+    private static class TestClient extends AbstractAsyncRemoteRestClient {
+        TestClient(WebConfig webConfig) {
+            super(webConfig, new ObjectMapper());
+        }
+
+        TestClient(WebConfig webConfig, JwtAuthenticationInterceptor jwtAuthenticationInterceptor) {
+            super(webConfig, new ObjectMapper(), jwtAuthenticationInterceptor);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.standard.config.CircuitBreakerConfig;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("EndpointHealthTracker")
+@SuppressWarnings({
+    "unchecked",
+    "PMD.AvoidDuplicateLiterals"
+})
+class EndpointHealthTrackerTest {
+
+    private static final Duration LATENCY = Duration.ofMillis(10);
+
+    private Clock clock;
+    private Predicate<EndpointHealthTracker.Endpoint<String>> probe;
+    private ScheduledExecutorService scheduler;
+    private EndpointHealthTracker.Endpoint<String> primary;
+    private EndpointHealthTracker.Endpoint<String> failover1;
+    private EndpointHealthTracker.Endpoint<String> failover2;
+    private EndpointHealthTracker<String> tracker;
+
+    @BeforeEach
+    void beforeEach() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        probe = mock(Predicate.class);
+        scheduler = mock(ScheduledExecutorService.class);
+        primary = new EndpointHealthTracker.Endpoint<>(0, "http://primary:8080/", "primary");
+        failover1 = new EndpointHealthTracker.Endpoint<>(1, "http://failover1:8080/", "failover1");
+        failover2 = new EndpointHealthTracker.Endpoint<>(2, "http://failover2:8080/", "failover2");
+        CircuitBreakerConfig config = new CircuitBreakerConfig();
+        config.setFailureThreshold(2);
+        config.setCoolDown(Duration.ofSeconds(30));
+        tracker = new EndpointHealthTracker<>(List.of(primary, failover1, failover2), config, clock, probe,
+            scheduler);
+    }
+
+    @Nested
+    @DisplayName("public List<Endpoint<T>> getEndpointsInPriorityOrder()")
+    class GetEndpointsInPriorityOrder {
+        @Test
+        void positiveConfiguredOrderWhenHealthy() {
+            assertEquals(List.of(primary, failover1, failover2), tracker.getEndpointsInPriorityOrder(),
+                "Order must match");
+        }
+
+        @Test
+        void positiveTransientFailureDoesNotDemote() {
+            tracker.recordFailure(primary, Duration.ofSeconds(5));
+            tracker.recordSuccess(failover1, LATENCY);
+            tracker.recordSuccess(failover1, LATENCY);
+            assertEquals(List.of(primary, failover1, failover2), tracker.getEndpointsInPriorityOrder(),
+                "A failure below the threshold must not move the primary behind the failovers");
+        }
+
+        @Test
+        void positiveOpenEndpointsLast() {
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordFailure(failover2, LATENCY);
+            assertTrue(primary.isOpen(0), "Primary must be open");
+            assertEquals(List.of(failover1, failover2, primary), tracker.getEndpointsInPriorityOrder(),
+                "Order must match");
+        }
+
+        @Test
+        void positiveLatencyDoesNotReorder() {
+            tracker.recordSuccess(primary, Duration.ofMillis(50));
+            tracker.recordSuccess(failover1, Duration.ofMillis(5));
+            assertEquals(List.of(primary, failover1, failover2), tracker.getEndpointsInPriorityOrder(),
+                "Closed endpoints must stay in configured order");
+        }
+
+        @Test
+        void positiveOpenEndpointsOrderedByRetryTime() {
+            tracker.recordFailure(failover1, LATENCY);
+            tracker.recordFailure(failover1, LATENCY);
+            when(clock.millis()).thenReturn(1000L);
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordFailure(primary, LATENCY);
+            assertEquals(List.of(failover2, failover1, primary), tracker.getEndpointsInPriorityOrder(),
+                "Open endpoints must follow closed ones, soonest retry first");
+        }
+
+        @Test
+        void positiveSuccessRestoresOrder() {
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordSuccess(primary, LATENCY);
+            assertFalse(primary.isOpen(0), "Primary must be closed");
+            assertEquals(0, primary.getConsecutiveFailures(), "Failures must be reset");
+            assertEquals(List.of(primary, failover1, failover2), tracker.getEndpointsInPriorityOrder(),
+                "Order must match");
+        }
+    }
+
+    @Nested
+    @DisplayName("Probing")
+    class Probing {
+        @Test
+        void positiveProbeScheduledOnceWhenOpened() {
+            tracker.recordFailure(primary, LATENCY);
+            verify(scheduler, never()).schedule(any(Runnable.class), any(Long.class), any());
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordFailure(primary, LATENCY);
+            verify(scheduler, times(1)).schedule(any(Runnable.class), eq(30_000L), eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void positiveSuccessfulProbeHalfOpens() {
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordFailure(primary, LATENCY);
+            when(probe.test(primary)).thenReturn(true);
+
+            tracker.runProbe(primary);
+            assertFalse(primary.isOpen(0), "Primary must be closed");
+            assertEquals(1, primary.getConsecutiveFailures(), "Primary must be half open");
+            assertEquals(primary, tracker.getEndpointsInPriorityOrder().get(0),
+                "Recovered primary must be tried first");
+
+            tracker.recordFailure(primary, LATENCY);
+            assertTrue(primary.isOpen(0), "A single failure must reopen primary");
+        }
+
+        @Test
+        void negativeFailedProbeRescheduled() {
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordFailure(primary, LATENCY);
+            when(probe.test(primary)).thenThrow(new IllegalStateException("Unreachable"));
+            when(clock.millis()).thenReturn(30_000L);
+
+            tracker.runProbe(primary);
+            assertTrue(primary.isOpen(59_999), "Primary must remain open for another cool down");
+            verify(scheduler, times(2)).schedule(any(Runnable.class), eq(30_000L), eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void negativeRejectedProbeScheduledAgainWhenReopened() {
+            when(scheduler.schedule(any(Runnable.class), any(Long.class), any()))
+                .thenThrow(new RejectedExecutionException("Shut down"));
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordFailure(primary, LATENCY);
+            assertTrue(primary.isOpen(0), "Primary must be open");
+
+            tracker.recordFailure(primary, LATENCY);
+            verify(scheduler, times(2)).schedule(any(Runnable.class), eq(30_000L), eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void positiveProbeSkippedWhenAlreadyClosed() {
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordFailure(primary, LATENCY);
+            tracker.recordSuccess(primary, LATENCY);
+
+            tracker.runProbe(primary);
+            verify(probe, never()).test(any());
+        }
+    }
+
+    @Test
+    void positiveAverageLatency() {
+        assertNull(primary.getAverageLatency(), "Latency must be unset");
+        tracker.recordSuccess(primary, Duration.ofMillis(100));
+        assertEquals(Duration.ofMillis(100), primary.getAverageLatency(), "Latency must match");
+        tracker.recordSuccess(primary, Duration.ofMillis(200));
+        assertEquals(Duration.ofMillis(120), primary.getAverageLatency(), "Latency must be weighted");
+    }
+
+    @Test
+    void positiveSuccessLatencyPercentile() {
+        assertNull(primary.getSuccessLatencyPercentile(0.95), "Percentile must be unset");
+        for (int millis = 1; millis <= 100; millis++) {
+            tracker.recordSuccess(primary, Duration.ofMillis(millis));
+        }
+        tracker.recordFailure(primary, Duration.ofSeconds(10));
+        assertEquals(100, primary.getSuccessLatencySampleCount(), "Only successes must be sampled");
+        assertEquals(Duration.ofMillis(95), primary.getSuccessLatencyPercentile(0.95), "Percentile must match");
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import jakarta.xml.bind.JAXBElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.oxm.UnmarshallingFailureException;
+import uk.gov.hmcts.juror.standard.client.jaxb.TestRequest;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JaxbMarshallerPool")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class JaxbMarshallerPoolTest {
+
+    private static final String CONTEXT_PATH = "uk.gov.hmcts.juror.standard.client.jaxb";
+
+    private JaxbMarshallerPool pool;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        pool = new JaxbMarshallerPool(CONTEXT_PATH, 2);
+    }
+
+    private String marshal(TestRequest request) {
+        StringWriter writer = new StringWriter();
+        pool.marshal(request, new StreamResult(writer));
+        return writer.toString();
+    }
+
+    private TestRequest createRequest(String name) {
+        TestRequest request = new TestRequest();
+        request.setName(name);
+        return request;
+    }
+
+    @Nested
+    @DisplayName("public boolean supports(Class<?> clazz)")
+    class Supports {
+        @Test
+        void positiveContextClass() {
+            assertTrue(pool.supports(TestRequest.class), "Context class must be supported");
+            assertTrue(pool.supports(JAXBElement.class), "JAXBElement must be supported");
+        }
+
+        @Test
+        void negativeOtherClass() {
+            assertFalse(pool.supports(String.class), "Other classes must not be supported");
+        }
+    }
+
+    @Test
+    void positiveRoundTrip() {
+        String xml = marshal(createRequest("juror"));
+        TestRequest result = (TestRequest) pool.unmarshal(new StreamSource(new StringReader(xml)));
+        assertEquals("juror", result.getName(), "Name must match");
+    }
+
+    @Test
+    void positiveConcurrentUse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final String name = "juror" + i;
+                futures.add(executor.submit(() -> {
+                    String xml = marshal(createRequest(name));
+                    return ((TestRequest) pool.unmarshal(new StreamSource(new StringReader(xml)))).getName();
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals("juror" + i, futures.get(i).get(), "Name must match");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void negativeExternalEntitiesRejected() {
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE foo [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+            + "<testRequest xmlns=\"urn:juror:test\"><name>&xxe;</name></testRequest>";
+        assertThrows(UnmarshallingFailureException.class,
+            () -> pool.unmarshal(new StreamSource(new StringReader(xml))), "DTDs must be rejected");
+    }
+}
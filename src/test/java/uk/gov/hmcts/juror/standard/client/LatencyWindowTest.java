@@ -0,0 +1,40 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("LatencyWindow")
+class LatencyWindowTest {
+
+    @Test
+    void positiveEmptyWindow() {
+        LatencyWindow window = new LatencyWindow(4);
+        assertEquals(0, window.getSampleCount(), "Count must match");
+        assertEquals(-1, window.getPercentile(0.5), "Percentile must be unset");
+    }
+
+    @Test
+    void positiveNearestRankPercentile() {
+        LatencyWindow window = new LatencyWindow(10);
+        for (long sample = 10; sample >= 1; sample--) {
+            window.record(sample);
+        }
+        assertEquals(10, window.getSampleCount(), "Count must match");
+        assertEquals(5, window.getPercentile(0.5), "Median must match");
+        assertEquals(10, window.getPercentile(0.95), "95th percentile must match");
+        assertEquals(1, window.getPercentile(0), "Minimum must match");
+        assertEquals(10, window.getPercentile(1), "Maximum must match");
+    }
+
+    @Test
+    void positiveOldestSamplesOverwritten() {
+        LatencyWindow window = new LatencyWindow(2);
+        window.record(100);
+        window.record(1);
+        window.record(2);
+        assertEquals(2, window.getSampleCount(), "Count must be capped at the window size");
+        assertEquals(2, window.getPercentile(1), "Oldest sample must be overwritten");
+    }
+}
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SharedExecutors")
+class SharedExecutorsTest {
+
+    @AfterEach
+    void afterEach() {
+        SharedExecutors.shutdownAll();
+    }
+
+    @Nested
+    @DisplayName("public static void shutdownAll()")
+    class ShutdownAll {
+        @Test
+        void positiveSharedUntilShutdown() {
+            ScheduledExecutorService scheduler = SharedExecutors.getProbeScheduler();
+            assertSame(scheduler, SharedExecutors.getProbeScheduler(), "Scheduler must be shared");
+
+            SharedExecutors.shutdownAll();
+            assertTrue(scheduler.isShutdown(), "Scheduler must be shut down");
+            ScheduledExecutorService recreated = SharedExecutors.getProbeScheduler();
+            assertNotSame(scheduler, recreated, "A new scheduler must be created after shutdown");
+            assertFalse(recreated.isShutdown(), "New scheduler must be running");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static ExecutorService getTokenRefreshExecutor()")
+    class GetTokenRefreshExecutor {
+        @Test
+        void positiveSharedDaemonThread() throws Exception {
+            ExecutorService executor = SharedExecutors.getTokenRefreshExecutor();
+            assertSame(executor, SharedExecutors.getTokenRefreshExecutor(), "Executor must be shared");
+            assertTrue(executor.submit(() -> Thread.currentThread().isDaemon()).get(10, TimeUnit.SECONDS),
+                "Refreshes must not keep the JVM alive");
+
+            SharedExecutors.shutdownAll();
+            assertTrue(executor.isShutdown(), "Executor must be shut down");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static ExecutorService getCallExecutor()")
+    class GetCallExecutor {
+        @Test
+        void positiveShared() {
+            ExecutorService executor = SharedExecutors.getCallExecutor();
+            assertSame(executor, SharedExecutors.getCallExecutor(), "Executor must be shared");
+            assertNotSame(executor, SharedExecutors.getHedgeExecutor(),
+                "Hedged attempts must not share the call executor");
+
+            SharedExecutors.shutdownAll();
+            assertTrue(executor.isShutdown(), "Executor must be shut down");
+        }
+
+        @Test
+        void positiveCreatedExecutorRunsTasks() throws Exception {
+            ExecutorService executor = SharedExecutors.create("test");
+            try {
+                String threadName = executor.submit(() -> Thread.currentThread().getName())
+                    .get(10, TimeUnit.SECONDS);
+                assertTrue(threadName.startsWith("test"), "Thread must be named after the executor");
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void negativeRejectsWhenFull() throws Exception {
+            ExecutorService executor = SharedExecutors.createBounded("test", 1, 1);
+            CountDownLatch release = new CountDownLatch(1);
+            try {
+                executor.submit(() -> release.await());
+                executor.submit(() -> release.await());
+                assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> release.await()),
+                    "Tasks beyond the threads and queue must be rejected");
+            } finally {
+                release.countDown();
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS), "Executor must terminate");
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.standard.config.SoapConfig;
+import uk.gov.hmcts.juror.standard.config.WebConfig;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("SoapWebServiceTemplateFactory")
+class SoapWebServiceTemplateFactoryTest {
+
+    private static final String CONTEXT_PATH = "uk.gov.hmcts.juror.standard.client.jaxb";
+
+    @AfterEach
+    void afterEach() {
+        SoapWebServiceTemplateFactory.clear();
+    }
+
+    private SoapConfig createConfig() {
+        WebConfig failoverConfig = new WebConfig();
+        failoverConfig.setScheme("http");
+        failoverConfig.setHost("failover");
+        failoverConfig.setPort(8080);
+        failoverConfig.setUrl("/service");
+
+        SoapConfig config = new SoapConfig();
+        config.setScheme("http");
+        config.setHost("primary");
+        config.setPort(8080);
+        config.setUrl("/service");
+        config.setRequestLocation(CONTEXT_PATH);
+        config.setFailoverConfig(List.of(failoverConfig));
+        return config;
+    }
+
+    @Test
+    void positiveMarshallerSharedByRequestLocation() {
+        assertSame(SoapWebServiceTemplateFactory.getMarshaller(createConfig()),
+            SoapWebServiceTemplateFactory.getMarshaller(createConfig()), "Marshaller must be shared");
+    }
+
+    @Test
+    void positiveTemplatesShareMarshallerAndMessageFactory() {
+        SoapWebServiceTemplate template = SoapWebServiceTemplateFactory.create(createConfig());
+        JaxbMarshallerPool marshaller = SoapWebServiceTemplateFactory.getMarshaller(createConfig());
+
+        assertEquals(1, template.failover().size(), "Failover template must be created");
+        assertSame(marshaller, template.primary().getMarshaller(), "Primary marshaller must be shared");
+        assertSame(marshaller, template.primary().getUnmarshaller(), "Primary unmarshaller must be shared");
+        assertSame(marshaller, template.failover().get(0).getMarshaller(), "Failover marshaller must be shared");
+        assertSame(template.primary().getMessageFactory(), template.failover().get(0).getMessageFactory(),
+            "Message factory must be shared");
+    }
+}
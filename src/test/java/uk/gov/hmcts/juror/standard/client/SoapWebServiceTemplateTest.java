@@ -0,0 +1,623 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.client.WebServiceIOException;
+import org.springframework.ws.client.core.WebServiceMessageCallback;
+import org.springframework.ws.client.core.WebServiceTemplate;
+import org.springframework.ws.client.support.interceptor.ClientInterceptor;
+import org.springframework.ws.transport.FaultAwareWebServiceConnection;
+import org.springframework.ws.transport.WebServiceConnection;
+import org.springframework.ws.transport.WebServiceMessageSender;
+import org.springframework.ws.transport.http.ClientHttpRequestMessageSender;
+import uk.gov.hmcts.juror.standard.client.jaxb.TestRequest;
+import uk.gov.hmcts.juror.standard.config.HedgeConfig;
+import uk.gov.hmcts.juror.standard.config.HttpConnectionManagers;
+import uk.gov.hmcts.juror.standard.config.SoapConfig;
+import uk.gov.hmcts.juror.standard.config.WebConfig;
+import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.namespace.QName;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SoapWebServiceTemplate")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class SoapWebServiceTemplateTest {
+
+    private static final String REQUEST = "request";
+    private static final String RESPONSE = "response";
+    private static final String PRIMARY_URI = "http://primary:8080/service";
+    private static final String FAILOVER_URI = "http://failover:8080/service";
+    private static final String ENVELOPE = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">";
+    private static final QName RECORD = new QName("urn:juror:test", "testRequest");
+    private static final String RECORDS_RESPONSE = ENVELOPE
+        + "<soap:Body><t:records xmlns:t=\"urn:juror:test\">"
+        + "<t:testRequest><name>a</name></t:testRequest><t:testRequest><name>b</name></t:testRequest>"
+        + "</t:records></soap:Body></soap:Envelope>";
+    private static final String FAULT_RESPONSE = ENVELOPE
+        + "<soap:Body><soap:Fault><faultcode>soap:Server</faultcode><faultstring>Unavailable</faultstring>"
+        + "</soap:Fault></soap:Body></soap:Envelope>";
+
+    private WebServiceTemplate primary;
+    private WebServiceTemplate failover;
+    private SoapConfig config;
+    private SoapWebServiceTemplate soapWebServiceTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        primary = mock(WebServiceTemplate.class);
+        failover = mock(WebServiceTemplate.class);
+
+        WebConfig failoverConfig = new WebConfig();
+        failoverConfig.setScheme("http");
+        failoverConfig.setHost("failover");
+        failoverConfig.setPort(8080);
+        failoverConfig.setUrl("/service");
+
+        config = new SoapConfig();
+        config.setScheme("http");
+        config.setHost("primary");
+        config.setPort(8080);
+        config.setUrl("/service");
+        config.setRequestMethod("method");
+        config.setFailoverConfig(List.of(failoverConfig));
+        config.getCircuitBreaker().setFailureThreshold(2);
+        config.getCircuitBreaker().setProbeEnabled(false);
+
+        soapWebServiceTemplate = new SoapWebServiceTemplate(config, primary, List.of(failover));
+    }
+
+    @Test
+    void positivePrimaryUsed() {
+        when(primary.marshalSendAndReceive(eq(PRIMARY_URI), eq(REQUEST), any(WebServiceMessageCallback.class)))
+            .thenReturn(RESPONSE);
+        assertEquals(RESPONSE, soapWebServiceTemplate.call(REQUEST), "Response must match");
+        verify(failover, never()).marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class));
+    }
+
+    @Test
+    void positiveFailoverUsesOwnUri() {
+        when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+            .thenThrow(new WebServiceIOException("Down"));
+        when(failover.marshalSendAndReceive(eq(FAILOVER_URI), eq(REQUEST), any(WebServiceMessageCallback.class)))
+            .thenReturn(RESPONSE);
+        assertEquals(RESPONSE, soapWebServiceTemplate.call(REQUEST), "Response must match");
+    }
+
+    @Test
+    void positiveUnhealthyPrimarySkipped() {
+        when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+            .thenThrow(new WebServiceIOException("Down"));
+        when(failover.marshalSendAndReceive(eq(FAILOVER_URI), eq(REQUEST), any(WebServiceMessageCallback.class)))
+            .thenReturn(RESPONSE);
+
+        soapWebServiceTemplate.call(REQUEST);
+        soapWebServiceTemplate.call(REQUEST);
+        soapWebServiceTemplate.call(REQUEST);
+
+        verify(primary, times(1)).marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class));
+        verify(failover, times(3)).marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class));
+    }
+
+    @Test
+    void negativeAllEndpointsFail() {
+        WebServiceIOException exception = new WebServiceIOException("Down");
+        when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+            .thenThrow(new WebServiceIOException("Down"));
+        when(failover.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+            .thenThrow(exception);
+
+        RemoteGatewayException remoteGatewayException =
+            assertThrows(RemoteGatewayException.class, () -> soapWebServiceTemplate.call(REQUEST));
+        assertEquals("Failed to call: method", remoteGatewayException.getMessage(), "Message must match");
+        assertEquals(exception, remoteGatewayException.getCause(), "Cause must match");
+    }
+
+    @Nested
+    @DisplayName("Hedged requests")
+    class Hedging {
+        private CountDownLatch release;
+
+        @BeforeEach
+        void beforeEach() {
+            release = new CountDownLatch(1);
+            config.getHedge().setEnabled(true);
+            config.getHedge().setMaxDelay(Duration.ofMillis(50));
+        }
+
+        private Object slowResponse() throws InterruptedException {
+            release.await(10, TimeUnit.SECONDS);
+            return "slow";
+        }
+
+        @Test
+        void positiveFastPrimaryNotHedged() {
+            config.getHedge().setMaxDelay(Duration.ofSeconds(10));
+            when(primary.marshalSendAndReceive(eq(PRIMARY_URI), eq(REQUEST), any(WebServiceMessageCallback.class)))
+                .thenReturn(RESPONSE);
+            assertEquals(RESPONSE, soapWebServiceTemplate.call(REQUEST), "Response must match");
+            verify(failover, never()).marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class));
+        }
+
+        @Test
+        void positiveSlowPrimaryHedgedToFailover() {
+            when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+                .thenAnswer(invocation -> slowResponse());
+            when(failover.marshalSendAndReceive(eq(FAILOVER_URI), eq(REQUEST), any(WebServiceMessageCallback.class)))
+                .thenReturn(RESPONSE);
+            try {
+                assertEquals(RESPONSE, soapWebServiceTemplate.call(REQUEST), "Failover response must win");
+            } finally {
+                release.countDown();
+            }
+            assertEquals(0, soapWebServiceTemplate.health().getEndpoints().get(0).getConsecutiveFailures(),
+                "Cancelled primary call must not be recorded as a failure");
+        }
+
+        @Test
+        void positiveFailedPrimaryHedgedImmediately() {
+            config.getHedge().setMaxDelay(Duration.ofSeconds(10));
+            when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+                .thenThrow(new WebServiceIOException("Down"));
+            when(failover.marshalSendAndReceive(eq(FAILOVER_URI), eq(REQUEST), any(WebServiceMessageCallback.class)))
+                .thenReturn(RESPONSE);
+            long start = System.nanoTime();
+            assertEquals(RESPONSE, soapWebServiceTemplate.call(REQUEST), "Response must match");
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos(),
+                "Failover must not wait for the hedge delay");
+            verify(primary, atMost(1)).marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class));
+        }
+
+        @Test
+        void negativeBothEndpointsFail() {
+            WebServiceIOException exception = new WebServiceIOException("Down");
+            when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+                .thenThrow(new WebServiceIOException("Down"));
+            when(failover.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+                .thenThrow(exception);
+
+            RemoteGatewayException remoteGatewayException =
+                assertThrows(RemoteGatewayException.class, () -> soapWebServiceTemplate.call(REQUEST));
+            assertEquals("Failed to call: method", remoteGatewayException.getMessage(), "Message must match");
+            assertEquals(exception, remoteGatewayException.getCause(), "Cause must match");
+        }
+
+        @Test
+        void positiveHedgeDelayFromPercentile() {
+            HedgeConfig hedge = new HedgeConfig();
+            hedge.setMinSamples(10);
+            hedge.setPercentile(0.9);
+            EndpointHealthTracker.Endpoint<String> endpoint =
+                new EndpointHealthTracker.Endpoint<>(0, PRIMARY_URI, "primary");
+            EndpointHealthTracker<String> tracker = new EndpointHealthTracker<>(List.of(endpoint),
+                config.getCircuitBreaker());
+
+            assertEquals(hedge.getMaxDelay(), SoapWebServiceTemplate.getHedgeDelay(endpoint, hedge),
+                "Max delay must be used until enough samples are recorded");
+            for (int millis = 100; millis <= 1000; millis += 100) {
+                tracker.recordSuccess(endpoint, Duration.ofMillis(millis));
+            }
+            assertEquals(Duration.ofMillis(900), SoapWebServiceTemplate.getHedgeDelay(endpoint, hedge),
+                "Delay must match the percentile");
+            hedge.setMaxDelay(Duration.ofMillis(500));
+            assertEquals(Duration.ofMillis(500), SoapWebServiceTemplate.getHedgeDelay(endpoint, hedge),
+                "Delay must be capped");
+            hedge.setMinDelay(Duration.ofSeconds(1));
+            hedge.setMaxDelay(Duration.ofSeconds(2));
+            assertEquals(Duration.ofSeconds(1), SoapWebServiceTemplate.getHedgeDelay(endpoint, hedge),
+                "Delay must be at least the minimum");
+        }
+    }
+
+    @Nested
+    @DisplayName("static boolean isReachable(Endpoint<WebServiceTemplate> endpoint, Duration timeout)")
+    class IsReachable {
+        private HttpServer server;
+        private final List<String> requests = new ArrayList<>();
+
+        @BeforeEach
+        void beforeEach() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                synchronized (requests) {
+                    requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI());
+                }
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+            });
+            server.start();
+        }
+
+        @AfterEach
+        void afterEach() {
+            server.stop(0);
+            HttpConnectionManagers.closeAll();
+        }
+
+        private EndpointHealthTracker.Endpoint<WebServiceTemplate> createEndpoint(WebConfig webConfig) {
+            WebServiceTemplate template = new WebServiceTemplate();
+            template.setMessageSender(new ClientHttpRequestMessageSender(webConfig.getRequestFactory()));
+            return new EndpointHealthTracker.Endpoint<>(0, webConfig.getUri(), template);
+        }
+
+        private WebConfig createWebConfig(String host, int port) {
+            WebConfig webConfig = new WebConfig();
+            webConfig.setScheme("http");
+            webConfig.setHost(host);
+            webConfig.setPort(port);
+            webConfig.setUrl("/service");
+            return webConfig;
+        }
+
+        @Test
+        void positiveAnyResponseIsReachable() {
+            WebConfig webConfig = createWebConfig("localhost", server.getAddress().getPort());
+            assertTrue(SoapWebServiceTemplate.isReachable(createEndpoint(webConfig), Duration.ofSeconds(2)),
+                "An error status must still count as reachable");
+            assertEquals(List.of("HEAD /service"), requests, "Probe must be a HEAD request");
+        }
+
+        @Test
+        void positiveProbedThroughProxy() {
+            WebConfig webConfig = createWebConfig("unreachable.invalid", 8080);
+            WebConfig.Proxy proxy = new WebConfig.Proxy();
+            proxy.setScheme("http");
+            proxy.setHost("localhost");
+            proxy.setPort(server.getAddress().getPort());
+            proxy.setEnable(true);
+            webConfig.setProxy(proxy);
+
+            assertTrue(SoapWebServiceTemplate.isReachable(createEndpoint(webConfig), Duration.ofSeconds(2)),
+                "Endpoint must be reachable through the proxy");
+            assertEquals(List.of("HEAD http://unreachable.invalid:8080/service"), requests,
+                "Probe must be sent to the proxy");
+        }
+
+        @Test
+        void negativeUnreachable() {
+            WebConfig webConfig = createWebConfig("localhost", server.getAddress().getPort());
+            server.stop(0);
+            assertFalse(SoapWebServiceTemplate.isReachable(createEndpoint(webConfig), Duration.ofSeconds(2)),
+                "Endpoint must not be reachable");
+        }
+    }
+
+    @Nested
+    @DisplayName("public <T, R> CompletableFuture<R> callAsync(T request)")
+    class CallAsync {
+        @Test
+        void positiveResponse() throws Exception {
+            when(primary.marshalSendAndReceive(eq(PRIMARY_URI), eq(REQUEST), any(WebServiceMessageCallback.class)))
+                .thenReturn(RESPONSE);
+            CompletableFuture<Object> future = soapWebServiceTemplate.callAsync(REQUEST);
+            assertEquals(RESPONSE, future.get(10, TimeUnit.SECONDS), "Response must match");
+        }
+
+        @Test
+        void positiveFailover() throws Exception {
+            when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+                .thenThrow(new WebServiceIOException("Down"));
+            when(failover.marshalSendAndReceive(eq(FAILOVER_URI), eq(REQUEST), any(WebServiceMessageCallback.class)))
+                .thenReturn(RESPONSE);
+            CompletableFuture<Object> future = soapWebServiceTemplate.callAsync(REQUEST);
+            assertEquals(RESPONSE, future.get(10, TimeUnit.SECONDS), "Response must match");
+        }
+
+        @Test
+        void negativeAllEndpointsFail() {
+            when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+                .thenThrow(new WebServiceIOException("Down"));
+            when(failover.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+                .thenThrow(new WebServiceIOException("Down"));
+            CompletableFuture<Object> future = soapWebServiceTemplate.callAsync(REQUEST);
+            ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(RemoteGatewayException.class, exception.getCause(), "Cause must match");
+        }
+
+        @Test
+        void negativeErrorCompletesFuture() {
+            when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+                .thenThrow(new NoClassDefFoundError("Missing"));
+            CompletableFuture<Object> future = soapWebServiceTemplate.callAsync(REQUEST, null);
+            ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS),
+                    "An error must complete the future even without a timeout");
+            assertInstanceOf(NoClassDefFoundError.class, exception.getCause(), "Cause must match");
+        }
+
+        @Test
+        void negativeRejectedCompletesFuture() {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.shutdown();
+            CompletableFuture<Object> future =
+                new SoapWebServiceTemplate(config, primary, List.of(failover), executor).callAsync(REQUEST);
+            ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS),
+                    "A rejected call must complete the future");
+            assertInstanceOf(RejectedExecutionException.class, exception.getCause(), "Cause must match");
+        }
+
+        @Test
+        void positiveHedgedCallOnSingleThreadExecutor() throws Exception {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                config.getHedge().setEnabled(true);
+                when(primary.marshalSendAndReceive(eq(PRIMARY_URI), eq(REQUEST),
+                    any(WebServiceMessageCallback.class))).thenReturn(RESPONSE);
+                CompletableFuture<Object> future =
+                    new SoapWebServiceTemplate(config, primary, List.of(failover), executor).callAsync(REQUEST);
+                assertEquals(RESPONSE, future.get(10, TimeUnit.SECONDS),
+                    "Hedged attempts must not wait for the executor running the call");
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void negativeTimeoutInterruptsCall() throws Exception {
+            CountDownLatch interrupted = new CountDownLatch(1);
+            when(primary.marshalSendAndReceive(any(), any(), any(WebServiceMessageCallback.class)))
+                .thenAnswer(invocation -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                    return RESPONSE;
+                });
+            config.setAsyncTimeout(Duration.ofMillis(50));
+            CompletableFuture<Object> future = soapWebServiceTemplate.callAsync(REQUEST);
+            ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, exception.getCause(), "Cause must match");
+            assertTrue(interrupted.await(10, TimeUnit.SECONDS), "Call in progress must be interrupted");
+        }
+
+        @Test
+        void positiveDefaultExecutorShared() {
+            assertSame(SharedExecutors.getCallExecutor(), soapWebServiceTemplate.executor(),
+                "Template created without an executor must use the shared call executor");
+        }
+    }
+
+    @Nested
+    @DisplayName("public <T, E> long callForEach(T request, QName elementName, Class<E> elementType, "
+        + "Consumer<E> consumer)")
+    class CallForEach {
+        private WebServiceMessageSender primarySender;
+        private WebServiceMessageSender failoverSender;
+        private SoapWebServiceTemplate streamingTemplate;
+        private List<String> names;
+
+        @BeforeEach
+        void beforeEach() throws Exception {
+            JaxbMarshallerPool marshaller = new JaxbMarshallerPool("uk.gov.hmcts.juror.standard.client.jaxb", 2);
+            primarySender = mock(WebServiceMessageSender.class);
+            failoverSender = mock(WebServiceMessageSender.class);
+            streamingTemplate = new SoapWebServiceTemplate(config, createTemplate(primarySender, marshaller),
+                List.of(createTemplate(failoverSender, marshaller)));
+            names = new ArrayList<>();
+        }
+
+        private WebServiceTemplate createTemplate(WebServiceMessageSender sender, JaxbMarshallerPool marshaller) {
+            WebServiceTemplate template = new WebServiceTemplate(SoapWebServiceTemplateFactory.getMessageFactory());
+            template.setMarshaller(marshaller);
+            template.setUnmarshaller(marshaller);
+            template.setMessageSender(sender);
+            return template;
+        }
+
+        private void respond(WebServiceMessageSender sender, String xml) throws IOException {
+            WebServiceConnection connection = mock(WebServiceConnection.class);
+            when(sender.supports(any())).thenReturn(true);
+            when(sender.createConnection(any())).thenReturn(connection);
+            when(connection.receive(any())).thenAnswer(invocation -> invocation
+                .<WebServiceMessageFactory>getArgument(0)
+                .createWebServiceMessage(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))));
+        }
+
+        private long callForEach() {
+            return streamingTemplate.callForEach(new TestRequest(), RECORD, TestRequest.class,
+                record -> names.add(record.getName()));
+        }
+
+        @Test
+        void positiveEachRecordConsumed() throws IOException {
+            respond(primarySender, RECORDS_RESPONSE);
+            assertEquals(2, callForEach(), "Count must match");
+            assertEquals(List.of("a", "b"), names, "Records must match");
+            verify(failoverSender, never()).createConnection(any());
+        }
+
+        @Test
+        void positiveFailoverBeforeReading() throws IOException {
+            when(primarySender.supports(any())).thenReturn(true);
+            when(primarySender.createConnection(any())).thenThrow(new IOException("Down"));
+            respond(failoverSender, RECORDS_RESPONSE);
+            assertEquals(2, callForEach(), "Count must match");
+            assertEquals(List.of("a", "b"), names, "Records must match");
+        }
+
+        @Test
+        void positiveFailoverOnFault() throws IOException {
+            respond(primarySender, FAULT_RESPONSE);
+            respond(failoverSender, RECORDS_RESPONSE);
+            assertEquals(2, callForEach(), "Count must match");
+            assertEquals(0, streamingTemplate.health().getEndpoints().get(0).getConsecutiveFailures(),
+                "A fault must not count against the endpoint");
+        }
+
+        @Test
+        void positiveFaultWithServerErrorStatus() throws IOException {
+            FaultAwareWebServiceConnection connection = mock(FaultAwareWebServiceConnection.class);
+            when(primarySender.supports(any())).thenReturn(true);
+            when(primarySender.createConnection(any())).thenReturn(connection);
+            when(connection.hasError()).thenReturn(true);
+            when(connection.hasFault()).thenReturn(true);
+            when(connection.receive(any())).thenAnswer(invocation -> invocation
+                .<WebServiceMessageFactory>getArgument(0)
+                .createWebServiceMessage(new ByteArrayInputStream(FAULT_RESPONSE.getBytes(StandardCharsets.UTF_8))));
+            respond(failoverSender, RECORDS_RESPONSE);
+
+            assertEquals(2, callForEach(), "Count must match");
+            assertEquals(0, streamingTemplate.health().getEndpoints().get(0).getConsecutiveFailures(),
+                "A fault sent with a 500 status must not count against the endpoint");
+        }
+
+        @Test
+        void positiveStreamingTemplatesPerInstance() {
+            assertEquals(2, streamingTemplate.streaming().size(), "A streaming template per endpoint");
+            assertInstanceOf(StreamingFaultMessageResolver.class,
+                streamingTemplate.streaming().get(0).getFaultMessageResolver(), "Fault resolver must handle streams");
+        }
+
+        @Test
+        void positiveOnlyStreamingInterceptorsCopied() {
+            ClientInterceptor interceptor = mock(ClientInterceptor.class);
+            StreamingClientInterceptor streamingInterceptor = mock(StreamingClientInterceptor.class);
+            WebServiceTemplate template = new WebServiceTemplate(SoapWebServiceTemplateFactory.getMessageFactory());
+            template.setInterceptors(new ClientInterceptor[]{interceptor, streamingInterceptor});
+
+            assertArrayEquals(new ClientInterceptor[]{streamingInterceptor},
+                SoapWebServiceTemplate.createStreamingTemplate(template).getInterceptors(),
+                "Only streaming interceptors must be copied");
+        }
+
+        @Test
+        void negativeNoFailoverOnceReading() throws IOException {
+            respond(primarySender, RECORDS_RESPONSE);
+            respond(failoverSender, RECORDS_RESPONSE);
+            IllegalStateException exception = new IllegalStateException("Consumer failed");
+            RemoteGatewayException remoteGatewayException = assertThrows(RemoteGatewayException.class,
+                () -> streamingTemplate.callForEach(new TestRequest(), RECORD, TestRequest.class, record -> {
+                    throw exception;
+                }));
+            assertEquals(exception, remoteGatewayException.getCause(), "Cause must match");
+            verify(failoverSender, never()).createConnection(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("public <T, R> List<BatchResult<R>> callBatch(List<T> requests, int batchSize, "
+        + "int maxConcurrency)")
+    class CallBatch {
+        @Test
+        void positiveResultsInInputOrder() {
+            when(primary.marshalSendAndReceive(eq(PRIMARY_URI), any(), any(WebServiceMessageCallback.class)))
+                .thenAnswer(invocation -> "response-" + invocation.getArgument(1));
+            List<String> requests = List.of("1", "2", "3", "4", "5", "6", "7");
+
+            List<BatchResult<String>> results = soapWebServiceTemplate.callBatch(requests, 2, 3);
+            assertEquals(7, results.size(), "Result count must match");
+            for (int index = 0; index < requests.size(); index++) {
+                assertTrue(results.get(index).isSuccess(), "Result must be successful");
+                assertEquals("response-" + requests.get(index), results.get(index).response(),
+                    "Response must match its request");
+            }
+        }
+
+        @Test
+        void positivePerItemFailures() {
+            WebServiceIOException exception = new WebServiceIOException("Down");
+            when(primary.marshalSendAndReceive(eq(PRIMARY_URI), eq("ok"), any(WebServiceMessageCallback.class)))
+                .thenReturn(RESPONSE);
+            when(primary.marshalSendAndReceive(eq(PRIMARY_URI), eq("bad"), any(WebServiceMessageCallback.class)))
+                .thenThrow(exception);
+            when(failover.marshalSendAndReceive(eq(FAILOVER_URI), eq("bad"), any(WebServiceMessageCallback.class)))
+                .thenThrow(exception);
+            //The primary may be opened by the failures so the failover must also answer
+            when(failover.marshalSendAndReceive(eq(FAILOVER_URI), eq("ok"), any(WebServiceMessageCallback.class)))
+                .thenReturn(RESPONSE);
+
+            List<BatchResult<String>> results = soapWebServiceTemplate.callBatch(List.of("ok", "bad", "ok"), 1, 2);
+            assertEquals(RESPONSE, results.get(0).response(), "First response must match");
+            assertInstanceOf(RemoteGatewayException.class, results.get(1).failure(), "Failure must be reported");
+            assertEquals(exception, results.get(1).failure().getCause(), "Cause must match");
+            assertEquals(RESPONSE, results.get(2).response(), "Last response must match");
+        }
+
+        @Test
+        void positiveRejectedBatchSentOnCaller() {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.shutdown();
+            when(primary.marshalSendAndReceive(eq(PRIMARY_URI), any(), any(WebServiceMessageCallback.class)))
+                .thenAnswer(invocation -> "response-" + invocation.getArgument(1));
+
+            List<BatchResult<String>> results = new SoapWebServiceTemplate(config, primary, List.of(failover), executor)
+                .callBatch(List.of("1", "2", "3"), 2, 2);
+            assertEquals(List.of("response-1", "response-2", "response-3"),
+                results.stream().map(BatchResult::response).toList(), "Rejected batches must still be sent");
+        }
+
+        @Test
+        void positiveConcurrencyBounded() {
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            when(primary.marshalSendAndReceive(eq(PRIMARY_URI), any(), any(WebServiceMessageCallback.class)))
+                .thenAnswer(invocation -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    inFlight.decrementAndGet();
+                    return RESPONSE;
+                });
+            List<String> requests = new ArrayList<>();
+            for (int index = 0; index < 40; index++) {
+                requests.add(REQUEST);
+            }
+
+            soapWebServiceTemplate.callBatch(requests, 5, 2);
+            assertTrue(maxInFlight.get() <= 2, "At most two batches must be in flight");
+        }
+
+        @Test
+        void positiveEmpty() {
+            assertEquals(List.of(), soapWebServiceTemplate.callBatch(List.of(), 5, 2), "Results must be empty");
+        }
+
+        @Test
+        void negativeInvalidBatchSize() {
+            assertThrows(IllegalArgumentException.class,
+                () -> soapWebServiceTemplate.callBatch(List.of(REQUEST), 0, 2), "Batch size must be validated");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.client.core.FaultMessageResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("StreamingFaultMessageResolver")
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+class StreamingFaultMessageResolverTest {
+
+    private static StreamingSoapResponse response(String body) {
+        String xml = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"><soap:Body>" + body
+            + "</soap:Body></soap:Envelope>";
+        return new StreamingSoapResponse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void positiveStreamedFaultResolved() throws IOException {
+        FaultMessageResolver delegate = mock(FaultMessageResolver.class);
+        StreamingSoapResponse response = response(
+            "<soap:Fault><faultcode>soap:Server</faultcode><faultstring>Unavailable</faultstring></soap:Fault>");
+
+        SoapStreamingFaultException exception = assertThrows(SoapStreamingFaultException.class,
+            () -> new StreamingFaultMessageResolver(delegate).resolveFault(response));
+        assertEquals("soap:Server", exception.getFaultCode(), "Fault code must match");
+        assertEquals("Unavailable", exception.getFaultString(), "Fault string must match");
+        verify(delegate, never()).resolveFault(response);
+    }
+
+    @Test
+    void negativeStreamedBodyWithoutFault() {
+        SoapStreamingFaultException exception = assertThrows(SoapStreamingFaultException.class,
+            () -> new StreamingFaultMessageResolver(null).resolveFault(response("<records/>")));
+        assertNull(exception.getFaultCode(), "Fault code must be unknown");
+    }
+
+    @Test
+    void positiveOtherMessagesDelegated() throws IOException {
+        FaultMessageResolver delegate = mock(FaultMessageResolver.class);
+        WebServiceMessage message = mock(WebServiceMessage.class);
+        new StreamingFaultMessageResolver(delegate).resolveFault(message);
+        verify(delegate).resolveFault(message);
+    }
+}
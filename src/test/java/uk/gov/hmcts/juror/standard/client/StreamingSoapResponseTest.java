@@ -0,0 +1,81 @@
+package uk.gov.hmcts.juror.standard.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StreamingSoapResponse")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class StreamingSoapResponseTest {
+
+    private static final String SOAP_11 = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final String SOAP_12 = "http://www.w3.org/2003/05/soap-envelope";
+
+    private static StreamingSoapResponse response(String namespace, String body) {
+        String xml = "<soap:Envelope xmlns:soap=\"" + namespace + "\"><soap:Header/><soap:Body>" + body
+            + "</soap:Body></soap:Envelope>";
+        return new StreamingSoapResponse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void positiveReaderPositionedOnPayload() throws XMLStreamException {
+        XMLStreamReader reader = response(SOAP_11, "<records xmlns=\"urn:juror:test\"/>").getBodyReader();
+        assertTrue(reader.isStartElement(), "Reader must be on an element");
+        assertEquals("records", reader.getLocalName(), "Element must be the first body child");
+    }
+
+    @Test
+    void positiveEmptyBody() throws XMLStreamException {
+        XMLStreamReader reader = response(SOAP_12, "").getBodyReader();
+        assertTrue(reader.isEndElement(), "Reader must be on the end of the body");
+        assertNull(response(SOAP_12, "").getPayloadSource(), "Payload must be empty");
+    }
+
+    @Test
+    void negativeSoap11Fault() {
+        SoapStreamingFaultException exception = assertThrows(SoapStreamingFaultException.class,
+            () -> response(SOAP_11, "<soap:Fault><faultcode>soap:Server</faultcode>"
+                + "<faultstring>Record not found</faultstring><detail><code>1</code></detail></soap:Fault>")
+                .getBodyReader());
+        assertEquals("soap:Server", exception.getFaultCode(), "Fault code must match");
+        assertEquals("Record not found", exception.getFaultString(), "Fault string must match");
+    }
+
+    @Test
+    void negativeSoap12Fault() {
+        SoapStreamingFaultException exception = assertThrows(SoapStreamingFaultException.class,
+            () -> response(SOAP_12, "<soap:Fault><soap:Code><soap:Value>soap:Receiver</soap:Value></soap:Code>"
+                + "<soap:Reason><soap:Text xml:lang=\"en\">Record not found</soap:Text></soap:Reason>"
+                + "</soap:Fault>").getBodyReader());
+        assertEquals("soap:Receiver", exception.getFaultCode(), "Fault code must match");
+        assertEquals("Record not found", exception.getMessage(), "Message must match");
+    }
+
+    @Test
+    void negativeReadTwice() throws XMLStreamException {
+        StreamingSoapResponse response = response(SOAP_11, "<records/>");
+        response.getBodyReader();
+        assertThrows(IllegalStateException.class, response::getBodyReader, "Response must only be read once");
+    }
+
+    @Test
+    void negativeWriteUnsupported() {
+        StreamingSoapResponse response = response(SOAP_11, "<records/>");
+        assertThrows(SoapStreamingUnsupportedException.class, () -> response.writeTo(new ByteArrayOutputStream()),
+            "Streamed response must not be written out");
+        assertThrows(SoapStreamingUnsupportedException.class, response::getPayloadResult,
+            "Streamed response must be read only");
+    }
+}
@@ -3,6 +3,8 @@ package uk.gov.hmcts.juror.standard.client.interceptor;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.http.HttpHeaders;
@@ -16,10 +18,14 @@ import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
 import uk.gov.hmcts.juror.standard.testsupport.TestConstants;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -61,7 +67,8 @@ class JwtAuthenticationInterceptorTest {
 
         when(this.request.getHeaders()).thenReturn(this.httpHeaders);
         when(this.clientHttpRequestExecution.execute(this.request, this.body)).thenReturn(this.clientHttpResponse);
-        this.jwtAuthenticationInterceptor = new JwtAuthenticationInterceptor(this.jwtService, this.securityConfig);
+        this.jwtAuthenticationInterceptor =
+            new JwtAuthenticationInterceptor(this.jwtService, this.securityConfig, Clock.systemUTC());
 
         when(jwtService.generateJwtToken(null,
             this.securityConfig.getIssuer(),
@@ -111,4 +118,81 @@ class JwtAuthenticationInterceptorTest {
         verifyNoMoreInteractions(jwtService);
         verify(clientHttpRequestExecution, times(1)).execute(request, body);
     }
+
+    @Nested
+    @DisplayName("Token caching")
+    class TokenCaching {
+        private static final String NEW_JWT = "new.jwt.token";
+
+        private Clock clock;
+        private final List<Runnable> refreshTasks = new ArrayList<>();
+
+        @BeforeEach
+        void beforeEach() {
+            this.clock = mock(Clock.class);
+            when(clock.millis()).thenReturn(0L);
+            securityConfig.setTokenRefreshMargin(10_000);
+            jwtAuthenticationInterceptor =
+                new JwtAuthenticationInterceptor(jwtService, securityConfig, clock, refreshTasks::add);
+        }
+
+        private void verifyTokensGenerated(int count) {
+            verify(jwtService, times(count))
+                .generateJwtToken(any(), any(), any(), any(Long.class), any(), any());
+        }
+
+        @Test
+        void positiveTokenReusedBeforeRefreshMargin() {
+            assertEquals(TestConstants.JWT, jwtAuthenticationInterceptor.getJwt(), "Jwt must match");
+            when(clock.millis()).thenReturn(149_999L);
+            assertEquals(TestConstants.JWT, jwtAuthenticationInterceptor.getJwt(), "Jwt must match");
+
+            verifyTokensGenerated(1);
+            assertEquals(0, refreshTasks.size(), "No refresh must be scheduled");
+        }
+
+        @Test
+        void positiveRefreshedOffThreadWithinMargin() {
+            jwtAuthenticationInterceptor.getJwt();
+            when(jwtService.generateJwtToken(any(), any(), any(), any(Long.class), any(), any()))
+                .thenReturn(NEW_JWT);
+            when(clock.millis()).thenReturn(150_000L);
+
+            assertEquals(TestConstants.JWT, jwtAuthenticationInterceptor.getJwt(),
+                "Current token must be used while refreshing");
+            assertEquals(TestConstants.JWT, jwtAuthenticationInterceptor.getJwt(),
+                "Current token must be used while refreshing");
+            assertEquals(1, refreshTasks.size(), "Only one refresh must be scheduled");
+
+            refreshTasks.forEach(Runnable::run);
+            assertEquals(NEW_JWT, jwtAuthenticationInterceptor.getJwt(), "Refreshed token must be used");
+            verifyTokensGenerated(2);
+        }
+
+        @Test
+        void positiveRefreshedOnRequestThreadWhenRefreshLate() {
+            jwtAuthenticationInterceptor.getJwt();
+            when(jwtService.generateJwtToken(any(), any(), any(), any(Long.class), any(), any()))
+                .thenReturn(NEW_JWT);
+            when(clock.millis()).thenReturn(155_000L);
+
+            assertEquals(NEW_JWT, jwtAuthenticationInterceptor.getJwt(), "New token must be generated");
+            assertEquals(0, refreshTasks.size(), "No refresh must be scheduled");
+            verifyTokensGenerated(2);
+        }
+
+        @Test
+        void positiveMarginCappedAtHalfValidity() {
+            securityConfig.setTokenRefreshMargin(1_000_000);
+            jwtAuthenticationInterceptor.getJwt();
+            when(clock.millis()).thenReturn(79_999L);
+            jwtAuthenticationInterceptor.getJwt();
+            assertEquals(0, refreshTasks.size(), "No refresh must be scheduled");
+
+            when(clock.millis()).thenReturn(80_000L);
+            jwtAuthenticationInterceptor.getJwt();
+            assertEquals(1, refreshTasks.size(), "Refresh must be scheduled");
+            verifyTokensGenerated(1);
+        }
+    }
 }
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.juror.standard.client.jaxb;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import lombok.Data;
+
+@Data
+@XmlRootElement(name = "testRequest", namespace = "urn:juror:test")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class TestRequest {
+    private String name;
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.juror.standard.components;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import uk.gov.hmcts.juror.standard.cache.AuthorityGraphCache;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+import uk.gov.hmcts.juror.standard.datastore.repository.UserRepository;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ApplicationDatabaseBeans")
+class ApplicationDatabaseBeansTest {
+
+    private static final String EMAIL = "user@hmcts.net";
+
+    private UserRepository userRepository;
+    private AuthorityGraphCache authorityGraphCache;
+    private UserDetailsService userDetailsService;
+
+    @BeforeEach
+    void beforeEach() {
+        userRepository = mock(UserRepository.class);
+        authorityGraphCache = mock(AuthorityGraphCache.class);
+        userDetailsService = new ApplicationDatabaseBeans().userDetailsService(userRepository, authorityGraphCache);
+    }
+
+    @Nested
+    @DisplayName("public UserDetailsService userDetailsService(UserRepository userRepository, "
+        + "AuthorityGraphCache authorityGraphCache)")
+    class UserDetailsServiceTest {
+        @Test
+        void positiveLoadedWithoutRoles() {
+            User user = User.builder().email(EMAIL).build();
+            when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+            when(userRepository.findAuthorityNamesByEmail(EMAIL)).thenReturn(Set.of("permission"));
+
+            UserDetails userDetails = userDetailsService.loadUserByUsername(EMAIL);
+            assertSame(user, userDetails, "User must match");
+            assertEquals(Set.of("permission"), user.getAuthorityNames(), "Authorities must come from the query");
+            verify(userRepository, never()).findUserByEmail(any());
+        }
+
+        @Test
+        void negativeNotFound() {
+            when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+            assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(EMAIL),
+                "Missing user must be rejected");
+        }
+    }
+}
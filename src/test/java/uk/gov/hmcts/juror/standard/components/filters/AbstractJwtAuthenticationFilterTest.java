@@ -18,9 +18,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
+import uk.gov.hmcts.juror.standard.service.contracts.auth.ParsedJwt;
 import uk.gov.hmcts.juror.standard.testsupport.TestConstants;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -54,6 +56,8 @@ class AbstractJwtAuthenticationFilterTest {
 
     private SecurityContext securityContext;
 
+    private ParsedJwt parsedJwt;
+
     private MockedStatic<SecurityContextHolder> securityContextHolder;
 
 
@@ -64,12 +68,14 @@ class AbstractJwtAuthenticationFilterTest {
         this.response = mock(HttpServletResponse.class);
         this.filterChain = mock(FilterChain.class);
         this.securityContext = mock(SecurityContext.class);
+        this.parsedJwt = new ParsedJwt(TestConstants.EMAIL, Instant.now().plusSeconds(60), Set.of(), Set.of());
+        when(this.jwtService.parseJwt(TestConstants.JWT)).thenReturn(this.parsedJwt);
 
         this.securityContextHolder = Mockito.mockStatic(SecurityContextHolder.class);
         this.securityContextHolder.when(SecurityContextHolder::getContext).thenReturn(this.securityContext);
         this.jwtAuthenticationFilter = spy(new AbstractJwtAuthenticationFilter(this.jwtService) {
             @Override
-            UserDetails getUserDetails(String jwt) {
+            UserDetails getUserDetails(ParsedJwt jwt) {
                 return null;//This should be mocked in tests
             }
         });
@@ -90,21 +96,21 @@ class AbstractJwtAuthenticationFilterTest {
         );
 
         when(request.getHeader("Authorization")).thenReturn(TestConstants.AUTH_HEADER);
-        when(jwtService.extractEmail(TestConstants.JWT)).thenReturn(TestConstants.EMAIL);
         UserDetails userDetails = mock(UserDetails.class);
         doReturn(grantedAuthorities).when(userDetails).getAuthorities();
 
 
-        when(jwtAuthenticationFilter.getUserDetails(TestConstants.JWT)).thenReturn(userDetails);
+        when(jwtAuthenticationFilter.getUserDetails(parsedJwt)).thenReturn(userDetails);
         when(securityContext.getAuthentication()).thenReturn(null);
-        when(jwtService.isJwtValid(TestConstants.JWT, userDetails)).thenReturn(true);
+        when(jwtService.isJwtValid(parsedJwt, userDetails)).thenReturn(true);
 
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         verify(request, timeout(1)).getHeader("Authorization");
-        verify(jwtAuthenticationFilter, timeout(1)).getUserDetails(TestConstants.JWT);
-        verify(jwtService, timeout(1)).isJwtValid(TestConstants.JWT, userDetails);
+        verify(jwtAuthenticationFilter, timeout(1)).getUserDetails(parsedJwt);
+        verify(jwtService, times(1)).parseJwt(TestConstants.JWT);
+        verify(jwtService, timeout(1)).isJwtValid(parsedJwt, userDetails);
         verify(securityContext, timeout(1)).getAuthentication();
 
         final ArgumentCaptor<Authentication> authenticationCaptor = ArgumentCaptor.forClass(Authentication.class);
@@ -131,7 +137,7 @@ class AbstractJwtAuthenticationFilterTest {
 
         verify(request, timeout(1)).getHeader("Authorization");
         verify(jwtAuthenticationFilter, never()).getUserDetails(any());
-        verify(jwtService, never()).isJwtValid(any(), any());
+        verify(jwtService, never()).isJwtValid(any(ParsedJwt.class), any());
         verify(securityContext, never()).getAuthentication();
         verify(securityContext, never()).setAuthentication(any());
         verify(filterChain, timeout(1)).doFilter(request, response);
@@ -145,7 +151,7 @@ class AbstractJwtAuthenticationFilterTest {
 
         verify(request, timeout(1)).getHeader("Authorization");
         verify(jwtAuthenticationFilter, never()).getUserDetails(any());
-        verify(jwtService, never()).isJwtValid(any(), any());
+        verify(jwtService, never()).isJwtValid(any(ParsedJwt.class), any());
         verify(securityContext, never()).getAuthentication();
 
         verify(securityContext, never()).setAuthentication(any());
@@ -155,13 +161,13 @@ class AbstractJwtAuthenticationFilterTest {
     @Test
     void negativeUserDetailsNotFound() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn(TestConstants.AUTH_HEADER);
-        when(jwtAuthenticationFilter.getUserDetails(TestConstants.JWT)).thenReturn(null);
+        when(jwtAuthenticationFilter.getUserDetails(parsedJwt)).thenReturn(null);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         verify(request, timeout(1)).getHeader("Authorization");
         verify(jwtAuthenticationFilter, times(1)).getUserDetails(any());
-        verify(jwtService, never()).isJwtValid(any(), any());
+        verify(jwtService, never()).isJwtValid(any(ParsedJwt.class), any());
         verify(securityContext, never()).getAuthentication();
 
         verify(securityContext, never()).setAuthentication(any());
@@ -171,15 +177,14 @@ class AbstractJwtAuthenticationFilterTest {
     @Test
     void negativeAlreadyAuthenticated() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn(TestConstants.AUTH_HEADER);
-        when(jwtService.extractEmail(TestConstants.JWT)).thenReturn(TestConstants.EMAIL);
-        when(jwtAuthenticationFilter.getUserDetails(TestConstants.JWT)).thenReturn(mock(UserDetails.class));
+        when(jwtAuthenticationFilter.getUserDetails(parsedJwt)).thenReturn(mock(UserDetails.class));
         when(securityContext.getAuthentication()).thenReturn(mock(Authentication.class));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         verify(request, timeout(1)).getHeader("Authorization");
         verify(jwtAuthenticationFilter, times(1)).getUserDetails(any());
-        verify(jwtService, never()).isJwtValid(any(), any());
+        verify(jwtService, never()).isJwtValid(any(ParsedJwt.class), any());
         verify(securityContext, timeout(1)).getAuthentication();
 
         verify(securityContext, never()).setAuthentication(any());
@@ -189,18 +194,17 @@ class AbstractJwtAuthenticationFilterTest {
     @Test
     void negativeJwtNotValid() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn(TestConstants.AUTH_HEADER);
-        when(jwtService.extractEmail(TestConstants.JWT)).thenReturn(TestConstants.EMAIL);
         UserDetails userDetails = mock(UserDetails.class);
-        when(jwtAuthenticationFilter.getUserDetails(TestConstants.JWT)).thenReturn(userDetails);
+        when(jwtAuthenticationFilter.getUserDetails(parsedJwt)).thenReturn(userDetails);
 
         when(securityContext.getAuthentication()).thenReturn(null);
-        when(jwtService.isJwtValid(TestConstants.JWT, userDetails)).thenReturn(false);
+        when(jwtService.isJwtValid(parsedJwt, userDetails)).thenReturn(false);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         verify(request, timeout(1)).getHeader("Authorization");
         verify(jwtAuthenticationFilter, times(1)).getUserDetails(any());
-        verify(jwtService, timeout(1)).isJwtValid(TestConstants.JWT, userDetails);
+        verify(jwtService, timeout(1)).isJwtValid(parsedJwt, userDetails);
         verify(securityContext, timeout(1)).getAuthentication();
 
         verify(securityContext, never()).setAuthentication(any());
@@ -5,18 +5,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.juror.standard.cache.CachedUserDetails;
+import uk.gov.hmcts.juror.standard.cache.UserDetailsCache;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
+import uk.gov.hmcts.juror.standard.service.contracts.auth.ParsedJwt;
 import uk.gov.hmcts.juror.standard.testsupport.TestConstants;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -24,7 +33,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {JwtAuthenticationFilterDB.class})
+@ContextConfiguration(classes = {JwtAuthenticationFilterDB.class, UserDetailsCache.class})
 @SpringBootTest(properties = {"uk.gov.hmcts.juror.security.use-database=true"})
 class JwtAuthenticationFilterDbTest {
 
@@ -35,17 +44,22 @@ class JwtAuthenticationFilterDbTest {
     private UserDetailsService userDetailsService;
     @MockitoBean
     private JwtService jwtService;
+    @MockitoBean
+    private Clock clock;
 
     @Test
     void positiveUserFound() {
-        UserDetails userDetails = mock(UserDetails.class);
-        when(jwtService.extractEmail(TestConstants.JWT)).thenReturn(TestConstants.EMAIL);
+        UserDetails userDetails = User.withUsername(TestConstants.EMAIL).password("password")
+            .authorities("user::create").build();
+        ParsedJwt jwt = new ParsedJwt(TestConstants.EMAIL, Instant.now(), Set.of(), Set.of());
         when(userDetailsService.loadUserByUsername(TestConstants.EMAIL)).thenReturn(userDetails);
 
-        assertEquals(userDetails, jwtAuthenticationFilterDB.getUserDetails(TestConstants.JWT),
-            "JWT user details must match");
+        UserDetails principal = jwtAuthenticationFilterDB.getUserDetails(jwt);
+        assertInstanceOf(CachedUserDetails.class, principal, "Principal must be an immutable snapshot");
+        assertEquals(TestConstants.EMAIL, principal.getUsername(), "JWT user details must match");
+        assertEquals(List.copyOf(userDetails.getAuthorities()), principal.getAuthorities(),
+            "Authorities must match");
 
-        verify(jwtService, times(1)).extractEmail(TestConstants.JWT);
         verify(userDetailsService, times(1)).loadUserByUsername(TestConstants.EMAIL);
         verifyNoMoreInteractions(jwtService);
         verifyNoMoreInteractions(userDetailsService);
@@ -54,11 +68,10 @@ class JwtAuthenticationFilterDbTest {
 
     @Test
     void negativeEmailNotFound() {
-        when(jwtService.extractEmail(TestConstants.JWT)).thenReturn(null);
+        ParsedJwt jwt = new ParsedJwt(null, Instant.now(), Set.of(), Set.of());
 
-        assertNull(jwtAuthenticationFilterDB.getUserDetails(TestConstants.JWT), "Jwt user details must be null");
+        assertNull(jwtAuthenticationFilterDB.getUserDetails(jwt), "Jwt user details must be null");
 
-        verify(jwtService, times(1)).extractEmail(TestConstants.JWT);
         verify(userDetailsService, never()).loadUserByUsername(any());
         verifyNoMoreInteractions(jwtService);
         verifyNoMoreInteractions(userDetailsService);
@@ -8,12 +8,24 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.juror.standard.cache.CachedUserDetails;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
+import uk.gov.hmcts.juror.standard.service.contracts.auth.ParsedJwt;
 import uk.gov.hmcts.juror.standard.testsupport.TestConstants;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.mockito.Mockito.mock;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -33,19 +45,76 @@ class JwtAuthenticationFilterJwtTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private Clock clock;
+
+    private final ParsedJwt jwt = new ParsedJwt(TestConstants.EMAIL, Instant.now(), Set.of(), Set.of());
+
     @Test
     void positiveUserDetailsFound() {
-        UserDetails userDetails = mock(UserDetails.class);
-        when(jwtService.extractUserDetails(TestConstants.JWT)).thenReturn(userDetails);
-        assertEquals(userDetails, jwtAuthenticationFilterJwt.getUserDetails(TestConstants.JWT),
-            "User details must match");
+        User user = User.builder().email(TestConstants.EMAIL).permissions(Set.of()).build();
+        when(jwtService.extractUserDetails(jwt)).thenReturn(user);
+        UserDetails userDetails = jwtAuthenticationFilterJwt.getUserDetails(jwt);
+        assertInstanceOf(CachedUserDetails.class, userDetails, "User details must be an immutable snapshot");
+        assertEquals(TestConstants.EMAIL, userDetails.getUsername(), "Username must match");
+        assertEquals(List.copyOf(user.getAuthorities()), List.copyOf(userDetails.getAuthorities()),
+            "Authorities must match");
     }
 
     @Test
     void negativeUserDetailsNotFound() {
-        when(jwtService.extractUserDetails(TestConstants.JWT)).thenReturn(null);
-        assertNull(jwtAuthenticationFilterJwt.getUserDetails(TestConstants.JWT),
+        when(jwtService.extractUserDetails(jwt)).thenReturn(null);
+        assertNull(jwtAuthenticationFilterJwt.getUserDetails(jwt),
             "User details should be null");
 
     }
+
+    @Test
+    void positiveTokenCacheDisabledByDefault() {
+        assertNull(jwtAuthenticationFilterJwt.getTokenCache(), "Token cache must be disabled by default");
+    }
+
+    @Test
+    void positiveVerifyUsesTokenCache() {
+        Instant now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        ParsedJwt parsedJwt = new ParsedJwt(TestConstants.EMAIL, now.plusSeconds(60), Set.of(), Set.of());
+        User user = User.builder().email(TestConstants.EMAIL).permissions(Set.of()).build();
+        when(jwtService.parseJwt(TestConstants.JWT)).thenReturn(parsedJwt);
+        when(jwtService.extractUserDetails(parsedJwt)).thenReturn(user);
+
+        JwtAuthenticationFilterJwt filter = new JwtAuthenticationFilterJwt(jwtService, clock, true, 10);
+        AbstractJwtAuthenticationFilter.VerifiedJwt first = filter.verify(TestConstants.JWT);
+        AbstractJwtAuthenticationFilter.VerifiedJwt second = filter.verify(TestConstants.JWT);
+
+        assertSame(first, second, "Cached value must be returned");
+        assertInstanceOf(CachedUserDetails.class, second.userDetails(), "Cached principal must be immutable");
+        assertEquals(TestConstants.EMAIL, second.userDetails().getUsername(), "Username must match");
+        verify(jwtService, times(1)).parseJwt(TestConstants.JWT);
+        assertEquals(1, filter.getTokenCache().getHitCount(), "Hit count must match");
+        assertEquals(1, filter.getTokenCache().getMissCount(), "Miss count must match");
+    }
+
+    @Test
+    void positiveVerifyReparsesExpiredToken() {
+        Instant now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        ParsedJwt parsedJwt = new ParsedJwt(TestConstants.EMAIL, now.plusSeconds(60), Set.of(), Set.of());
+        when(jwtService.parseJwt(TestConstants.JWT)).thenReturn(parsedJwt);
+
+        JwtAuthenticationFilterJwt filter = new JwtAuthenticationFilterJwt(jwtService, clock, true, 10);
+        filter.verify(TestConstants.JWT);
+        when(clock.instant()).thenReturn(now.plusSeconds(60));
+        filter.verify(TestConstants.JWT);
+
+        verify(jwtService, times(2)).parseJwt(TestConstants.JWT);
+        assertEquals(0, filter.getTokenCache().getHitCount(), "Hit count must match");
+    }
+
+    @Test
+    void positiveDigestIsStableAndDoesNotExposeToken() {
+        String digest = JwtAuthenticationFilterJwt.digest(TestConstants.JWT);
+        assertEquals(digest, JwtAuthenticationFilterJwt.digest(TestConstants.JWT), "Digest must be stable");
+        assertNotEquals(TestConstants.JWT, digest, "Digest must not be the raw token");
+    }
 }
@@ -0,0 +1,121 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("AbortableHttpRequestFactory")
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+class AbortableHttpRequestFactoryTest {
+
+    @Nested
+    @DisplayName("Abort")
+    class AbortTest {
+        @Test
+        void positiveAbortCancelsRegisteredRequest() {
+            AbortableHttpRequestFactory.Abort abort = new AbortableHttpRequestFactory.Abort();
+            Cancellable request = mock(Cancellable.class);
+            abort.register(request);
+            verify(request, never()).cancel();
+
+            abort.abort();
+            verify(request).cancel();
+            assertTrue(abort.isAborted(), "Abort must be recorded");
+        }
+
+        @Test
+        void positiveRequestRegisteredAfterAbortCancelled() {
+            AbortableHttpRequestFactory.Abort abort = new AbortableHttpRequestFactory.Abort();
+            abort.abort();
+            Cancellable request = mock(Cancellable.class);
+            abort.register(request);
+            verify(request).cancel();
+        }
+    }
+
+    @Nested
+    @DisplayName("public static <R> R callAbortable(Abort abort, Supplier<R> action)")
+    class CallAbortable {
+        private HttpServer server;
+        private CloseableHttpClient httpClient;
+        private final CountDownLatch received = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @BeforeEach
+        void beforeEach() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                received.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.close();
+            });
+            server.start();
+            httpClient = HttpClients.createDefault();
+        }
+
+        @AfterEach
+        void afterEach() throws IOException {
+            release.countDown();
+            httpClient.close();
+            server.stop(0);
+        }
+
+        @Test
+        void positiveAbortFailsRequestInProgress() throws Exception {
+            AbortableHttpRequestFactory factory = new AbortableHttpRequestFactory(httpClient);
+            AbortableHttpRequestFactory.Abort abort = new AbortableHttpRequestFactory.Abort();
+            URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/service");
+            CompletableFuture<Boolean> call = CompletableFuture.supplyAsync(
+                () -> AbortableHttpRequestFactory.callAbortable(abort, () -> {
+                    try {
+                        factory.createRequest(uri, HttpMethod.GET).execute().close();
+                        return AbortableHttpRequestFactory.isCurrentCallAborted();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            assertTrue(received.await(10, TimeUnit.SECONDS), "Request must reach the server");
+            assertFalse(call.isDone(), "Request must still be waiting for the response");
+
+            abort.abort();
+            ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> call.get(10, TimeUnit.SECONDS),
+                    "Aborted request must fail without waiting for the response");
+            assertInstanceOf(UncheckedIOException.class, exception.getCause(), "Cause must match");
+        }
+
+        @Test
+        void positiveNotAbortedOutsideCall() {
+            assertFalse(AbortableHttpRequestFactory.isCurrentCallAborted(),
+                "Nothing is aborted outside callAbortable");
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.protocol.BasicHttpContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AdaptiveRetryStrategy")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class AdaptiveRetryStrategyTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private WebConfig.Retry config;
+    private double randomValue;
+    private AdaptiveRetryStrategy strategy;
+    private HttpContext context;
+
+    @BeforeEach
+    void beforeEach() {
+        config = new WebConfig.Retry();
+        config.setJitter(0.5);
+        randomValue = 0;
+        strategy = createStrategy(3);
+        context = new BasicHttpContext();
+    }
+
+    private AdaptiveRetryStrategy createStrategy(int maxRetries) {
+        return createStrategy(maxRetries, false);
+    }
+
+    private AdaptiveRetryStrategy createStrategy(int maxRetries, boolean retryNonIdempotentByDefault) {
+        return new AdaptiveRetryStrategy(maxRetries, Duration.ofMillis(100), config, retryNonIdempotentByDefault,
+            Clock.fixed(NOW, ZoneOffset.UTC), () -> randomValue);
+    }
+
+    private HttpRequest send(String method) {
+        HttpRequest request = new BasicHttpRequest(method, "/service");
+        strategy.process(request, null, context);
+        return request;
+    }
+
+    @Nested
+    @DisplayName("Duration getBackoff(int execCount)")
+    class GetBackoff {
+        @Test
+        void positiveExponential() {
+            assertEquals(Duration.ofMillis(100), strategy.getBackoff(1), "First delay must match");
+            assertEquals(Duration.ofMillis(200), strategy.getBackoff(2), "Second delay must double");
+            assertEquals(Duration.ofMillis(400), strategy.getBackoff(3), "Third delay must double");
+        }
+
+        @Test
+        void positiveCappedAtMaxDelay() {
+            config.setMaxDelay(Duration.ofMillis(250));
+            assertEquals(Duration.ofMillis(250), strategy.getBackoff(3), "Delay must be capped");
+        }
+
+        @Test
+        void positiveJitter() {
+            randomValue = 1;
+            assertEquals(Duration.ofMillis(100), strategy.getBackoff(2), "Up to half the delay must be random");
+        }
+    }
+
+    @Nested
+    @DisplayName("public boolean retryRequest(HttpRequest request, IOException exception, int execCount, "
+        + "HttpContext context)")
+    class RetryRequestException {
+        @Test
+        void positiveIdempotentRequestRetried() {
+            assertTrue(strategy.retryRequest(send("GET"), new IOException("Reset"), 1, context),
+                "GET must be retried");
+        }
+
+        @Test
+        void negativeNonIdempotentRequestNotRetried() {
+            assertFalse(strategy.retryRequest(send("POST"), new IOException("Reset"), 1, context),
+                "POST must not be retried");
+        }
+
+        @Test
+        void positiveNonIdempotentRetriedWhenEnabled() {
+            config.setRetryNonIdempotent(true);
+            assertTrue(strategy.retryRequest(send("POST"), new IOException("Reset"), 1, context),
+                "POST must be retried when enabled");
+        }
+
+        @Test
+        void positiveNonIdempotentRetriedByDefaultUnlessDisabled() {
+            strategy = createStrategy(3, true);
+            assertTrue(strategy.retryRequest(send("POST"), new IOException("Reset"), 1, context),
+                "POST must be retried by default");
+            config.setRetryNonIdempotent(false);
+            assertFalse(strategy.retryRequest(send("POST"), new IOException("Reset"), 1, context),
+                "POST must not be retried once disabled");
+        }
+
+        @Test
+        void negativeNonRetryableException() {
+            assertFalse(strategy.retryRequest(send("GET"), new UnknownHostException("host"), 1, context),
+                "Unknown host must not be retried");
+            assertFalse(strategy.retryRequest(send("GET"), new SocketTimeoutException("timeout"), 1, context),
+                "Timeouts must not be retried");
+        }
+
+        @Test
+        void negativeMaxRetriesReached() {
+            assertFalse(strategy.retryRequest(send("GET"), new IOException("Reset"), 4, context),
+                "Retries must be limited");
+        }
+
+        @Test
+        void negativeBudgetExhausted() {
+            config.setBudget(1);
+            config.setBudgetRatio(0);
+            strategy = createStrategy(3);
+            assertTrue(strategy.retryRequest(send("GET"), new IOException("Reset"), 1, context),
+                "First retry must be allowed");
+            assertFalse(strategy.retryRequest(send("GET"), new IOException("Reset"), 1, context),
+                "Retry must be refused once the budget is spent");
+        }
+    }
+
+    @Nested
+    @DisplayName("public boolean retryRequest(HttpResponse response, int execCount, HttpContext context)")
+    class RetryRequestResponse {
+        @Test
+        void positiveRetryableStatus() {
+            send("GET");
+            assertTrue(strategy.retryRequest(new BasicHttpResponse(503), 1, context), "503 must be retried");
+        }
+
+        @Test
+        void negativeOtherStatus() {
+            send("GET");
+            assertFalse(strategy.retryRequest(new BasicHttpResponse(500), 1, context), "500 must not be retried");
+        }
+
+        @Test
+        void negativeNonIdempotent() {
+            send("POST");
+            assertFalse(strategy.retryRequest(new BasicHttpResponse(503), 1, context), "POST must not be retried");
+        }
+
+        @Test
+        void negativeRetryAfterTooLong() {
+            send("GET");
+            HttpResponse response = new BasicHttpResponse(503);
+            response.addHeader(HttpHeaders.RETRY_AFTER, "120");
+            assertFalse(strategy.retryRequest(response, 1, context), "Long Retry-After must not be retried");
+        }
+    }
+
+    @Nested
+    @DisplayName("public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context)")
+    class GetRetryInterval {
+        @Test
+        void positiveRetryAfterSeconds() {
+            HttpResponse response = new BasicHttpResponse(429);
+            response.addHeader(HttpHeaders.RETRY_AFTER, "5");
+            assertEquals(TimeValue.ofMilliseconds(5000), strategy.getRetryInterval(response, 1, context),
+                "Retry-After must be honoured");
+        }
+
+        @Test
+        void positiveRetryAfterDate() {
+            HttpResponse response = new BasicHttpResponse(503);
+            response.addHeader(HttpHeaders.RETRY_AFTER, "Wed, 01 Jan 2025 10:00:07 GMT");
+            assertEquals(TimeValue.ofMilliseconds(7000), strategy.getRetryInterval(response, 1, context),
+                "Retry-After date must be honoured");
+        }
+
+        @Test
+        void positiveBackoffWithoutRetryAfter() {
+            assertEquals(TimeValue.ofMilliseconds(200),
+                strategy.getRetryInterval(new BasicHttpResponse(503), 2, context), "Backoff must be used");
+        }
+
+        @Test
+        void negativeInvalidRetryAfterIgnored() {
+            HttpResponse response = new BasicHttpResponse(503);
+            response.addHeader(HttpHeaders.RETRY_AFTER, "soon");
+            assertNull(strategy.getRetryAfter(response), "Invalid Retry-After must be ignored");
+        }
+    }
+
+    @Nested
+    @DisplayName("public void process(HttpRequest request, EntityDetails entity, HttpContext context)")
+    class Process {
+        @Test
+        void positiveRetriedRequestRecordedOnce() {
+            config.setBudget(2);
+            config.setBudgetRatio(0.5);
+            strategy = createStrategy(3);
+            assertTrue(strategy.getBudget().tryAcquireRetry(), "Retry must be allowed");
+
+            send("GET");
+            send("GET");
+            assertEquals(1.5, strategy.getBudget().getAvailableRetries(), "Retry must not deposit again");
+
+            context = new BasicHttpContext();
+            send("GET");
+            assertEquals(2.0, strategy.getBudget().getAvailableRetries(), "New request must deposit");
+        }
+    }
+
+    @Test
+    void positiveInitialDelayFallsBackToRetryDelay() {
+        WebConfig webConfig = new WebConfig();
+        assertEquals(Duration.ofMillis(100), webConfig.getInitialRetryDelay(), "Default must be used");
+        webConfig.setRetryDelay(250);
+        assertEquals(Duration.ofMillis(250), webConfig.getInitialRetryDelay(), "Retry delay must be milliseconds");
+        webConfig.setRetry(new WebConfig.Retry());
+        webConfig.getRetry().setInitialDelay(Duration.ofSeconds(1));
+        assertEquals(Duration.ofSeconds(1), webConfig.getInitialRetryDelay(), "Initial delay must take priority");
+    }
+}
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("HttpConnectionManagers")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class HttpConnectionManagersTest {
+
+    @AfterEach
+    void afterEach() {
+        HttpConnectionManagers.closeAll();
+    }
+
+    private WebConfig createWebConfig(String host, String url) {
+        WebConfig webConfig = new WebConfig();
+        webConfig.setScheme("http");
+        webConfig.setHost(host);
+        webConfig.setPort(8080);
+        webConfig.setUrl(url);
+        return webConfig;
+    }
+
+    @Nested
+    @DisplayName("public static PoolingHttpClientConnectionManager getShared(WebConfig webConfig)")
+    class GetShared {
+        @Test
+        void positiveSameHostShared() {
+            PoolingHttpClientConnectionManager manager =
+                HttpConnectionManagers.getShared(createWebConfig("localhost", "/one"));
+            assertSame(manager, HttpConnectionManagers.getShared(createWebConfig("localhost", "/two")),
+                "Managers for the same host must be shared");
+        }
+
+        @Test
+        void positiveDifferentHostNotShared() {
+            assertNotSame(HttpConnectionManagers.getShared(createWebConfig("localhost", "/one")),
+                HttpConnectionManagers.getShared(createWebConfig("otherhost", "/one")),
+                "Managers for different hosts must not be shared");
+        }
+
+        @Test
+        void positiveDifferentPoolSettingsNotShared() {
+            WebConfig webConfig = createWebConfig("localhost", "/one");
+            WebConfig.Pool pool = new WebConfig.Pool();
+            pool.setMaxTotal(5);
+            webConfig.setPool(pool);
+            assertNotSame(HttpConnectionManagers.getShared(createWebConfig("localhost", "/one")),
+                HttpConnectionManagers.getShared(webConfig),
+                "Managers with different pool settings must not be shared");
+        }
+
+        @Test
+        void positiveChangingConfigAfterCreationDoesNotAffectSharing() {
+            WebConfig webConfig = createWebConfig("localhost", "/one");
+            WebConfig.Pool pool = new WebConfig.Pool();
+            webConfig.setPool(pool);
+            PoolingHttpClientConnectionManager manager = HttpConnectionManagers.getShared(webConfig);
+            pool.setMaxTotal(5);
+
+            assertSame(manager, HttpConnectionManagers.getShared(createWebConfig("localhost", "/one")),
+                "Manager must stay stored under the settings it was created with");
+            assertNotSame(manager, HttpConnectionManagers.getShared(webConfig),
+                "Changed settings must use a different manager");
+        }
+
+        @Test
+        void positiveResponseTimeoutShared() {
+            WebConfig webConfig = createWebConfig("localhost", "/one");
+            WebConfig.Pool pool = new WebConfig.Pool();
+            pool.setResponseTimeout(Duration.ofSeconds(5));
+            webConfig.setPool(pool);
+            assertSame(HttpConnectionManagers.getShared(createWebConfig("localhost", "/one")),
+                HttpConnectionManagers.getShared(webConfig),
+                "Request level settings must not prevent sharing");
+        }
+
+        @Test
+        void positiveClosedManagersRecreated() {
+            PoolingHttpClientConnectionManager manager =
+                HttpConnectionManagers.getShared(createWebConfig("localhost", "/one"));
+            HttpConnectionManagers.closeAll();
+            assertNotSame(manager, HttpConnectionManagers.getShared(createWebConfig("localhost", "/one")),
+                "A new manager must be created after close");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static PoolingAsyncClientConnectionManager getSharedAsync(WebConfig webConfig)")
+    class GetSharedAsync {
+        @Test
+        void positiveSameHostShared() {
+            PoolingAsyncClientConnectionManager manager =
+                HttpConnectionManagers.getSharedAsync(createWebConfig("localhost", "/one"));
+            assertSame(manager, HttpConnectionManagers.getSharedAsync(createWebConfig("localhost", "/two")),
+                "Async managers for the same host must be shared");
+            assertEquals(100, manager.getMaxTotal(), "Max total must match");
+        }
+
+        @Test
+        void positiveClosedManagersRecreated() {
+            PoolingAsyncClientConnectionManager manager =
+                HttpConnectionManagers.getSharedAsync(createWebConfig("localhost", "/one"));
+            HttpConnectionManagers.closeAll();
+            assertNotSame(manager, HttpConnectionManagers.getSharedAsync(createWebConfig("localhost", "/one")),
+                "A new async manager must be created after close");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static PoolingHttpClientConnectionManager create(WebConfig webConfig)")
+    class Create {
+        @Test
+        void positiveDefaultPoolSizes() {
+            try (PoolingHttpClientConnectionManager manager =
+                     HttpConnectionManagers.create(createWebConfig("localhost", "/one"))) {
+                assertEquals(100, manager.getMaxTotal(), "Max total must match");
+                assertEquals(20, manager.getDefaultMaxPerRoute(), "Max per route must match");
+            }
+        }
+
+        @Test
+        void positiveConfiguredPoolSizes() {
+            WebConfig webConfig = createWebConfig("localhost", "/one");
+            WebConfig.Pool pool = new WebConfig.Pool();
+            pool.setMaxTotal(7);
+            pool.setMaxPerRoute(3);
+            webConfig.setPool(pool);
+            try (PoolingHttpClientConnectionManager manager = HttpConnectionManagers.create(webConfig)) {
+                assertEquals(7, manager.getMaxTotal(), "Max total must match");
+                assertEquals(3, manager.getDefaultMaxPerRoute(), "Max per route must match");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("public RequestConfig toRequestConfig()")
+    class ToRequestConfig {
+        @Test
+        void positiveTimeoutsApplied() {
+            WebConfig.Pool pool = new WebConfig.Pool();
+            pool.setResponseTimeout(Duration.ofSeconds(5));
+            pool.setConnectionRequestTimeout(Duration.ofSeconds(2));
+            RequestConfig requestConfig = pool.toRequestConfig();
+            assertEquals(5000, requestConfig.getResponseTimeout().toMilliseconds(), "Response timeout must match");
+            assertEquals(2, requestConfig.getConnectionRequestTimeout().convert(TimeUnit.SECONDS),
+                "Connection request timeout must match");
+        }
+
+        @Test
+        void positiveDefaultsUnset() {
+            RequestConfig requestConfig = new WebConfig.Pool().toRequestConfig();
+            assertNull(requestConfig.getResponseTimeout(), "Response timeout must be unset");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("RetryBudget")
+class RetryBudgetTest {
+
+    @Test
+    void positiveStartsFull() {
+        RetryBudget budget = new RetryBudget(2, 0.1);
+        assertTrue(budget.tryAcquireRetry(), "First retry must be allowed");
+        assertTrue(budget.tryAcquireRetry(), "Second retry must be allowed");
+        assertFalse(budget.tryAcquireRetry(), "Budget must be exhausted");
+    }
+
+    @Test
+    void positiveRefilledByRequests() {
+        RetryBudget budget = new RetryBudget(1, 0.25);
+        budget.tryAcquireRetry();
+        for (int i = 0; i < 3; i++) {
+            budget.recordRequest();
+        }
+        assertFalse(budget.tryAcquireRetry(), "Three requests must not earn a retry");
+        budget.recordRequest();
+        assertTrue(budget.tryAcquireRetry(), "Four requests must earn a retry");
+    }
+
+    @Test
+    void positiveCappedAtBudget() {
+        RetryBudget budget = new RetryBudget(1, 1);
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        assertEquals(1.0, budget.getAvailableRetries(), "Balance must be capped");
+    }
+
+    @Test
+    void negativeZeroBudgetDisablesRetries() {
+        RetryBudget budget = new RetryBudget(0, 0.5);
+        budget.recordRequest();
+        assertFalse(budget.tryAcquireRetry(), "No retries must be allowed");
+    }
+}
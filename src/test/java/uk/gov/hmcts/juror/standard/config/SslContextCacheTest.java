@@ -0,0 +1,191 @@
+package uk.gov.hmcts.juror.standard.config;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.time.Duration;
+import java.util.Collections;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.X509TrustManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SslContextCache")
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+class SslContextCacheTest {
+
+    private static final String PASSWORD = "changeit";
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void afterEach() {
+        SslContextCache.clear();
+    }
+
+    private WebConfig.SslConfig createConfig(File trustStore) {
+        WebConfig.SslConfig sslConfig = new WebConfig.SslConfig();
+        sslConfig.setEnable(true);
+        sslConfig.setTrustStoreLocation(trustStore);
+        sslConfig.setTrustStorePassword(PASSWORD);
+        return sslConfig;
+    }
+
+    private static byte[] createTrustStore(Certificate... certificates) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        keyStore.load(null, null);
+        for (int i = 0; i < certificates.length; i++) {
+            keyStore.setCertificateEntry("cert" + i, certificates[i]);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        keyStore.store(outputStream, PASSWORD.toCharArray());
+        return outputStream.toByteArray();
+    }
+
+    private static Certificate getJvmTrustedCertificate() throws Exception {
+        KeyStore cacerts = KeyStore.getInstance(
+            new File(System.getProperty("java.home"), "lib/security/cacerts"), PASSWORD.toCharArray());
+        return cacerts.getCertificate(Collections.list(cacerts.aliases()).get(0));
+    }
+
+    private File writeStore(String name, byte[] content) throws Exception {
+        return Files.write(tempDir.resolve(name), content).toFile();
+    }
+
+    @Nested
+    @DisplayName("public static SSLContext getSSLContext(WebConfig.SslConfig sslConfig)")
+    class GetSslContext {
+
+        @Test
+        void positiveSameStoresShareContext() throws Exception {
+            File trustStore = writeStore("trust.p12", createTrustStore());
+            SSLContext first = SslContextCache.getSSLContext(createConfig(trustStore));
+            SSLContext second = SslContextCache.getSSLContext(createConfig(trustStore));
+            assertSame(first, second, "Configs for the same stores must share a context");
+        }
+
+        @Test
+        void positiveDifferentStoresDoNotShareContext() throws Exception {
+            SSLContext first = SslContextCache.getSSLContext(
+                createConfig(writeStore("first.p12", createTrustStore())));
+            SSLContext second = SslContextCache.getSSLContext(
+                createConfig(writeStore("second.p12", createTrustStore())));
+            assertNotSame(first, second, "Configs for different stores must not share a context");
+        }
+
+        @Test
+        void positiveSessionSettingsApplied() throws Exception {
+            WebConfig.SslConfig sslConfig = createConfig(writeStore("trust.p12", createTrustStore()));
+            sslConfig.setSessionCacheSize(7);
+            sslConfig.setSessionTimeout(Duration.ofMinutes(2));
+            SSLContext sslContext = SslContextCache.getSSLContext(sslConfig);
+            assertEquals(7, sslContext.getClientSessionContext().getSessionCacheSize(),
+                "Session cache size must be applied");
+            assertEquals(120, sslContext.getClientSessionContext().getSessionTimeout(),
+                "Session timeout must be applied");
+        }
+
+        @Test
+        void positiveNoStores() throws Exception {
+            WebConfig.SslConfig sslConfig = new WebConfig.SslConfig();
+            sslConfig.setEnable(true);
+            assertNotNull(SslContextCache.getSSLContext(sslConfig), "Context must use the JVM defaults");
+        }
+
+        @Test
+        void positiveSocketFactoryUsesSharedContext() throws Exception {
+            WebConfig.SslConfig sslConfig = createConfig(writeStore("trust.p12", createTrustStore()));
+            assertNotNull(sslConfig.getSSLConnectionSocketFactory(), "Socket factory must be created");
+            assertSame(SslContextCache.getSSLContext(sslConfig), sslConfig.getSSLContext(),
+                "Config must return the cached context");
+        }
+    }
+
+    @Nested
+    @DisplayName("ReloadableX509Managers")
+    class Reload {
+
+        private X509TrustManager getTrustManager(ReloadableX509Managers managers) {
+            return (X509TrustManager) managers.getTrustManagers()[0];
+        }
+
+        private ReloadableX509Managers createManagers(WebConfig.SslConfig sslConfig) throws Exception {
+            return new ReloadableX509Managers(SslContextCache.Key.of(sslConfig));
+        }
+
+        private void replace(File file, byte[] content) throws Exception {
+            long lastModified = file.lastModified();
+            Files.write(file.toPath(), content);
+            //Guard against coarse file system timestamps
+            assertTrue(file.setLastModified(lastModified + 2000), "Last modified must be updated");
+        }
+
+        @Test
+        void positiveReloadsChangedStore() throws Exception {
+            File trustStore = writeStore("trust.p12", createTrustStore());
+            WebConfig.SslConfig sslConfig = createConfig(trustStore);
+            sslConfig.setReloadCheckInterval(null);
+            ReloadableX509Managers managers = createManagers(sslConfig);
+            assertEquals(0, getTrustManager(managers).getAcceptedIssuers().length, "Store must start empty");
+
+            replace(trustStore, createTrustStore(getJvmTrustedCertificate()));
+            assertEquals(0, getTrustManager(managers).getAcceptedIssuers().length,
+                "Store must not reload when reloading is disabled");
+            assertTrue(managers.reloadIfChanged(), "Changed store must be reloaded");
+            assertEquals(1, getTrustManager(managers).getAcceptedIssuers().length,
+                "Reloaded store must be used");
+            assertFalse(managers.reloadIfChanged(), "Unchanged store must not be reloaded");
+        }
+
+        @Test
+        void positiveHandshakeChecksForChanges() throws Exception {
+            File trustStore = writeStore("trust.p12", createTrustStore());
+            WebConfig.SslConfig sslConfig = createConfig(trustStore);
+            sslConfig.setReloadCheckInterval(Duration.ZERO);
+            ReloadableX509Managers managers = createManagers(sslConfig);
+
+            replace(trustStore, createTrustStore(getJvmTrustedCertificate()));
+            assertEquals(1, getTrustManager(managers).getAcceptedIssuers().length,
+                "Store must be reloaded on use once the check interval has passed");
+        }
+
+        @Test
+        void positiveBase64EncodedStore() throws Exception {
+            File trustStore = writeStore("trust.b64",
+                Base64.encodeBase64(createTrustStore(getJvmTrustedCertificate())));
+            WebConfig.SslConfig sslConfig = createConfig(trustStore);
+            sslConfig.setBase64Encoded(true);
+            assertEquals(1, getTrustManager(createManagers(sslConfig)).getAcceptedIssuers().length,
+                "Base64 encoded store must be decoded");
+        }
+
+        @Test
+        void negativeInvalidReplacementKeepsPreviousMaterial() throws Exception {
+            File trustStore = writeStore("trust.p12", createTrustStore(getJvmTrustedCertificate()));
+            WebConfig.SslConfig sslConfig = createConfig(trustStore);
+            sslConfig.setReloadCheckInterval(null);
+            ReloadableX509Managers managers = createManagers(sslConfig);
+
+            replace(trustStore, new byte[]{1, 2, 3});
+            assertFalse(managers.reloadIfChanged(), "Invalid store must not be loaded");
+            assertEquals(1, getTrustManager(managers).getAcceptedIssuers().length,
+                "Previous store must still be used");
+        }
+    }
+}
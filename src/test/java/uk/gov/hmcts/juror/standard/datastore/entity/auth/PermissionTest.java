@@ -1,14 +1,23 @@
 package uk.gov.hmcts.juror.standard.datastore.entity.auth;
 
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.security.core.GrantedAuthority;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class PermissionTest {
 
+    @AfterEach
+    void afterEach() {
+        Permission.clearInternedAuthorities();
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"MyName1", "Permission 2", "Permission 3"})
     void positiveConstructorName(String name) {
@@ -31,4 +40,24 @@ class PermissionTest {
         GrantedAuthority grantedAuthority = permission.toGrantedAuthority();
         assertEquals(name, grantedAuthority.getAuthority(),"Authority must match");
     }
+
+    @Test
+    void positiveToGrantedAuthorityReused() {
+        GrantedAuthority first = new Permission("Reused Permission").toGrantedAuthority();
+        GrantedAuthority second = new Permission("Reused Permission").toGrantedAuthority();
+        assertSame(first, second, "Authority instances must be shared");
+    }
+
+    @Test
+    void positiveToGrantedAuthorityInterningBounded() {
+        for (int i = 0; i < Permission.MAX_INTERNED_AUTHORITIES; i++) {
+            new Permission("Claimed Permission " + i).toGrantedAuthority();
+        }
+        GrantedAuthority first = new Permission("Overflow Permission").toGrantedAuthority();
+        GrantedAuthority second = new Permission("Overflow Permission").toGrantedAuthority();
+        assertEquals("Overflow Permission", first.getAuthority(), "Authority must match");
+        assertNotSame(first, second, "Authorities past the limit must not be interned");
+        assertSame(new Permission("Claimed Permission 0").toGrantedAuthority(),
+            new Permission("Claimed Permission 0").toGrantedAuthority(), "Interned authorities must still be shared");
+    }
 }
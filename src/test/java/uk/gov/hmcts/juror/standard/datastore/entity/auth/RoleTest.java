@@ -5,6 +5,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.core.GrantedAuthority;
 import uk.gov.hmcts.juror.standard.testsupport.TestPermissions;
 import uk.gov.hmcts.juror.standard.testsupport.TestRoles;
 import uk.gov.hmcts.juror.standard.testsupport.TestUtil;
@@ -224,4 +225,43 @@ class RoleTest {
                 TestPermissions.USER_DELETE,
                 TestPermissions.USER_CREATE));
     }
+
+    @Test
+    void positiveGetCombinedPermissionsCyclicInheritance() {
+        Role first = new Role("FIRST");
+        Role second = new Role("SECOND");
+        first.addPermission(TestPermissions.JOB_RUN);
+        second.addPermission(TestPermissions.USER_CREATE);
+        first.setInheritedRoles(Set.of(second));
+        second.setInheritedRoles(Set.of(first));
+
+        Set<Permission> permissions = first.getCombinedPermissions();
+        assertEquals(2, permissions.size(), "Combined permissions size must be 2");
+        assertThat("Permissions must contain JOB_RUN & USER_CREATE",
+            permissions, hasItems(TestPermissions.JOB_RUN, TestPermissions.USER_CREATE));
+        assertEquals(permissions, second.getCombinedPermissions(), "Both roles must resolve the same permissions");
+    }
+
+    @Test
+    void positiveGetCombinedPermissionsRecomputedAfterInheritedRoleChange() {
+        Role adminRole = TestRoles.ADMIN;
+        assertEquals(0, adminRole.getCombinedPermissions().size(), "Combined permissions size must be 0");
+
+        TestRoles.USER.addPermission(TestPermissions.JOB_RUN);
+        Set<Permission> permissions = adminRole.getCombinedPermissions();
+        assertEquals(1, permissions.size(), "Combined permissions size must be 1");
+        assertThat("Permissions must contain JOB_RUN", permissions, hasItem(TestPermissions.JOB_RUN));
+        TestUtil.isUnmodifiable(permissions);
+    }
+
+    @Test
+    void positiveGetCombinedAuthorities() {
+        TestRoles.USER.addPermission(TestPermissions.JOB_RUN);
+        TestRoles.ADMIN.addPermission(TestPermissions.USER_DELETE);
+
+        Set<GrantedAuthority> authorities = TestRoles.ADMIN.getCombinedAuthorities();
+        assertEquals(2, authorities.size(), "Combined authorities size must be 2");
+        assertThat("Authorities must contain JOB_RUN & USER_DELETE", authorities,
+            hasItems(TestPermissions.JOB_RUN.toGrantedAuthority(), TestPermissions.USER_DELETE.toGrantedAuthority()));
+    }
 }
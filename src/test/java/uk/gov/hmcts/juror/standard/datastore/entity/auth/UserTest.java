@@ -5,11 +5,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
 import uk.gov.hmcts.juror.standard.testsupport.TestPermissions;
 import uk.gov.hmcts.juror.standard.testsupport.TestRoles;
 import uk.gov.hmcts.juror.standard.testsupport.TestUtil;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -19,6 +22,8 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -103,6 +108,126 @@ class UserTest {
                 ));
         }
 
+        @Test
+        void positiveRecomputedAfterUserPermissionsChange() {
+            User user = new User();
+            user.setPermissions(Set.of(TestPermissions.USER_CREATE));
+            assertEquals(1, user.getAuthorities().size(), "Authorities size must be 1");
+
+            user.setPermissions(Set.of(TestPermissions.USER_CREATE, TestPermissions.USER_DELETE));
+            assertEquals(2, user.getAuthorities().size(), "Authorities size must be 2");
+
+            user.removeAllPermissions(Set.of(TestPermissions.USER_CREATE));
+            assertEquals(Set.of(TestPermissions.USER_DELETE.getName()), user.getAuthorityNames(),
+                "Authority names must match");
+        }
+
+        @Test
+        void positiveRecomputedAfterRolePermissionsChange() {
+            User user = new User();
+            user.setRoles(Set.of(TestRoles.ADMIN));
+            assertEquals(0, user.getAuthorities().size(), "Authorities size must be 0");
+
+            TestRoles.USER.addPermission(TestPermissions.JOB_RUN);
+            assertEquals(Set.of(TestPermissions.JOB_RUN.getName()), user.getAuthorityNames(),
+                "Inherited role change must be reflected");
+        }
+
+        @Test
+        void positiveNotRecomputedAfterUnrelatedRoleChange() {
+            Role other = new Role("OTHER");
+            User user = new User();
+            user.setRoles(Set.of(TestRoles.ADMIN));
+            Collection<? extends GrantedAuthority> authorities = user.getAuthorities();
+
+            other.addPermission(TestPermissions.JOB_RUN);
+            assertSame(authorities, user.getAuthorities(), "Authorities must be reused after an unrelated change");
+        }
+
+        @Test
+        void positiveRecomputedAfterRoleMarkedChanged() {
+            Role user = new Role("USER").setPermissions(Set.of(TestPermissions.JOB_RUN));
+            User entity = new User();
+            entity.setRoles(Set.of(user));
+            Collection<? extends GrantedAuthority> authorities = entity.getAuthorities();
+
+            user.markChanged();
+            assertNotSame(authorities, entity.getAuthorities(), "Authorities must be recomputed");
+        }
+
+        @Test
+        void positiveCachedWhileUnchanged() {
+            User user = new User();
+            user.setPermissions(Set.of(TestPermissions.USER_CREATE));
+            assertSame(user.getAuthorities(), user.getAuthorities(), "Authorities must be reused");
+        }
+    }
+
+    @Nested
+    @DisplayName("public Set<String> getAuthorityNames()")
+    class GetAuthorityNamesTest {
+        @Test
+        void positiveRoleInherited() {
+            TestRoles.USER.addPermission(TestPermissions.JOB_RUN);
+            User user = new User();
+            user.setPermissions(Set.of(TestPermissions.USER_CREATE));
+            user.setRoles(Set.of(TestRoles.ADMIN));
+
+            Set<String> authorityNames = user.getAuthorityNames();
+            assertEquals(Set.of(TestPermissions.USER_CREATE.getName(), TestPermissions.JOB_RUN.getName()),
+                authorityNames, "Authority names must match");
+            TestUtil.isUnmodifiable(authorityNames);
+        }
+    }
+
+    @Nested
+    @DisplayName("public void setResolvedAuthorityNames(Collection<String> authorityNames)")
+    class SetResolvedAuthorityNamesTest {
+        @Test
+        void positiveUsedUntilChanged() {
+            TestRoles.USER.addPermission(TestPermissions.JOB_RUN);
+            User user = new User();
+            user.setRoles(Set.of(TestRoles.ADMIN));
+            user.setResolvedAuthorityNames(Set.of(TestPermissions.USER_CREATE.getName()));
+
+            assertEquals(Set.of(TestPermissions.USER_CREATE.getName()), user.getAuthorityNames(),
+                "Resolved authority names must be used");
+            assertEquals(Set.of(TestPermissions.USER_CREATE.toGrantedAuthority()), Set.copyOf(user.getAuthorities()),
+                "Authorities must match the resolved names");
+
+            user.addAllPermissions(Set.of(TestPermissions.USER_DELETE));
+            assertEquals(Set.of(TestPermissions.USER_DELETE.getName(), TestPermissions.JOB_RUN.getName()),
+                user.getAuthorityNames(), "Authorities must be recomputed after a change");
+        }
+    }
+
+    @Nested
+    @DisplayName("public void setRoleGraph(Function<String, Role> roleGraph)")
+    class SetRoleGraphTest {
+        @Test
+        void positiveInheritedRolesResolvedThroughGraph() {
+            //Stands in for lazily loaded entities whose inherited role has not been initialised
+            Role lazyUser = new Role("USER");
+            Role lazyAdmin = new Role("ADMIN").setInheritedRoles(Set.of(lazyUser));
+            Role loadedUser = new Role("USER").setPermissions(Set.of(TestPermissions.JOB_RUN));
+            User user = new User();
+            user.setRoles(Set.of(lazyAdmin));
+            assertEquals(Set.of(), user.getAuthorityNames(), "Lazy roles must have no authorities");
+
+            user.setRoleGraph(Map.of("USER", loadedUser)::get);
+            assertEquals(Set.of(TestPermissions.JOB_RUN.getName()), user.getAuthorityNames(),
+                "Inherited role must be resolved through the graph");
+        }
+
+        @Test
+        void positiveUnknownRolesWalkedAsTheyAre() {
+            TestRoles.USER.addPermission(TestPermissions.JOB_RUN);
+            User user = new User();
+            user.setRoles(Set.of(TestRoles.ADMIN));
+            user.setRoleGraph(roleName -> null);
+            assertEquals(Set.of(TestPermissions.JOB_RUN.getName()), user.getAuthorityNames(),
+                "Unknown roles must be walked as they are");
+        }
     }
 
     @Nested
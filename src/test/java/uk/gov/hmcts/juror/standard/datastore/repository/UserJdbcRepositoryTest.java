@@ -0,0 +1,145 @@
+package uk.gov.hmcts.juror.standard.datastore.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
+import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+import uk.gov.hmcts.juror.standard.testsupport.TestPermissions;
+import uk.gov.hmcts.juror.standard.testsupport.TestRoles;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("UserJdbcRepository")
+@SuppressWarnings({
+    "unchecked",
+    "PMD.LawOfDemeter"
+})
+class UserJdbcRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private UserJdbcRepository userJdbcRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        userJdbcRepository = new UserJdbcRepository(jdbcTemplate);
+    }
+
+    private User createUser(String email, Set<Role> roles) {
+        User user = User.builder()
+            .email(email)
+            .password("encoded")
+            .firstname("FirstName")
+            .lastname("LastName")
+            .build();
+        user.addAllRoles(roles);
+        return user;
+    }
+
+    @Nested
+    @DisplayName("public void insertAll(List<User> users)")
+    class InsertAll {
+
+        @Test
+        void positiveIdsAllocatedAndRowsBatched() throws Exception {
+            User first = createUser("first@cgi.com", Set.of(TestRoles.USER));
+            first.addAllPermissions(Set.of(TestPermissions.USER_CREATE));
+            User second = createUser("second@cgi.com", Set.of());
+            when(jdbcTemplate.queryForList(UserJdbcRepository.ALLOCATE_IDS, Long.class, 1))
+                .thenReturn(List.of(60L));
+
+            userJdbcRepository.insertAll(List.of(first, second));
+
+            assertEquals(11L, first.getId(), "Id must be taken from the reserved block");
+            assertEquals(12L, second.getId(), "Id must be taken from the reserved block");
+
+            ArgumentCaptor<Collection<User>> users = ArgumentCaptor.forClass(Collection.class);
+            ArgumentCaptor<ParameterizedPreparedStatementSetter<User>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+            verify(jdbcTemplate, times(1)).batchUpdate(eq(UserJdbcRepository.INSERT_USER), users.capture(),
+                eq(UserJdbcRepository.BATCH_SIZE), setter.capture());
+            assertEquals(List.of(first, second), users.getValue(), "Users must be inserted in one batch");
+
+            PreparedStatement preparedStatement = mock(PreparedStatement.class);
+            setter.getValue().setValues(preparedStatement, first);
+            verify(preparedStatement).setLong(1, 11L);
+            verify(preparedStatement).setString(2, "first@cgi.com");
+            verify(preparedStatement).setString(3, "encoded");
+            verify(preparedStatement).setBoolean(9, true);
+
+            verify(jdbcTemplate, times(1)).batchUpdate(eq(UserJdbcRepository.INSERT_USER_ROLE), any(Collection.class),
+                eq(UserJdbcRepository.BATCH_SIZE), any(ParameterizedPreparedStatementSetter.class));
+            verify(jdbcTemplate, times(1)).batchUpdate(eq(UserJdbcRepository.INSERT_USER_PERMISSION),
+                any(Collection.class), eq(UserJdbcRepository.BATCH_SIZE),
+                any(ParameterizedPreparedStatementSetter.class));
+        }
+
+        @Test
+        void positiveNoLinksSkipsLinkBatches() {
+            when(jdbcTemplate.queryForList(UserJdbcRepository.ALLOCATE_IDS, Long.class, 1))
+                .thenReturn(List.of(60L));
+
+            userJdbcRepository.insertAll(List.of(createUser("first@cgi.com", Set.of())));
+
+            verify(jdbcTemplate, never()).batchUpdate(eq(UserJdbcRepository.INSERT_USER_ROLE), any(Collection.class),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class));
+            verify(jdbcTemplate, never()).batchUpdate(eq(UserJdbcRepository.INSERT_USER_PERMISSION),
+                any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        }
+
+        @Test
+        void positiveEmpty() {
+            userJdbcRepository.insertAll(List.of());
+            verifyNoInteractions(jdbcTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("List<Long> allocateIds(int count)")
+    class AllocateIds {
+
+        @Test
+        void positiveReservesWholeBlocks() {
+            when(jdbcTemplate.queryForList(UserJdbcRepository.ALLOCATE_IDS, Long.class, 2))
+                .thenReturn(List.of(60L, 160L));
+
+            List<Long> ids = userJdbcRepository.allocateIds(User.ID_ALLOCATION_SIZE + 2);
+
+            assertEquals(User.ID_ALLOCATION_SIZE + 2, ids.size(), "Id count must match");
+            assertEquals(11L, ids.get(0), "First id must start the first block");
+            assertEquals(60L, ids.get(User.ID_ALLOCATION_SIZE - 1), "First block must end at the sequence value");
+            assertEquals(111L, ids.get(User.ID_ALLOCATION_SIZE), "Second block must start after its predecessor");
+            assertEquals(112L, ids.get(User.ID_ALLOCATION_SIZE + 1), "Unused ids must be skipped");
+        }
+
+        @Test
+        void positiveExactBlock() {
+            when(jdbcTemplate.queryForList(UserJdbcRepository.ALLOCATE_IDS, Long.class, 1))
+                .thenReturn(List.of(60L));
+
+            List<Long> ids = userJdbcRepository.allocateIds(User.ID_ALLOCATION_SIZE);
+
+            assertEquals(User.ID_ALLOCATION_SIZE, ids.size(), "Id count must match");
+            assertEquals(60L, ids.get(ids.size() - 1), "Last id must be the sequence value");
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package uk.gov.hmcts.juror.standard.mapping;
 
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.standard.api.model.auth.UserResponse;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
+import uk.gov.hmcts.juror.standard.datastore.repository.UserResponseRow;
+
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @SuppressWarnings({
     "PMD.AvoidDuplicateLiterals"
@@ -42,4 +49,44 @@ class UserMapperTest {
             "Permission name must be returned");
     }
 
+    private static UserResponseRow createRow(UserResponseRow.Type type, String name) {
+        UserResponseRow row = mock(UserResponseRow.class);
+        when(row.getEmail()).thenReturn("user@example.com");
+        when(row.getFirstname()).thenReturn("First");
+        when(row.getLastname()).thenReturn("Last");
+        when(row.getType()).thenReturn(type);
+        when(row.getName()).thenReturn(name);
+        return row;
+    }
+
+    @Test
+    void toUserResponseFromRows() {
+        UserResponse userResponse = userMapper.toUserResponse(List.of(
+            createRow(UserResponseRow.Type.ROLE, "ADMIN"),
+            createRow(UserResponseRow.Type.PERMISSION, "user::create"),
+            createRow(UserResponseRow.Type.COMBINED_PERMISSION, "user::create"),
+            createRow(UserResponseRow.Type.COMBINED_PERMISSION, "user::delete")));
+
+        assertEquals("user@example.com", userResponse.getEmail(), "Email must match");
+        assertEquals("First", userResponse.getFirstname(), "Firstname must match");
+        assertEquals("Last", userResponse.getLastname(), "Lastname must match");
+        assertEquals(Set.of("ADMIN"), userResponse.getRoles(), "Roles must match");
+        assertEquals(Set.of("user::create"), userResponse.getPermissions(), "Permissions must match");
+        assertEquals(Set.of("user::create", "user::delete"), userResponse.getCombinedPermissions(),
+            "Combined permissions must match");
+    }
+
+    @Test
+    void toUserResponseFromRowsWithoutAuthorities() {
+        UserResponse userResponse = userMapper.toUserResponse(List.of(createRow(null, null)));
+
+        assertEquals("user@example.com", userResponse.getEmail(), "Email must match");
+        assertEquals(Set.of(), userResponse.getRoles(), "Roles must be empty");
+        assertEquals(Set.of(), userResponse.getCombinedPermissions(), "Combined permissions must be empty");
+    }
+
+    @Test
+    void toUserResponseFromNoRows() {
+        assertNull(userMapper.toUserResponse(List.<UserResponseRow>of()), "Response must be null without rows");
+    }
 }
@@ -0,0 +1,118 @@
+package uk.gov.hmcts.juror.standard.service.impl.auth;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("JwtMetrics")
+@SuppressWarnings({
+    "PMD.AvoidDuplicateLiterals"
+})
+class JwtMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtMetrics jwtMetrics;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtMetrics = new JwtMetrics(meterRegistry, Set.of("subject1", "subject2"));
+    }
+
+    @Nested
+    @DisplayName("public void verified(Timer.Sample sample)")
+    class Verified {
+        @Test
+        void positiveRecorded() {
+            jwtMetrics.verified(jwtMetrics.start());
+            assertEquals(1, meterRegistry.get(JwtMetrics.VERIFY_TIMER).tag("outcome", "success").timer().count(),
+                "Success count must match");
+            assertEquals(0, meterRegistry.get(JwtMetrics.VERIFY_TIMER).tag("outcome", "failure").timer().count(),
+                "Failure count must match");
+        }
+    }
+
+    @Nested
+    @DisplayName("public void verificationFailed(Timer.Sample sample, Exception exception)")
+    class VerificationFailed {
+        @Test
+        void positiveRecordedByCause() {
+            jwtMetrics.verificationFailed(jwtMetrics.start(), new MalformedJwtException("Malformed"));
+            jwtMetrics.verificationFailed(jwtMetrics.start(), new MalformedJwtException("Malformed"));
+            jwtMetrics.verificationFailed(jwtMetrics.start(), new SignatureException("Signature"));
+
+            assertEquals(3, meterRegistry.get(JwtMetrics.VERIFY_TIMER).tag("outcome", "failure").timer().count(),
+                "Failure count must match");
+            assertEquals(2, meterRegistry.get(JwtMetrics.PARSE_FAILURE_COUNTER).tag("cause", "malformed")
+                .counter().count(), "Malformed count must match");
+            assertEquals(1, meterRegistry.get(JwtMetrics.PARSE_FAILURE_COUNTER).tag("cause", "bad_signature")
+                .counter().count(), "Bad signature count must match");
+        }
+
+        @Test
+        void positiveCauses() {
+            assertEquals("expired", JwtMetrics.getCause(mock(ExpiredJwtException.class)), "Cause must match");
+            assertEquals("bad_signature", JwtMetrics.getCause(new SignatureException("Signature")),
+                "Cause must match");
+            assertEquals("malformed", JwtMetrics.getCause(new MalformedJwtException("Malformed")),
+                "Cause must match");
+            assertEquals("unsupported", JwtMetrics.getCause(new UnsupportedJwtException("Unsupported")),
+                "Cause must match");
+            assertEquals("other", JwtMetrics.getCause(new IllegalArgumentException("Other")), "Cause must match");
+        }
+    }
+
+    @Nested
+    @DisplayName("public void generated(Timer.Sample sample, String subject)")
+    class Generated {
+        @Test
+        void positiveRecordedBySubject() {
+            jwtMetrics.generated(jwtMetrics.start(), "subject1");
+            jwtMetrics.generated(jwtMetrics.start(), "subject1");
+
+            assertEquals(2, meterRegistry.get(JwtMetrics.GENERATE_TIMER).timer().count(), "Count must match");
+            assertEquals(2, meterRegistry.get(JwtMetrics.ISSUED_COUNTER).tag("subject", "subject1")
+                .counter().count(), "Issued count must match");
+        }
+
+        @Test
+        void positiveOnlyAllowedSubjectsTagged() {
+            jwtMetrics.generated(jwtMetrics.start(), "subject1");
+            jwtMetrics.generated(jwtMetrics.start(), "subject2");
+            jwtMetrics.generated(jwtMetrics.start(), "subject3");
+            jwtMetrics.generated(jwtMetrics.start(), null);
+            jwtMetrics.generated(jwtMetrics.start(), "subject1");
+
+            assertEquals(2, meterRegistry.get(JwtMetrics.ISSUED_COUNTER).tag("subject", "subject1")
+                .counter().count(), "Issued count must match");
+            assertEquals(1, meterRegistry.get(JwtMetrics.ISSUED_COUNTER).tag("subject", "subject2")
+                .counter().count(), "Issued count must match");
+            assertEquals(2, meterRegistry.get(JwtMetrics.ISSUED_COUNTER).tag("subject", JwtMetrics.OTHER_SUBJECT)
+                .counter().count(), "Subjects not allowed must be counted as other");
+        }
+
+        @Test
+        void positiveEmailSubjectNeverTagged() {
+            jwtMetrics.generated(jwtMetrics.start(), "someone@example.com");
+
+            assertTrue(meterRegistry.get(JwtMetrics.ISSUED_COUNTER).counters().stream()
+                    .map(counter -> counter.getId().getTag("subject"))
+                    .noneMatch("someone@example.com"::equals),
+                "Email must never be used as a tag value");
+            assertEquals(1, meterRegistry.get(JwtMetrics.ISSUED_COUNTER).tag("subject", JwtMetrics.OTHER_SUBJECT)
+                .counter().count(), "Email subject must be counted as other");
+        }
+    }
+}
@@ -7,6 +7,7 @@ import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,18 +21,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.juror.standard.cache.CachedUserDetails;
+import uk.gov.hmcts.juror.standard.service.contracts.auth.ParsedJwt;
 import uk.gov.hmcts.juror.standard.service.exceptions.UnauthorisedException;
 import uk.gov.hmcts.juror.standard.testsupport.TestConstants;
 
 import java.security.Key;
 import java.time.Clock;
+import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.crypto.SecretKey;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -47,6 +53,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -71,6 +78,9 @@ class JwtServiceImplTest {
     @MockitoBean
     private Clock clock;
 
+    @MockitoBean
+    private JwtMetrics jwtMetrics;
+
     private Date currentDate;
 
     private MockedStatic<Jwts> jwtsMockedStatic;
@@ -85,21 +95,64 @@ class JwtServiceImplTest {
     @AfterEach
     void afterEach() {
         jwtsMockedStatic.close();
+        jwtService.rotateSecret(TestConstants.JWT_SECRET);
     }
 
-    private Claims setupValidJwtMock() {
+    private JwtParser setupJwtParserMock() {
         JwtParserBuilder jwtParserBuilder = mock(JwtParserBuilder.class);
         JwtParser jwtParser = mock(JwtParser.class);
-        Jws<Claims> jwtClaims = mock(Jws.class);
-        Claims claims = mock(Claims.class);
         jwtsMockedStatic.when(Jwts::parser).thenReturn(jwtParserBuilder);
         when(jwtParserBuilder.verifyWith(any(SecretKey.class))).thenReturn(jwtParserBuilder);
         when(jwtParserBuilder.build()).thenReturn(jwtParser);
+        //The parser is cached so must be rebuilt while Jwts is mocked
+        jwtService.rotateSecret(TestConstants.JWT_SECRET);
+        return jwtParser;
+    }
+
+    private Claims setupValidJwtMock() {
+        JwtParser jwtParser = setupJwtParserMock();
+        Jws<Claims> jwtClaims = mock(Jws.class);
+        Claims claims = mock(Claims.class);
         when(jwtParser.parseSignedClaims(TestConstants.JWT_SECRET)).thenReturn(jwtClaims);
         when(jwtClaims.getPayload()).thenReturn(claims);
         return claims;
     }
 
+    private void setupInvalidJwtMock(Exception exception) {
+        JwtParser jwtParser = setupJwtParserMock();
+        when(jwtParser.parseSignedClaims(TestConstants.JWT_SECRET)).thenThrow(exception);
+    }
+
+    @DisplayName("public void rotateSecret(String secret)")
+    @Nested
+    class RotateSecret {
+
+        @Test
+        void positiveParserBuiltOnce() {
+            Claims claims = setupValidJwtMock();
+            when(claims.getSubject()).thenReturn(TestConstants.EMAIL);
+            jwtService.extractEmail(TestConstants.JWT_SECRET);
+            jwtService.extractEmail(TestConstants.JWT_SECRET);
+            jwtsMockedStatic.verify(Jwts::parser, times(1));
+        }
+
+        @Test
+        void positiveNewSecretUsedForSigning() {
+            JwtBuilder jwtBuilder = setupJwtTokenGenerator();
+            UserDetails userDetails = mock(UserDetails.class);
+            when(userDetails.getUsername()).thenReturn(TestConstants.EMAIL);
+            String rotatedSecret = "cm90YXRlZC10ZXN0LWtleS1mb3ItdXMtd2hlbi1jcmVhdGluZy1zZWNyZXRzMTI=";
+
+            jwtService.rotateSecret(rotatedSecret);
+            jwtService.generateJwtToken(Map.of(), userDetails);
+
+            ArgumentCaptor<Key> keyArgumentCaptor = ArgumentCaptor.forClass(Key.class);
+            verify(jwtBuilder, times(1)).signWith(keyArgumentCaptor.capture());
+            assertEquals("rotated-test-key-for-us-when-creating-secrets12",
+                new String(keyArgumentCaptor.getValue().getEncoded()), "Secret must match");
+        }
+    }
+
     private JwtBuilder setupJwtTokenGenerator() {
         JwtBuilder jwtBuilder = mock(JwtBuilder.class);
         jwtsMockedStatic.when(Jwts::builder).thenReturn(jwtBuilder);
@@ -143,7 +196,7 @@ class JwtServiceImplTest {
         @Test
         void negativeInvalidJwt() {
             MalformedJwtException exception = new MalformedJwtException("Example exception");
-            jwtsMockedStatic.when(Jwts::parser).thenThrow(exception);
+            setupInvalidJwtMock(exception);
 
             UnauthorisedException unauthorisedException =
                 assertThrows(UnauthorisedException.class, () -> jwtService.extractEmail(TestConstants.JWT_SECRET));
@@ -178,7 +231,7 @@ class JwtServiceImplTest {
         @Test
         void negativeInvalidJwt() {
             MalformedJwtException exception = new MalformedJwtException("Example exception");
-            jwtsMockedStatic.when(Jwts::parser).thenThrow(exception);
+            setupInvalidJwtMock(exception);
 
             UnauthorisedException unauthorisedException =
                 assertThrows(UnauthorisedException.class, () -> jwtService.extractUsername(TestConstants.JWT_SECRET));
@@ -214,7 +267,7 @@ class JwtServiceImplTest {
         @Test
         void negativeInvalidJwt() {
             MalformedJwtException exception = new MalformedJwtException("Example exception");
-            jwtsMockedStatic.when(Jwts::parser).thenThrow(exception);
+            setupInvalidJwtMock(exception);
 
             UnauthorisedException unauthorisedException =
                 assertThrows(UnauthorisedException.class, () -> jwtService.extractExpiration(TestConstants.JWT_SECRET));
@@ -223,6 +276,116 @@ class JwtServiceImplTest {
         }
     }
 
+    @DisplayName("public ParsedJwt parseJwt(String jwt)")
+    @Nested
+    class ParseJwt {
+
+        @Test
+        void positiveAllClaimsExtracted() {
+            Timer.Sample sample = mock(Timer.Sample.class);
+            when(jwtMetrics.start()).thenReturn(sample);
+            Claims claims = setupValidJwtMock();
+            Date expiration = new Date(currentDate.getTime() + TestConstants.TOKEN_VALIDITY);
+            when(claims.getSubject()).thenReturn(TestConstants.EMAIL);
+            when(claims.getExpiration()).thenReturn(expiration);
+            when(claims.getOrDefault("permissions", Set.of())).thenReturn(Set.of("Permission 1", "Permission 2"));
+            when(claims.getOrDefault("roles", Set.of())).thenReturn(Set.of("Role 1"));
+
+            ParsedJwt parsedJwt = jwtService.parseJwt(TestConstants.JWT_SECRET);
+
+            assertEquals(TestConstants.EMAIL, parsedJwt.subject(), "Subject must match");
+            assertEquals(expiration.toInstant(), parsedJwt.expiration(), "Expiration must match");
+            assertEquals(Set.of("Permission 1", "Permission 2"), parsedJwt.permissions(), "Permissions must match");
+            assertEquals(Set.of("Role 1"), parsedJwt.roles(), "Roles must match");
+            verify(jwtMetrics, times(1)).verified(sample);
+        }
+
+        @Test
+        void positiveMissingClaims() {
+            setupValidJwtMock();
+
+            ParsedJwt parsedJwt = jwtService.parseJwt(TestConstants.JWT_SECRET);
+
+            assertNull(parsedJwt.subject(), "Subject must be null");
+            assertNull(parsedJwt.expiration(), "Expiration must be null");
+            assertEquals(0, parsedJwt.permissions().size(), "Permissions must be empty");
+            assertEquals(0, parsedJwt.roles().size(), "Roles must be empty");
+        }
+
+        @Test
+        void negativeInvalidJwt() {
+            Timer.Sample sample = mock(Timer.Sample.class);
+            when(jwtMetrics.start()).thenReturn(sample);
+            MalformedJwtException exception = new MalformedJwtException("Example exception");
+            setupInvalidJwtMock(exception);
+
+            UnauthorisedException unauthorisedException =
+                assertThrows(UnauthorisedException.class, () -> jwtService.parseJwt(TestConstants.JWT_SECRET));
+            assertEquals("Failed to parse JWT", unauthorisedException.getMessage(), "Message must match");
+            assertEquals(exception, unauthorisedException.getCause(), "Cause must match");
+            verify(jwtMetrics, times(1)).verificationFailed(sample, exception);
+            verify(jwtMetrics, never()).verified(any());
+        }
+    }
+
+    @DisplayName("public boolean isJwtValid(ParsedJwt jwt, UserDetails userDetails)")
+    @Nested
+    class IsParsedJwtValid {
+        private ParsedJwt createJwt(String subject, long expiresInMillis) {
+            return new ParsedJwt(subject, Instant.ofEpochMilli(currentDate.getTime() + expiresInMillis),
+                Set.of(), Set.of());
+        }
+
+        @Test
+        void positiveIsValid() {
+            UserDetails userDetails = mock(UserDetails.class);
+            when(userDetails.getUsername()).thenReturn(TestConstants.EMAIL);
+            assertTrue(jwtService.isJwtValid(createJwt(TestConstants.EMAIL, 1), userDetails), "Jwt must be valid");
+            jwtsMockedStatic.verifyNoInteractions();
+        }
+
+        @Test
+        void negativeIsInvalidEmailNotMatch() {
+            UserDetails userDetails = mock(UserDetails.class);
+            when(userDetails.getUsername()).thenReturn("new_" + TestConstants.EMAIL);
+            assertFalse(jwtService.isJwtValid(createJwt(TestConstants.EMAIL, 1), userDetails),
+                "Jwt must not be valid");
+        }
+
+        @Test
+        void negativeIsInvalidNoSubject() {
+            UserDetails userDetails = mock(UserDetails.class);
+            when(userDetails.getUsername()).thenReturn(TestConstants.EMAIL);
+            assertFalse(jwtService.isJwtValid(createJwt(null, 1), userDetails), "Jwt must not be valid");
+        }
+
+        @Test
+        void negativeIsInvalidExpired() {
+            UserDetails userDetails = mock(UserDetails.class);
+            when(userDetails.getUsername()).thenReturn(TestConstants.EMAIL);
+            assertFalse(jwtService.isJwtValid(createJwt(TestConstants.EMAIL, -1), userDetails),
+                "Jwt must not be valid");
+        }
+    }
+
+    @DisplayName("public UserDetails extractUserDetails(ParsedJwt jwt)")
+    @Nested
+    class ExtractUserDetailsParsedJwt {
+        @Test
+        void positiveUserDetailsExtracted() {
+            ParsedJwt parsedJwt = new ParsedJwt(TestConstants.EMAIL, Instant.now(),
+                Set.of("Permission 1", "Permission 2"), Set.of("Role 1"));
+
+            UserDetails userDetails = jwtService.extractUserDetails(parsedJwt);
+
+            assertEquals(TestConstants.EMAIL, userDetails.getUsername(), "Username must match");
+            assertEquals(Set.of("Permission 1", "Permission 2"),
+                userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toSet()),
+                "Authorities must match");
+            jwtsMockedStatic.verifyNoInteractions();
+        }
+    }
+
     @DisplayName("public boolean isJwtValid(String jwt, UserDetails userDetails)")
     @Nested
     class IsJwtValid {
@@ -316,6 +479,22 @@ class JwtServiceImplTest {
             assertThat("Permissions must match", permissions, hasItems("Role 1", "Role 2", "Role 3"));
         }
 
+        @Test
+        void positiveCachedUserDetailsHasNoRolesClaim() {
+            UserDetails userDetails = CachedUserDetails.of(User.withUsername(TestConstants.EMAIL)
+                .password("password").authorities("user::create").build());
+
+            JwtBuilder jwtBuilder = setupJwtTokenGenerator();
+            assertEquals(TestConstants.JWT_SECRET, jwtService.generateJwtToken(userDetails), "Jwt must match");
+
+            ArgumentCaptor<Map<String, Object>> claimsArgumentCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(jwtBuilder, times(1)).claims(claimsArgumentCaptor.capture());
+            verify(jwtBuilder, times(1)).subject(TestConstants.EMAIL);
+            Map<String, Object> claims = claimsArgumentCaptor.getValue();
+            assertEquals(Set.of("user::create"), claims.get("permissions"), "Permissions must match");
+            assertNull(claims.get("roles"), "Roles are only known for User entities");
+        }
+
         @Test
         void negativeExceptionRaised() {
             UserDetails userDetails = mock(UserDetails.class);
@@ -404,6 +583,8 @@ class JwtServiceImplTest {
             long tokenValidity = 500L;
             Key secretKey = mock(Key.class);
             Map<String, Object> claims = getClaims();
+            Timer.Sample sample = mock(Timer.Sample.class);
+            when(jwtMetrics.start()).thenReturn(sample);
 
             JwtBuilder jwtBuilder = setupJwtTokenGenerator();
 
@@ -419,6 +600,7 @@ class JwtServiceImplTest {
             verify(jwtBuilder, times(1)).expiration(new Date(currentDate.getTime() + tokenValidity));
             verify(jwtBuilder, times(1)).signWith(secretKey);
             verify(jwtBuilder, times(1)).compact();
+            verify(jwtMetrics, times(1)).generated(sample, subject);
         }
 
         @Test
@@ -11,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.juror.standard.cache.AuthorityGraphCache;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
 import uk.gov.hmcts.juror.standard.datastore.repository.PermissionRepository;
@@ -29,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -54,6 +56,9 @@ public class PermissionServiceImplTest {
     @MockitoBean
     private RoleService roleService;
 
+    @MockitoBean
+    private AuthorityGraphCache authorityGraphCache;
+
     @AfterEach
     void afterEach() {
         TestRoles.reset();
@@ -78,23 +83,28 @@ public class PermissionServiceImplTest {
         @Test
         void negativePermissionNotFound() {
             Set<String> permissionNames = new HashSet<>(Set.of(TestPermissions.USER_CREATE.getName(), "INVALID"));
-            when(permissionRepository.getPermissionByNameIn(permissionNames)).thenReturn(
-                Set.of(TestPermissions.USER_CREATE));
+            when(authorityGraphCache.findMissingPermissions(permissionNames)).thenReturn(Set.of("INVALID"));
 
             InvalidPermissionValueException exception = assertThrows(InvalidPermissionValueException.class,
                 () -> permissionService.getPermissions(permissionNames));
 
             assertEquals("One or more permissions could not be located: [INVALID]", exception.getMessage(),
                 "Message must match");
+            verifyNoInteractions(permissionRepository);
         }
 
         @Test
         void positivePermissionsFound() {
             Set<String> permissionNames = new HashSet<>(Set.of(TestPermissions.USER_CREATE.getName(),
                 TestPermissions.USER_DELETE.getName()));
-            Set<Permission> permissions = Set.of(TestPermissions.USER_CREATE, TestPermissions.USER_DELETE);
-            when(permissionRepository.getPermissionByNameIn(permissionNames)).thenReturn(permissions);
-            assertEquals(permissions, permissionService.getPermissions(permissionNames), "Permissions must match");
+            when(authorityGraphCache.findMissingPermissions(permissionNames)).thenReturn(Set.of());
+            when(permissionRepository.getReferenceById(TestPermissions.USER_CREATE.getName()))
+                .thenReturn(TestPermissions.USER_CREATE);
+            when(permissionRepository.getReferenceById(TestPermissions.USER_DELETE.getName()))
+                .thenReturn(TestPermissions.USER_DELETE);
+            assertEquals(Set.of(TestPermissions.USER_CREATE, TestPermissions.USER_DELETE),
+                permissionService.getPermissions(permissionNames),
+                "Permissions must be references from the repository");
         }
 
     }
@@ -117,6 +127,7 @@ public class PermissionServiceImplTest {
             Permission permission = permissionService.getOrCreatePermission(PERMISSION_NAME);
             assertEquals(PERMISSION_NAME, permission.getName(), "Permission name must match");
             verify(roleService, times(1)).assignPermission(permission, Collections.emptySet());
+            verify(authorityGraphCache, times(1)).permissionChanged(permission);
         }
 
         @Test
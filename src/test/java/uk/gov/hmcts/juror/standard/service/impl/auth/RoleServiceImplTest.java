@@ -10,6 +10,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.juror.standard.cache.AuthorityGraphCache;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
 import uk.gov.hmcts.juror.standard.datastore.repository.RoleRepository;
@@ -17,8 +18,10 @@ import uk.gov.hmcts.juror.standard.service.exceptions.InvalidRoleValueException;
 import uk.gov.hmcts.juror.standard.testsupport.TestPermissions;
 import uk.gov.hmcts.juror.standard.testsupport.TestRoles;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -28,9 +31,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -38,7 +43,8 @@ import static org.mockito.Mockito.when;
 @ContextConfiguration(classes = {RoleServiceImpl.class})
 @SpringBootTest(properties = {"uk.gov.hmcts.juror.security.use-database=true"})
 @SuppressWarnings({
-    "PMD.AvoidDuplicateLiterals"
+    "PMD.AvoidDuplicateLiterals",
+    "unchecked"
 })
 class RoleServiceImplTest {
 
@@ -48,6 +54,9 @@ class RoleServiceImplTest {
     @MockitoBean
     private RoleRepository roleRepository;
 
+    @MockitoBean
+    private AuthorityGraphCache authorityGraphCache;
+
 
     @DisplayName("public Set<Role> getRoles(Set<String> roleNames")
     @Nested
@@ -68,21 +77,24 @@ class RoleServiceImplTest {
         @Test
         void negativeRoleNotFound() {
             Set<String> roleNames = new HashSet<>(Set.of("ADMIN", "INVALID"));
-            when(roleRepository.getRolesByNameIsIn(roleNames)).thenReturn(Set.of(TestRoles.ADMIN));
+            when(authorityGraphCache.findMissingRoles(roleNames)).thenReturn(Set.of("INVALID"));
 
             InvalidRoleValueException exception =
                 assertThrows(InvalidRoleValueException.class, () -> roleService.getRoles(roleNames),
                     "Must throw exception");
             assertEquals("One or more roles could not be located: [INVALID]", exception.getMessage(),
                 "Message must match");
+            assertEquals(Set.of("ADMIN", "INVALID"), roleNames, "Role names must not be changed");
+            verifyNoInteractions(roleRepository);
         }
 
         @Test
         void positiveRolesFound() {
             Set<String> roleNames = new HashSet<>(Set.of("ADMIN"));
-            Set<Role> roles = Set.of(TestRoles.ADMIN);
-            when(roleRepository.getRolesByNameIsIn(roleNames)).thenReturn(roles);
-            assertEquals(roles, roleService.getRoles(roleNames), "Roles must match");
+            when(authorityGraphCache.findMissingRoles(roleNames)).thenReturn(Set.of());
+            when(roleRepository.getReferenceById("ADMIN")).thenReturn(TestRoles.ADMIN);
+            assertEquals(Set.of(TestRoles.ADMIN), roleService.getRoles(roleNames),
+                "Roles must be references from the repository");
         }
     }
 
@@ -104,6 +116,7 @@ class RoleServiceImplTest {
             assertEquals(ROLE_NAME, role.getName(), "Role name must match");
             assertNotNull(role.getInheritedRoles(), "Inherited roles must not bee null");
             assertEquals(0, role.getInheritedRoles().size(), "Inherited roles size must be 0");
+            verify(authorityGraphCache, times(1)).rolesChanged(Set.of(role));
         }
 
         @Test
@@ -195,6 +208,7 @@ class RoleServiceImplTest {
             roleService.assignPermission(permission, null);
             verify(roleRepository, never()).saveAll(any());
             verifyNoMoreInteractions(roleRepository);
+            verifyNoInteractions(authorityGraphCache);
         }
 
         @Test
@@ -202,19 +216,29 @@ class RoleServiceImplTest {
             roleService.assignPermission(permission, Collections.emptySet());
             verify(roleRepository, never()).saveAll(any());
             verifyNoMoreInteractions(roleRepository);
+            verifyNoInteractions(authorityGraphCache);
         }
 
         @Test
         void positiveUpdated() {
-            Set<Role> roles = Set.of(TestRoles.ADMIN, TestRoles.USER);
-            roleService.assignPermission(permission, roles);
-            verify(roleRepository, times(1)).saveAll(roles);
+            Role admin = new Role("ADMIN");
+            Role user = new Role("USER");
+            List<Role> managedRoles = List.of(admin, user);
+            when(roleRepository.findAllById(any())).thenReturn(managedRoles);
+            when(roleRepository.saveAll(managedRoles)).thenReturn(managedRoles);
+
+            roleService.assignPermission(permission, Set.of(TestRoles.ADMIN, TestRoles.USER));
+            verify(roleRepository, times(1)).findAllById(argThat(names ->
+                Set.of("ADMIN", "USER").equals(Set.copyOf((Collection<String>) names))));
+            verify(roleRepository, times(1)).saveAll(managedRoles);
+            verify(authorityGraphCache, times(1)).rolesChanged(managedRoles);
             verifyNoMoreInteractions(roleRepository);
 
-            for (Role role : roles) {
+            for (Role role : managedRoles) {
                 assertEquals(1, role.getPermissions().size(), "Permission size must match");
                 assertThat("Permission must match", role.getPermissions(), hasItem(permission));
             }
+            assertEquals(0, TestRoles.ADMIN.getPermissions().size(), "Given roles must not be changed");
         }
     }
 }
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -19,13 +20,19 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.juror.standard.api.model.auth.AssignPermissionsRequest;
 import uk.gov.hmcts.juror.standard.api.model.auth.RegisterRequest;
+import uk.gov.hmcts.juror.standard.api.model.auth.UserResponse;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.CannotAssignPermissionsToSelfError;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.CannotDeleteSelfError;
 import uk.gov.hmcts.juror.standard.api.model.error.bvr.UserAlreadyRegisteredError;
+import uk.gov.hmcts.juror.standard.cache.AuthorityGraphCache;
+import uk.gov.hmcts.juror.standard.cache.UserDetailsCache;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Permission;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.Role;
 import uk.gov.hmcts.juror.standard.datastore.entity.auth.User;
+import uk.gov.hmcts.juror.standard.datastore.repository.UserJdbcRepository;
 import uk.gov.hmcts.juror.standard.datastore.repository.UserRepository;
+import uk.gov.hmcts.juror.standard.datastore.repository.UserResponseRow;
+import uk.gov.hmcts.juror.standard.mapping.UserMapper;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.PermissionService;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.RoleService;
@@ -36,8 +43,10 @@ import uk.gov.hmcts.juror.standard.testsupport.TestConstants;
 import uk.gov.hmcts.juror.standard.testsupport.TestPermissions;
 import uk.gov.hmcts.juror.standard.testsupport.TestRoles;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -63,6 +72,7 @@ import static org.mockito.Mockito.when;
 })
 @DisplayName("UserServiceImpl")
 @SuppressWarnings({
+    "unchecked",
     "PMD.LawOfDemeter",
     "PMD.AvoidDuplicateLiterals",
     "PMD.LawOfDemeter",
@@ -78,6 +88,8 @@ class UserServiceImplTest {
     private AuthenticationManager authenticationManager;
     @MockitoBean
     private UserRepository userRepository;
+    @MockitoBean
+    private UserJdbcRepository userJdbcRepository;
 
     @Autowired
     private UserServiceImpl userService;
@@ -86,6 +98,12 @@ class UserServiceImplTest {
     private RoleService roleService;
     @MockitoBean
     private PermissionService permissionService;
+    @MockitoBean
+    private UserDetailsCache userDetailsCache;
+    @MockitoBean
+    private AuthorityGraphCache authorityGraphCache;
+    @MockitoBean
+    private UserMapper userMapper;
 
     @AfterEach
     void afterEach() {
@@ -200,6 +218,157 @@ class UserServiceImplTest {
         }
     }
 
+    @DisplayName("public void registerAll(List<RegisterRequest> requests)")
+    @Nested
+    class RegisterAll {
+
+        private RegisterRequest createRequest(String email, Set<String> roles, Set<String> permissions) {
+            return RegisterRequest.builder()
+                .firstname("FirstName")
+                .lastname("LastName")
+                .email(email)
+                .roles(roles)
+                .permissions(permissions)
+                .password("password-" + email)
+                .build();
+        }
+
+        @Test
+        void positiveUsersInserted() {
+            List<RegisterRequest> requests = List.of(
+                createRequest("first@cgi.com", Set.of(TestRoles.USER.getName()),
+                    Set.of(TestPermissions.USER_CREATE.getName())),
+                createRequest("second@cgi.com", Set.of(TestRoles.USER.getName(), TestRoles.ADMIN.getName()), null));
+            when(roleService.getRoles(Set.of(TestRoles.USER.getName(), TestRoles.ADMIN.getName())))
+                .thenReturn(Set.of(TestRoles.USER, TestRoles.ADMIN));
+            when(permissionService.getPermissions(Set.of(TestPermissions.USER_CREATE.getName())))
+                .thenReturn(Set.of(TestPermissions.USER_CREATE));
+            when(passwordEncoder.encode(any())).thenAnswer(i -> "encoded-" + i.getArguments()[0]);
+
+            userService.registerAll(requests);
+
+            verify(userRepository, times(1)).existsByEmailIn(Set.of("first@cgi.com", "second@cgi.com"));
+            verify(roleService, times(1)).getRoles(any());
+            verify(permissionService, times(1)).getPermissions(any());
+            ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+            verify(userJdbcRepository, times(1)).insertAll(captor.capture());
+            List<User> users = captor.getValue();
+            assertEquals(2, users.size(), "User count must match");
+
+            User first = users.get(0);
+            assertEquals("first@cgi.com", first.getEmail(), "Email must match");
+            assertEquals("FirstName", first.getFirstname(), "First name must match");
+            assertEquals("LastName", first.getLastname(), "Last name must match");
+            assertEquals("encoded-password-first@cgi.com", first.getPassword(), "Password must match");
+            assertEquals(Set.of(TestRoles.USER), first.getRoles(), "Roles must match");
+            assertEquals(Set.of(TestPermissions.USER_CREATE), first.getPermissions(), "Permissions must match");
+
+            User second = users.get(1);
+            assertEquals("second@cgi.com", second.getEmail(), "Email must match");
+            assertEquals("encoded-password-second@cgi.com", second.getPassword(), "Password must match");
+            assertEquals(Set.of(TestRoles.USER, TestRoles.ADMIN), second.getRoles(), "Roles must match");
+            assertTrue(second.getPermissions().isEmpty(), "Permissions must be empty");
+        }
+
+        @Test
+        void positivePasswordsEncodedOffCommonPool() {
+            List<RegisterRequest> requests = List.of(
+                createRequest("first@cgi.com", null, null),
+                createRequest("second@cgi.com", null, null),
+                createRequest("third@cgi.com", null, null));
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+            when(passwordEncoder.encode(any())).thenAnswer(i -> {
+                threadNames.add(Thread.currentThread().getName());
+                return "encoded-" + i.getArguments()[0];
+            });
+
+            userService.registerAll(requests);
+
+            assertEquals(Set.of("password-encoder"), threadNames,
+                "Passwords must be encoded on the dedicated threads");
+            ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+            verify(userJdbcRepository, times(1)).insertAll(captor.capture());
+            assertEquals(List.of("encoded-password-first@cgi.com", "encoded-password-second@cgi.com",
+                    "encoded-password-third@cgi.com"), captor.getValue().stream().map(User::getPassword).toList(),
+                "Passwords must stay in request order");
+        }
+
+        @Test
+        void negativeEncodingFailure() {
+            List<RegisterRequest> requests = List.of(createRequest(TestConstants.EMAIL, null, null));
+            when(passwordEncoder.encode(any())).thenThrow(new IllegalStateException("Encoder failed"));
+
+            InternalServerException exception = assertThrows(InternalServerException.class,
+                () -> userService.registerAll(requests));
+            assertEquals(IllegalStateException.class, exception.getCause().getClass(), "Cause must match");
+            verify(userJdbcRepository, never()).insertAll(any());
+        }
+
+        @Test
+        void negativeDuplicateEmailInRequest() {
+            List<RegisterRequest> requests = List.of(
+                createRequest(TestConstants.EMAIL, null, null),
+                createRequest(TestConstants.EMAIL, null, null));
+
+            BusinessRuleValidationException exception = assertThrows(BusinessRuleValidationException.class,
+                () -> userService.registerAll(requests));
+            assertEquals(UserAlreadyRegisteredError.class, exception.getErrorObject().getClass(),
+                "Error object class must match");
+            verify(userJdbcRepository, never()).insertAll(any());
+        }
+
+        @Test
+        void negativeUserAlreadyExists() {
+            List<RegisterRequest> requests = List.of(createRequest(TestConstants.EMAIL, null, null));
+            when(userRepository.existsByEmailIn(Set.of(TestConstants.EMAIL))).thenReturn(true);
+
+            BusinessRuleValidationException exception = assertThrows(BusinessRuleValidationException.class,
+                () -> userService.registerAll(requests));
+            assertEquals(UserAlreadyRegisteredError.class, exception.getErrorObject().getClass(),
+                "Error object class must match");
+            verify(passwordEncoder, never()).encode(any());
+            verify(userJdbcRepository, never()).insertAll(any());
+        }
+
+        @Test
+        void negativeUserRegisteredConcurrently() {
+            List<RegisterRequest> requests = List.of(createRequest(TestConstants.EMAIL, null, null));
+            doThrow(new DuplicateKeyException("duplicate")).when(userJdbcRepository).insertAll(any());
+
+            BusinessRuleValidationException exception = assertThrows(BusinessRuleValidationException.class,
+                () -> userService.registerAll(requests));
+            assertEquals(UserAlreadyRegisteredError.class, exception.getErrorObject().getClass(),
+                "Error object class must match");
+        }
+    }
+
+    @DisplayName("public UserResponse getUserResponse(String email)")
+    @Nested
+    class GetUserResponse {
+        @Test
+        void positiveBuiltFromRows() {
+            List<UserResponseRow> rows = List.of(mock(UserResponseRow.class));
+            UserResponse userResponse = UserResponse.builder().email(TestConstants.EMAIL).build();
+            when(userRepository.findUserResponseRowsByEmail(TestConstants.EMAIL)).thenReturn(rows);
+            when(userMapper.toUserResponse(rows)).thenReturn(userResponse);
+
+            assertEquals(userResponse, userService.getUserResponse(TestConstants.EMAIL), "Must return response");
+            verify(userRepository, never()).findUserByEmail(any());
+        }
+
+        @Test
+        void negativeUserNotFound() {
+            when(userRepository.findUserResponseRowsByEmail(TestConstants.EMAIL)).thenReturn(List.of());
+            NotFoundException notFoundException = assertThrows(
+                NotFoundException.class,
+                () -> userService.getUserResponse(TestConstants.EMAIL),
+                "Must throw not found exception"
+            );
+            assertEquals("User with email: " + TestConstants.EMAIL + " not found", notFoundException.getMessage(),
+                "Message must match");
+        }
+    }
+
     @DisplayName("public User getUser(String TestConstants.EMAIL)")
     @Nested
     class GetUser {
@@ -207,7 +376,10 @@ class UserServiceImplTest {
         void positiveUserFound() {
             User user = mock(User.class);
             when(userRepository.findUserByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
+            when(userRepository.findAuthorityNamesByEmail(TestConstants.EMAIL)).thenReturn(Set.of("permission"));
             assertEquals(user, userService.getUser(TestConstants.EMAIL), "Must return correct user");
+            verify(authorityGraphCache, times(1)).attachRoleGraph(user);
+            verify(user, times(1)).setResolvedAuthorityNames(Set.of("permission"));
         }
 
         @Test
@@ -302,6 +474,7 @@ class UserServiceImplTest {
             verify(userRepository, times(1)).save(user);
             verify(user, times(1)).addAllPermissions(permissions);
             verify(user, times(1)).addAllRoles(roles);
+            verify(userDetailsCache, times(1)).invalidate(TestConstants.EMAIL);
             verifyNoMoreInteractions(user);
         }
 
@@ -331,6 +504,7 @@ class UserServiceImplTest {
             verify(userRepository, times(1)).save(user);
             verify(user, times(1)).removeAllPermissions(permissions);
             verify(user, times(1)).removeAllRoles(roles);
+            verify(userDetailsCache, times(1)).invalidate(TestConstants.EMAIL);
             verifyNoMoreInteractions(user);
         }
 
@@ -389,6 +563,7 @@ class UserServiceImplTest {
             when(userRepository.existsByEmail(TestConstants.EMAIL)).thenReturn(true);
             userService.deleteUser(TestConstants.EMAIL);
             verify(userRepository, times(1)).deleteByEmail(TestConstants.EMAIL);
+            verify(userDetailsCache, times(1)).invalidate(TestConstants.EMAIL);
         }
 
         @Test
@@ -434,6 +609,7 @@ class UserServiceImplTest {
             verify(user, times(1)).setPassword(encodedPassword);
             verify(userRepository, times(1)).save(user);
             verify(userRepository, times(1)).findUserByEmail(TestConstants.EMAIL);
+            verify(userDetailsCache, times(1)).invalidate(TestConstants.EMAIL);
             verifyNoMoreInteractions(user);
             verifyNoMoreInteractions(userRepository);
 